@@ -6,6 +6,8 @@ import com.example.demo.ai.dto.TeamAIDto;
 import com.example.demo.ai.dto.TeamToPersonDto;
 import com.example.demo.team.dao.TeamRepository;
 import com.example.demo.team.entity.Team;
+import com.example.demo.team.service.TeamVacancyIndex;
+import com.example.demo.user.Enum.PositionEnum;
 import com.example.demo.user.Enum.ProjectGoalEnum;
 import com.example.demo.user.Enum.ProjectViveEnum;
 import com.example.demo.user.dao.UserRepository;
@@ -31,6 +33,10 @@ public class AIService {
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final RestTemplate restTemplate;
+    private final TeamVacancyIndex teamVacancyIndex;
+
+    // 개인에게 추천할 팀 후보 최대 수
+    private static final int MAX_RECOMMEND_POOL = 200;
 
     @Value("${recsys.base-url:http://recsys-server:8000}")
     private String recsysBaseUrl;
@@ -94,7 +100,10 @@ public class AIService {
     public PersonToTeamDto findPersonToTeamDtoById(Long personId){
         PersonToTeamDto personToTeamDto = new PersonToTeamDto();
         CandidateDto curPerson = CandidateDto.from(userRepository.findCurUser(personId));
-        List<Team> teams=teamRepository.findAvailableTeams();
+        List<Team> teams = findTeamsWithOpening(curPerson.getMainPos());
+        if (teams.isEmpty()) {
+            teams = teamRepository.findAvailableTeams(); // 대표 포지션이 없거나 빈자리 팀이 없으면 전체 가용 팀
+        }
         List<TeamAIDto> availableTeams = new ArrayList<>();
         for(Team team:teams){
             availableTeams.add(TeamAIDto.from(team));
@@ -104,6 +113,24 @@ public class AIService {
         return personToTeamDto;
     }
 
+    // 대표 포지션에 빈자리가 있는 팀을 많이 채워진 순으로 (TeamVacancyIndex)
+    private List<Team> findTeamsWithOpening(String mainPos) {
+        if (mainPos == null) {
+            return List.of();
+        }
+        List<Long> teamIds = teamVacancyIndex.findTeamIds(PositionEnum.valueOf(mainPos), TeamVacancyIndex.Order.FILL_RATIO, MAX_RECOMMEND_POOL);
+        if (teamIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < teamIds.size(); i++) {
+            order.put(teamIds.get(i), i);
+        }
+        List<Team> teams = new ArrayList<>(teamRepository.findAllById(teamIds));
+        teams.sort(Comparator.comparing(team -> order.get(team.getId())));
+        return teams;
+    }
+
     // ==================== 새로 추가: RecSys 호출 메서드들 ====================
 
     /**
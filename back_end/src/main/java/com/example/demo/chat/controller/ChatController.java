@@ -2,8 +2,14 @@
 package com.example.demo.chat.controller;
 
 import com.example.demo.chat.dto.ChatMessageRequest;
+import com.example.demo.chat.dto.ChatReadRequest;
 import com.example.demo.chat.dto.ChatMessageResponse;
+import com.example.demo.chat.handler.StompAuthInterceptor;
 import com.example.demo.chat.service.ChatMessageService;
+import com.example.demo.chat.service.ChatReadReceipts;
+import com.example.demo.chat.service.ChatRoomBroadcaster;
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,9 +21,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
+import java.util.Map;
+
 @Slf4j
 @Controller
 @RequiredArgsConstructor
@@ -27,8 +35,9 @@ import org.springframework.stereotype.Controller;
 )
 public class ChatController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
     private final ChatMessageService chatMessageService;
+    private final ChatReadReceipts chatReadReceipts;
 
     @Operation(
             summary = "다중 채팅방 메시지 전송",
@@ -37,8 +46,8 @@ public class ChatController {
             
             **WebSocket 연결 방법:**
             1. `/ws` 엔드포인트로 WebSocket 연결
-            2. STOMP 클라이언트 사용
-            3. `/app/chat.sendMessage`로 메시지 전송
+            2. STOMP CONNECT 에 `Authorization: Bearer {JWT}` 헤더 포함 (익명 세션은 전송 불가)
+            3. `/app/chat.sendMessage`로 메시지 전송 (senderId 는 세션 사용자와 같아야 함)
             4. `/topic/chat/room/{roomId}` 구독하여 메시지 수신
             
             **JavaScript 예시:**
@@ -46,7 +55,7 @@ public class ChatController {
             const socket = new SockJS('/ws');
             const stompClient = Stomp.over(socket);
             
-            stompClient.connect({}, function() {
+            stompClient.connect({ Authorization: 'Bearer ' + token }, function() {
                 // 채팅방 구독
                 stompClient.subscribe('/topic/chat/room/123', function(message) {
                     const chatMessage = JSON.parse(message.body);
@@ -102,13 +111,15 @@ public class ChatController {
                     required = true,
                     schema = @Schema(implementation = ChatMessageRequest.class)
             )
-            ChatMessageRequest socketMessage
+            ChatMessageRequest socketMessage,
+            SimpMessageHeaderAccessor headerAccessor
     ) {
         log.info("다중 채팅 메시지 수신: roomId={}, senderId={}",
                 socketMessage.getRoomId(), socketMessage.getSenderId());
+        authorizeSender(socketMessage, headerAccessor);
 
-        ChatMessageResponse savedMessage = chatMessageService.saveMessage(socketMessage);
-        messagingTemplate.convertAndSend("/topic/chat/room/" + savedMessage.getChatRoomId(), savedMessage);
+        ChatMessageResponse savedMessage = chatMessageService.submitMessage(socketMessage);
+        chatRoomBroadcaster.broadcast("/topic/chat/room/" + savedMessage.getChatRoomId(), savedMessage.getChatRoomId(), savedMessage);
 
         log.info("메시지 브로드캐스트 완료: messageId={}", savedMessage.getId());
     }
@@ -120,8 +131,8 @@ public class ChatController {
             
             **WebSocket 연결 방법:**
             1. `/ws` 엔드포인트로 WebSocket 연결
-            2. STOMP 클라이언트 사용
-            3. `/app/chat.private`로 메시지 전송
+            2. STOMP CONNECT 에 `Authorization: Bearer {JWT}` 헤더 포함 (익명 세션은 전송 불가)
+            3. `/app/chat.private`로 메시지 전송 (senderId 는 세션 사용자와 같아야 함)
             4. `/queue/chat/room/{roomId}` 구독하여 메시지 수신
             
             **차이점:**
@@ -184,14 +195,79 @@ public class ChatController {
                     required = true,
                     schema = @Schema(implementation = ChatMessageRequest.class)
             )
-            ChatMessageRequest socketMessage
+            ChatMessageRequest socketMessage,
+            SimpMessageHeaderAccessor headerAccessor
     ) {
         log.info("1:1 채팅 메시지 수신: roomId={}, senderId={}",
                 socketMessage.getRoomId(), socketMessage.getSenderId());
+        authorizeSender(socketMessage, headerAccessor);
 
-        ChatMessageResponse savedMessage = chatMessageService.saveMessage(socketMessage);
-        messagingTemplate.convertAndSend("/queue/chat/room/" + savedMessage.getChatRoomId(), savedMessage);
+        ChatMessageResponse savedMessage = chatMessageService.submitMessage(socketMessage);
+        chatRoomBroadcaster.broadcast("/queue/chat/room/" + savedMessage.getChatRoomId(), savedMessage.getChatRoomId(), savedMessage);
 
         log.info("1:1 메시지 전송 완료: messageId={}", savedMessage.getId());
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "채팅 읽음 확인",
+            description = """
+            채팅방에서 마지막으로 읽은 메시지 ID 를 알립니다.
+            
+            **동작 방식:**
+            - `/app/chat.read`로 전송
+            - 읽음 위치는 앞으로만 이동하며, 안 읽은 수는 이후 메시지 기준으로 다시 계산됩니다
+            - 짧은 시간 안에 여러 번 보내면 가장 큰 메시지 ID 만 반영됩니다 (약 1초 내 반영)
+            - 인증된 STOMP 세션만 보낼 수 있으며, 읽은 사용자는 세션 사용자입니다 (익명 세션은 거부)
+            
+            **JavaScript 예시:**
+            ```javascript
+            stompClient.send('/app/chat.read', {}, JSON.stringify({
+                roomId: 123,
+                messageId: 480
+            }));
+            ```
+            """,
+            tags = {"채팅 WebSocket"}
+    )
+    @MessageMapping("/chat.read")
+    public void markRead(
+            @Parameter(
+                    description = "읽음 확인 정보",
+                    required = true,
+                    schema = @Schema(implementation = ChatReadRequest.class)
+            )
+            ChatReadRequest readRequest,
+            SimpMessageHeaderAccessor headerAccessor
+    ) {
+        // 다른 사용자의 읽음 위치를 옮길 수 없도록 세션 사용자만 사용
+        Long userId = sessionUserId(headerAccessor);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.USER_UNAUTHORIZED);
+        }
+        if (readRequest.getRoomId() == null || readRequest.getMessageId() == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        chatReadReceipts.acknowledge(readRequest.getRoomId(), userId, readRequest.getMessageId());
+    }
+
+    // 인증된 세션만 보낼 수 있고, 다른 사용자 이름으로는 보낼 수 없다 (채팅방 멤버 확인은 ChatMessageService)
+    private static void authorizeSender(ChatMessageRequest socketMessage, SimpMessageHeaderAccessor headerAccessor) {
+        Long userId = sessionUserId(headerAccessor);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.USER_UNAUTHORIZED);
+        }
+        if (!userId.equals(socketMessage.getSenderId())) {
+            throw new BusinessException(ErrorCode.CHATROOM_ACCESS_DENIED);
+        }
+    }
+
+    // StompAuthInterceptor 가 CONNECT 시 남긴 사용자 ID
+    private static Long sessionUserId(SimpMessageHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object userId = attributes.get(StompAuthInterceptor.USER_ID);
+        return userId instanceof Long id ? id : null;
+    }
+}
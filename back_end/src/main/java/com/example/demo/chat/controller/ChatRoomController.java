@@ -4,6 +4,8 @@ package com.example.demo.chat.controller;
 import com.example.demo.chat.dto.ChatMessageResponse;
 import com.example.demo.chat.dto.ChatRoomRequest;
 import com.example.demo.chat.dto.ChatRoomResponse;
+import com.example.demo.chat.dto.ChatRoomUnreadResponse;
+import com.example.demo.chat.service.ChatMemberService;
 import com.example.demo.chat.service.ChatMessageService;
 import com.example.demo.chat.service.ChatRoomService;
 import com.example.demo.common.exception.BusinessException;
@@ -34,19 +36,23 @@ public class ChatRoomController {
 
     private final ChatMessageService chatMessageService;
     private final ChatRoomService chatRoomService;
+    private final ChatMemberService chatMemberService;
 
     @Operation(
             summary = "채팅방 메시지 히스토리 조회",
             description = """
-            채팅방 입장 시 해당 방의 모든 메시지 로그를 조회합니다.
+            채팅방 메시지를 메시지 ID 커서 기반으로 조회합니다.
             
             **사용 시나리오:**
-            - 사용자가 채팅방에 입장할 때
-            - 채팅 히스토리를 불러올 때
-            - 페이지 새로고침 후 이전 대화 복원 시
+            - 채팅방 입장 시: 파라미터 없이 최신 메시지 limit 개
+            - 위로 스크롤: `before` = 현재 가장 오래된 메시지 ID
+            - 재연결 후 놓친 메시지: `after` = 마지막으로 받은 메시지 ID
+            - 전체 대화 내보내기: `export=true` (커서/limit 무시)
             
             **응답 데이터:**
-            - 메시지는 생성 시간 순으로 정렬됩니다
+            - 메시지는 ID(생성) 순으로 정렬됩니다
+            - 결과가 limit 개보다 적으면 해당 방향의 마지막 페이지입니다
+            - `after` 가 최근(수 초 이내) 메시지 ID 면 늦게 저장된 메시지를 놓치지 않도록 그 구간을 다시 포함하므로 ID 로 중복을 제거하세요
             - 빈 채팅방의 경우 빈 배열을 반환합니다
             """,
             tags = {"채팅방 관리"}
@@ -115,9 +121,68 @@ public class ChatRoomController {
                     required = true,
                     example = "123"
             )
-            @PathVariable Long chatRoomId
+            @PathVariable Long chatRoomId,
+            @Parameter(description = "이 메시지 ID 이전 메시지 조회", example = "500")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "이 메시지 ID 이후 메시지 조회 (before 와 함께 사용 불가)", example = "480")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "조회 개수 (기본 50, 최대 200)", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "전체 히스토리 내보내기", example = "false")
+            @RequestParam(defaultValue = "false") boolean export
     ) {
-        return ResponseEntity.ok(ApiResponse.ok(chatMessageService.getAllMessagesByChatRoom(chatRoomId)));
+        if (export) {
+            return ResponseEntity.ok(ApiResponse.ok(chatMessageService.getAllMessagesByChatRoom(chatRoomId)));
+        }
+        return ResponseEntity.ok(ApiResponse.ok(chatMessageService.getMessages(chatRoomId, before, after, limit)));
+    }
+
+    @Operation(
+            summary = "사용자 채팅방 목록 및 안 읽은 메시지 수 조회",
+            description = """
+            사용자가 속한 채팅방 목록을 채팅방별 안 읽은 메시지 수와 함께 조회합니다.
+            
+            **응답 데이터:**
+            - 채팅방 ID 순으로 정렬됩니다
+            - lastReadMessageId 는 `/app/chat.read`로 마지막으로 확인한 메시지 ID 입니다 (없으면 null)
+            - 안 읽은 수는 메시지 저장/읽음 확인 반영 주기만큼 늦게 갱신될 수 있습니다
+            """,
+            tags = {"채팅방 관리"}
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "채팅방 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class),
+                            examples = @ExampleObject(
+                                    name = "채팅방 목록 응답",
+                                    value = """
+                    {
+                        "success": true,
+                        "message": "요청이 성공했습니다",
+                        "data": [
+                            {
+                                "roomId": 1,
+                                "roomType": "TEAM",
+                                "teamId": 10,
+                                "lastReadMessageId": 480,
+                                "unreadCount": 3
+                            }
+                        ]
+                    }
+                    """
+                            )
+                    )
+            )
+    })
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<ApiResponse<List<ChatRoomUnreadResponse>>> getUserChatRooms(
+            @Parameter(description = "사용자 ID", required = true, example = "1")
+            @PathVariable Long userId
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(chatMemberService.getChatRoomsWithUnread(userId)));
     }
 
     @Operation(
@@ -126,7 +191,7 @@ public class ChatRoomController {
             두 사용자 간의 1:1 개인 채팅방을 생성합니다.
             
             **동작 방식:**
-            - 이미 두 사용자 간 채팅방이 존재하면 기존 방 정보를 반환
+            - 이미 두 사용자 간 채팅방이 존재하면 기존 방 정보를 반환 (사용자 순서 무관)
             - 존재하지 않으면 새로운 채팅방을 생성
             - roomType은 반드시 "PRIVATE"로 설정
             
@@ -195,7 +260,7 @@ public class ChatRoomController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "409",
-                    description = "동일한 사용자 ID로 채팅방 생성 불가"
+                    description = "같은 사용자 쌍의 채팅방이 동시에 생성됨 (재시도하면 기존 방 반환)"
             )
     })
     @PostMapping("/private")
@@ -1,6 +1,7 @@
 package com.example.demo.chat.dao;
 
 import com.example.demo.chat.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +12,14 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     // ✅ 특정 채팅방의 메시지를 생성일 순으로 조회 (추가 예시)
     List<ChatMessage> findByChatRoomIdOrderByCreatedAtAsc(Long chatRoomId);
+
+    // 키셋 페이지네이션 - (chat_room_id, id) 인덱스 사용
+    List<ChatMessage> findByChatRoomIdOrderByIdDesc(Long chatRoomId, Pageable pageable);
+
+    List<ChatMessage> findByChatRoomIdAndIdLessThanOrderByIdDesc(Long chatRoomId, Long before, Pageable pageable);
+
+    List<ChatMessage> findByChatRoomIdAndIdGreaterThanOrderByIdAsc(Long chatRoomId, Long after, Pageable pageable);
+
+    // after 커서 겹침 구간 (from, to]
+    List<ChatMessage> findByChatRoomIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long chatRoomId, Long from, Long to);
 }
@@ -1,11 +1,16 @@
 package com.example.demo.chat.dao;
 
+import com.example.demo.chat.dto.ChatRoomUnreadResponse;
 import com.example.demo.chat.entity.ChatRoom;
 import com.example.demo.chat.entity.ChatRoomMember;
 import com.example.demo.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +18,32 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     boolean existsByUserAndChatRoom(User user, ChatRoom chatRoom);
 
     Optional<ChatRoomMember> findByUserIdAndChatRoomId(Long userId, Long chatRoomId);
+
+    boolean existsByUserIdAndChatRoomId(Long userId, Long chatRoomId);
+
+    // 채팅방 멤버 ID 목록 (멤버십 캐시 적재용)
+    @Query("SELECT m.user.id FROM ChatRoomMember m WHERE m.chatRoom.id = :chatRoomId")
+    List<Long> findUserIdsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    // 사용자가 속한 채팅방과 안 읽은 수를 한 번에 조회
+    @Query("SELECT new com.example.demo.chat.dto.ChatRoomUnreadResponse(r.id, r.roomType, t.id, m.lastReadMessageId, m.unreadCount) " +
+            "FROM ChatRoomMember m JOIN m.chatRoom r LEFT JOIN r.team t " +
+            "WHERE m.user.id = :userId ORDER BY r.id")
+    List<ChatRoomUnreadResponse> findUnreadByUserId(@Param("userId") Long userId);
+
+    // 발신자를 제외한 채팅방 멤버의 안 읽은 수 증가
+    @Modifying
+    @Query("UPDATE ChatRoomMember m SET m.unreadCount = m.unreadCount + :count " +
+            "WHERE m.chatRoom.id = :chatRoomId AND m.user.id <> :senderId")
+    int incrementUnread(@Param("chatRoomId") Long chatRoomId, @Param("senderId") Long senderId, @Param("count") int count);
+
+    // 읽음 위치를 앞으로만 옮기고, 안 읽은 수는 같은 UPDATE 안에서 읽음 위치 이후 다른 사람이 보낸 메시지 수로 다시 계산
+    // (따로 세고 나서 덮어쓰면 그 사이 incrementUnread 로 더해진 수가 사라진다)
+    @Modifying
+    @Query("UPDATE ChatRoomMember m SET m.lastReadMessageId = :messageId, m.unreadCount = " +
+            "(SELECT COUNT(c) FROM ChatMessage c " +
+            "WHERE c.chatRoom.id = :chatRoomId AND c.id > :messageId AND c.sender.id <> :userId) " +
+            "WHERE m.chatRoom.id = :chatRoomId AND m.user.id = :userId " +
+            "AND (m.lastReadMessageId IS NULL OR m.lastReadMessageId < :messageId)")
+    int markRead(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId, @Param("messageId") Long messageId);
 }
@@ -4,7 +4,11 @@ import com.example.demo.chat.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
-}
\ No newline at end of file
+    // (작은 ID, 큰 ID) 유니크 인덱스 단건 조회
+    Optional<ChatRoom> findByPrivateUserLowAndPrivateUserHigh(Long privateUserLow, Long privateUserHigh);
+}
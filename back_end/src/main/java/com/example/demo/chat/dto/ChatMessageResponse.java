@@ -3,12 +3,13 @@ package com.example.demo.chat.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Getter
 @AllArgsConstructor
 @Schema(description = "채팅 메시지 응답")
-public class ChatMessageResponse {
+public class ChatMessageResponse implements Serializable {
 
     @Schema(description = "메시지 고유 ID", example = "123")
     private Long id;
@@ -0,0 +1,27 @@
+package com.example.demo.chat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅 읽음 확인 요청 (읽은 사용자는 인증된 STOMP 세션 사용자)")
+public class ChatReadRequest {
+
+    @NotNull(message = "채팅방 ID는 필수입니다.")
+    @Positive(message = "채팅방 ID는 양수여야 합니다.")
+    @Schema(description = "채팅방 ID", example = "1", required = true)
+    private Long roomId;
+
+    @NotNull(message = "메시지 ID는 필수입니다.")
+    @Positive(message = "메시지 ID는 양수여야 합니다.")
+    @Schema(description = "마지막으로 읽은 메시지 ID", example = "480", required = true)
+    private Long messageId;
+}
@@ -0,0 +1,31 @@
+package com.example.demo.chat.dto;
+
+import com.example.demo.chat.entity.RoomType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Schema(description = "안 읽은 메시지 수를 포함한 채팅방 응답")
+public class ChatRoomUnreadResponse {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long roomId;
+
+    @Schema(description = "채팅방 타입", example = "TEAM")
+    private RoomType roomType;
+
+    @Schema(description = "팀 ID (TEAM 타입일 때만)", example = "10")
+    private Long teamId;
+
+    @Schema(description = "마지막으로 읽은 메시지 ID (읽음 확인 전이면 null)", example = "480")
+    private Long lastReadMessageId;
+
+    @Schema(description = "안 읽은 메시지 수", example = "3")
+    private int unreadCount;
+}
@@ -2,21 +2,28 @@ package com.example.demo.chat.entity;
 
 import com.example.demo.user.entity.User;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_message")
+@Table(name = "chat_message"
+        , indexes = {
+        // 방별 최신/이전/이후 메시지 조회
+        @Index(name = "chat_message_room_id_idx", columnList = "chat_room_id, id")
+        }
+        )
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class ChatMessage {
+public class ChatMessage implements Persistable<Long> {
+    // ChatMessageIdGenerator 가 발급 (DB 왕복 없이 미리 채번해 JDBC 배치 INSERT 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,8 +40,26 @@ public class ChatMessage {
     @Column(name = "created_at",updatable = false)
     private LocalDateTime createdAt;
 
+    // 저장/조회된 엔티티인지 (ID 를 직접 채번하므로 save 시 merge 대신 persist 하도록)
+    @Transient
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
     }
 }
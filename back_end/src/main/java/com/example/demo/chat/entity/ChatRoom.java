@@ -11,7 +11,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "chat_room")
+@Table(name = "chat_room"
+        , uniqueConstraints = {
+        // 1:1 채팅방 조회 및 동시 중복 생성 방지 (TEAM 방은 둘 다 NULL 이라 제약 대상 아님)
+        @UniqueConstraint(name = "chat_room_private_pair_uk", columnNames = {"private_user_low", "private_user_high"})
+        }
+        )
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,6 +32,13 @@ public class ChatRoom {
     @JoinColumn(name = "team_id",unique = true)
     private Team team; // PRIVATE이면 NULL
 
+    // PRIVATE 방 두 사용자 ID 중 작은 쪽/큰 쪽 (TEAM이면 NULL)
+    @Column(name = "private_user_low")
+    private Long privateUserLow;
+
+    @Column(name = "private_user_high")
+    private Long privateUserHigh;
+
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ChatRoomMember> members = new ArrayList<>();
 
@@ -40,5 +52,10 @@ public class ChatRoom {
         }
     }
 
+    // 순서와 무관하게 같은 사용자 쌍이면 같은 키가 되도록 정렬해서 저장
+    public void setPrivatePair(Long userId1, Long userId2) {
+        this.privateUserLow = Math.min(userId1, userId2);
+        this.privateUserHigh = Math.max(userId1, userId2);
+    }
 }
 
@@ -8,7 +8,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "chat_room_member")
+@Table(name = "chat_room_member"
+        , indexes = {
+        // 사용자별 채팅방/안 읽은 수 조회, 읽음 확인 갱신용
+        @Index(name = "chat_room_member_user_room_idx", columnList = "user_id, chat_room_id")
+        }
+        )
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,6 +29,15 @@ public class ChatRoomMember {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
+
+    // 마지막으로 읽은 메시지 ID (읽음 확인 전이면 null)
+    @Column(name = "last_read_message_id")
+    private Long lastReadMessageId;
+
+    // 안 읽은 메시지 수. 전송 시 배치로 증가하고 읽음 확인 시 다시 계산한다
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
 //    이부분은 user를 변경할 일이 없으므로 사용하지 않는다.
     public void setUser(User user) {
         if (this.user != null) {
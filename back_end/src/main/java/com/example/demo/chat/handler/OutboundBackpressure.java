@@ -0,0 +1,287 @@
+package com.example.demo.chat.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션별 송신 큐 제한 (느린 클라이언트 격리).
+ * 세션마다 크기가 BUFFER_SIZE_LIMIT 바이트로 제한된 송신 큐를 두고, 실제 전송은 별도 스레드 풀에서 세션별로 순서대로 한다.
+ * 브로커/브로드캐스트 스레드는 큐에 넣기만 하므로 느린 세션 하나 때문에 다른 세션 전송이 막히지 않는다.
+ * 큐가 가득 차면 정책에 따라 새 브로드캐스트(MESSAGE 프레임)를 버리거나(DROP) 세션을 끊는다(DISCONNECT).
+ * 전송 하나가 SEND_TIME_LIMIT 을 넘기면 정책과 무관하게 끊는다. 버린 메시지는 클라이언트가 재연결/after 커서 조회로 다시 받는다.
+ */
+@Slf4j
+@Component
+public class OutboundBackpressure implements WebSocketHandlerDecoratorFactory {
+
+    public enum OverflowPolicy { DROP, DISCONNECT }
+
+    private static final byte[] MESSAGE_FRAME = "MESSAGE".getBytes(StandardCharsets.US_ASCII);
+
+    private final long sendTimeLimitNanos;
+    private final int bufferSizeLimit;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor sendExecutor;
+    private final ExecutorService ownedExecutor;
+
+    // 세션 ID -> 송신 큐
+    private final Map<String, BoundedSession> sessions = new ConcurrentHashMap<>();
+
+    private final Timer sendTimer;
+    private final Counter dropped;
+    private final Counter disconnected;
+
+    @Autowired
+    public OutboundBackpressure(@Value("${chat.websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMillis,
+                                @Value("${chat.websocket.outbound.buffer-size-limit:524288}") int bufferSizeLimit,
+                                @Value("${chat.websocket.outbound.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                                @Value("${chat.websocket.outbound.threads:0}") int threads,
+                                MeterRegistry meterRegistry) {
+        this(sendTimeLimitMillis, bufferSizeLimit, overflowPolicy, newSendExecutor(threads), meterRegistry);
+    }
+
+    OutboundBackpressure(long sendTimeLimitMillis, int bufferSizeLimit, OverflowPolicy overflowPolicy,
+                         Executor sendExecutor, MeterRegistry meterRegistry) {
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.overflowPolicy = overflowPolicy;
+        this.sendExecutor = sendExecutor;
+        this.ownedExecutor = sendExecutor instanceof ExecutorService service ? service : null;
+
+        // 실제 소켓 전송 시간 (큐 대기 제외)
+        this.sendTimer = Timer.builder("chat.ws.outbound.send")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.dropped = meterRegistry.counter("chat.ws.outbound.dropped");
+        this.disconnected = meterRegistry.counter("chat.ws.outbound.disconnected");
+        meterRegistry.gauge("chat.ws.outbound.sessions", sessions, Map::size);
+        // 전체 세션 송신 큐에 쌓인 메시지 수 / 바이트
+        meterRegistry.gauge("chat.ws.outbound.queue.depth", sessions,
+                map -> map.values().stream().mapToInt(BoundedSession::queuedMessages).sum());
+        meterRegistry.gauge("chat.ws.outbound.queue.bytes", sessions,
+                map -> map.values().stream().mapToLong(BoundedSession::bufferedBytes).sum());
+        // 한도의 절반 이상 밀려 있는 세션 (곧 버리거나 끊게 될 세션)
+        meterRegistry.gauge("chat.ws.outbound.sessions.throttled", sessions,
+                map -> map.values().stream().filter(session -> session.isThrottled(System.nanoTime())).count());
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BoundedSession bounded = new BoundedSession(session);
+                sessions.put(session.getId(), bounded);
+                super.afterConnectionEstablished(bounded);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                BoundedSession bounded = sessions.remove(session.getId());
+                if (bounded != null) {
+                    bounded.discard();
+                }
+                super.afterConnectionClosed(bounded != null ? bounded : session, closeStatus);
+            }
+        };
+    }
+
+    // 전송이 멈춘 채 새 메시지가 오지 않는 세션도 끊기 위한 주기 점검
+    @Scheduled(fixedDelay = 1000)
+    public void sweep() {
+        long now = System.nanoTime();
+        for (BoundedSession session : sessions.values()) {
+            if (session.isSendTimeExceeded(now)) {
+                session.disconnect("send time limit");
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    int sessionCount() {
+        return sessions.size();
+    }
+
+    private static ExecutorService newSendExecutor(int threads) {
+        int size = threads > 0 ? threads : Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "ws-outbound-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // STOMP MESSAGE 프레임(구독 브로드캐스트)만 버릴 수 있다. CONNECTED/RECEIPT/ERROR 등은 항상 보낸다
+    static boolean isDroppable(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage text)) {
+            return false;
+        }
+        byte[] payload = text.asBytes();
+        if (payload.length <= MESSAGE_FRAME.length) {
+            return false;
+        }
+        for (int i = 0; i < MESSAGE_FRAME.length; i++) {
+            if (payload[i] != MESSAGE_FRAME[i]) {
+                return false;
+            }
+        }
+        return payload[MESSAGE_FRAME.length] == '\n' || payload[MESSAGE_FRAME.length] == '\r';
+    }
+
+    final class BoundedSession extends WebSocketSessionDecorator {
+
+        private final ArrayDeque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+        private long bufferedBytes;
+        private boolean draining;
+        private boolean closed;
+        // 진행 중인 전송 시작 시각 (nanoTime, 전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+
+        BoundedSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            boolean schedule = false;
+            String overflow = null;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (isSendTimeExceeded(System.nanoTime())) {
+                    overflow = "send time limit";
+                } else if (bufferedBytes + message.getPayloadLength() > bufferSizeLimit) {
+                    if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                        overflow = "buffer size limit";
+                    } else if (isDroppable(message)) {
+                        dropped.increment();
+                        return;
+                    }
+                }
+                if (overflow == null) {
+                    queue.add(message);
+                    bufferedBytes += message.getPayloadLength();
+                    if (!draining) {
+                        draining = true;
+                        schedule = true;
+                    }
+                }
+            }
+            if (overflow != null) {
+                disconnect(overflow);
+                return;
+            }
+            if (schedule) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                WebSocketMessage<?> message;
+                synchronized (this) {
+                    message = closed ? null : queue.poll();
+                    if (message == null) {
+                        draining = false;
+                        sendStartedAt = 0;
+                        return;
+                    }
+                    sendStartedAt = System.nanoTime();
+                }
+                long started = sendStartedAt;
+                try {
+                    getDelegate().sendMessage(message);
+                } catch (IOException | RuntimeException e) {
+                    log.debug("WebSocket 전송 실패 sessionId={}", getId(), e);
+                    disconnect("send failure");
+                } finally {
+                    sendTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    synchronized (this) {
+                        // 끊기면서 이미 0 으로 비운 경우 제외
+                        if (!closed) {
+                            bufferedBytes -= message.getPayloadLength();
+                        }
+                    }
+                }
+            }
+        }
+
+        void disconnect(String reason) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+                bufferedBytes = 0;
+            }
+            disconnected.increment();
+            log.warn("느린 WebSocket 세션 종료 sessionId={}, reason={}", getId(), reason);
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException | RuntimeException e) {
+                log.debug("WebSocket 세션 종료 실패 sessionId={}", getId(), e);
+            }
+        }
+
+        // 세션이 이미 닫힌 뒤 남은 메시지 정리
+        synchronized void discard() {
+            closed = true;
+            queue.clear();
+            bufferedBytes = 0;
+        }
+
+        boolean isSendTimeExceeded(long now) {
+            long started = sendStartedAt;
+            return started != 0 && now - started > sendTimeLimitNanos;
+        }
+
+        boolean isThrottled(long now) {
+            long started = sendStartedAt;
+            return bufferedBytes() * 2 >= bufferSizeLimit
+                    || (started != 0 && (now - started) * 2 >= sendTimeLimitNanos);
+        }
+
+        synchronized int queuedMessages() {
+            return queue.size();
+        }
+
+        synchronized long bufferedBytes() {
+            return bufferedBytes;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.chat.handler;
+
+import com.example.demo.auth.util.JwtUtil;
+import com.example.demo.common.presence.PresenceRegistry;
+import com.example.demo.user.dao.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * STOMP CONNECT 인증.
+ * CONNECT 프레임의 Authorization 헤더(Bearer JWT)를 검증해 세션 사용자로 등록하고, 사용자 ID 를 세션 속성에 남긴 뒤 접속 현황에 반영한다.
+ * 토큰이 없거나 유효하지 않으면 익명 세션으로 연결한다 (구독만 가능, 메시지 전송은 ChatController 가 거부).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthInterceptor implements ChannelInterceptor {
+
+    public static final String USER_ID = "userId";
+    private static final String BEARER = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final PresenceRegistry presenceRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+        String header = accessor.getFirstNativeHeader("Authorization");
+        if (header == null || !header.startsWith(BEARER)) {
+            return message;
+        }
+        String token = header.substring(BEARER.length());
+        if (!jwtUtil.validateToken(token)) {
+            log.debug("STOMP CONNECT 토큰 검증 실패 sessionId={}", accessor.getSessionId());
+            return message;
+        }
+
+        Authentication authentication = jwtUtil.getAuthentication(token);
+        accessor.setUser(authentication);
+        userRepository.findByEmail(authentication.getName()).ifPresent(user -> {
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (attributes != null) {
+                attributes.put(USER_ID, user.getId());
+            }
+            presenceRegistry.connected(user.getId(), accessor.getSessionId());
+        });
+        return message;
+    }
+}
@@ -1,19 +1,68 @@
 package com.example.demo.chat.handler;
 
+import com.example.demo.chat.service.ChatRoomBroadcaster;
+import com.example.demo.common.notification.NotificationDispatcher;
+import com.example.demo.common.presence.PresenceRegistry;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
+@RequiredArgsConstructor
 public class WebSocketEventListener {
     private static final Logger logger = LoggerFactory.getLogger(WebSocketEventListener.class);
 
+    // 사용자별 알림 큐 (/queue/team/offer/{userId})
+    private static final Pattern USER_QUEUE = Pattern.compile("^/queue/team/offer/(\\d+)$");
+
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final PresenceRegistry presenceRegistry;
+    private final NotificationDispatcher notificationDispatcher;
+
+    // 로컬 구독 현황 -> 어떤 방의 클러스터 메시지를 받을지 결정
+    // 사용자 알림 큐 구독 -> 본인 세션이면 보관된 알림 전송
+    @EventListener
+    public void handleSubscribeListener(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = headerAccessor.getSessionId();
+        String destination = headerAccessor.getDestination();
+        chatRoomBroadcaster.onSubscribe(sessionId, headerAccessor.getSubscriptionId(), destination);
+
+        Matcher userQueue = destination != null ? USER_QUEUE.matcher(destination) : null;
+        if (userQueue == null || !userQueue.matches()) {
+            return;
+        }
+        // 인증된 본인 세션만 보관함을 비운다 (익명/다른 사용자 세션이 남의 보관함을 가져가지 않도록)
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        Object sessionUserId = attributes != null ? attributes.get(StompAuthInterceptor.USER_ID) : null;
+        if (!Long.valueOf(userQueue.group(1)).equals(sessionUserId)) {
+            return;
+        }
+        notificationDispatcher.drain(List.of(destination));
+    }
+
+    @EventListener
+    public void handleUnsubscribeListener(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        chatRoomBroadcaster.onUnsubscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId());
+    }
+
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        chatRoomBroadcaster.onDisconnect(event.getSessionId());
+        presenceRegistry.disconnected(event.getSessionId());
 
         String username = (String) headerAccessor.getSessionAttributes().get("username");
         if(username != null) {
@@ -1,6 +1,7 @@
 package com.example.demo.chat.service;
 
 import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import com.example.demo.chat.dto.ChatRoomUnreadResponse;
 import com.example.demo.chat.entity.ChatRoom;
 import com.example.demo.chat.entity.ChatRoomMember;
 import com.example.demo.common.exception.BusinessException;
@@ -10,11 +11,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ChatMemberService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @Transactional
     public ChatRoomMember createChatRoomMember(User user, ChatRoom chatRoom) {
@@ -24,6 +28,12 @@ public class ChatMemberService {
         ChatRoomMember member = new ChatRoomMember();
         member.setUser(user);
         member.setChatRoom(chatRoom);
+        chatRoomMembershipCache.memberAdded(chatRoom.getId(), user.getId());
         return member;
     }
+
+    // 사용자가 속한 채팅방 목록과 채팅방별 안 읽은 메시지 수 (단일 쿼리)
+    public List<ChatRoomUnreadResponse> getChatRoomsWithUnread(Long userId) {
+        return chatRoomMemberRepository.findUnreadByUserId(userId);
+    }
 }
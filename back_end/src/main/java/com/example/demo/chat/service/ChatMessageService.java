@@ -1,6 +1,7 @@
 package com.example.demo.chat.service;
 
 import com.example.demo.chat.dao.ChatMessageRepository;
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
 import com.example.demo.chat.dao.ChatRoomRepository;
 import com.example.demo.chat.dto.ChatMessageRequest;
 import com.example.demo.chat.dto.ChatMessageResponse;
@@ -8,14 +9,23 @@ import com.example.demo.chat.entity.ChatMessage;
 import com.example.demo.chat.entity.ChatRoom;
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.transaction.TransactionCallbacks;
 import com.example.demo.user.dao.UserRepository;
 import com.example.demo.user.entity.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,10 +33,44 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ChatMessageService {
 
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+    // 저장 지연(write-behind 주기, 재시도)과 노드 간 시계 차이로 작은 ID 가 늦게 보일 수 있는 구간
+    static final Duration AFTER_OVERLAP = Duration.ofSeconds(5);
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final UserRepository userRepository;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final RecentMessageCache recentMessageCache;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    /**
+     * 실시간 전송용 저장.
+     * ID 를 미리 채번해 바로 응답(브로드캐스트)하고, 실제 INSERT 는 ChatMessageWriteBehind 가 배치로 처리한다.
+     * 멤버 확인은 멤버십 캐시로 하고(멤버면 채팅방과 발신자가 존재함), 거절할 때만 채팅방 존재를 DB 로 구분하므로 대부분의 전송은 DB 를 거치지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatMessageResponse submitMessage(@Valid ChatMessageRequest dto) {
+        if (!chatRoomMembershipCache.isMember(dto.getRoomId(), dto.getSenderId())) {
+            if (!chatRoomRepository.existsById(dto.getRoomId())) {
+                throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+            }
+            throw new BusinessException(ErrorCode.CHATROOM_ACCESS_DENIED);
+        }
+
+        long id = chatMessageIdGenerator.nextId();
+        LocalDateTime createdAt = LocalDateTime.now();
+        chatMessageWriteBehind.enqueue(id, dto.getRoomId(), dto.getSenderId(), dto.getMessage(), createdAt);
+
+        ChatMessageResponse response = new ChatMessageResponse(id, dto.getRoomId(), dto.getSenderId(), dto.getMessage(), createdAt);
+        recentMessageCache.append(response);
+        return response;
+    }
 
+    // 즉시 저장 (저장 직후 조회가 필요한 경우)
     @Transactional
     public ChatMessageResponse saveMessage(@Valid ChatMessageRequest dto) {
         ChatRoom chatRoom = chatRoomRepository.findById(dto.getRoomId())
@@ -36,23 +80,89 @@ public class ChatMessageService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         ChatMessage message = new ChatMessage();
+        message.setId(chatMessageIdGenerator.nextId());
         message.setChatRoom(chatRoom);
         message.setSender(sender);
         message.setMessage(dto.getMessage());
 
         ChatMessage saved = chatMessageRepository.save(message);
+        chatRoomMemberRepository.incrementUnread(chatRoom.getId(), sender.getId(), 1);
 
-        return new ChatMessageResponse(
+        ChatMessageResponse response = new ChatMessageResponse(
                 saved.getId(),
                 saved.getChatRoom().getId(),
                 saved.getSender().getId(),
                 saved.getMessage(),
                 saved.getCreatedAt()
         );
+        appendRecentAfterCommit(response);
+        return response;
+    }
+
+    /**
+     * 메시지 ID 커서 기반 조회 (결과는 항상 ID 오름차순).
+     * before 만 주면 그 이전 limit 개, after 만 주면 그 이후 limit 개, 둘 다 없으면 최신 limit 개.
+     * 결과가 limit 개보다 적으면 해당 방향의 끝이다.
+     * after 가 AFTER_OVERLAP 이내의 최근 ID 면 그 구간((now - AFTER_OVERLAP, after])을 다시 포함해 늦게 저장된 작은 ID 를 놓치지 않는다.
+     * 이 겹침 구간은 limit 에 세지 않으며, 클라이언트는 ID 로 중복을 걸러야 한다.
+     */
+    public List<ChatMessageResponse> getMessages(Long chatRoomId, Long before, Long after, Integer limit) {
+        if (before != null && after != null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        if (before == null && after == null) {
+            return getLatestMessages(chatRoomId, resolveLimit(limit));
+        }
+        Pageable page = PageRequest.of(0, resolveLimit(limit));
+
+        List<ChatMessage> messages;
+        if (after != null) {
+            messages = new ArrayList<>();
+            long settled = chatMessageIdGenerator.lowestIdAt(System.currentTimeMillis() - AFTER_OVERLAP.toMillis());
+            if (after > settled) {
+                messages.addAll(chatMessageRepository.findByChatRoomIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(chatRoomId, settled, after));
+            }
+            messages.addAll(chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(chatRoomId, after, page));
+        } else {
+            messages = new ArrayList<>(chatMessageRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(chatRoomId, before, page));
+            Collections.reverse(messages);
+        }
+        return toResponses(messages);
     }
 
+    // 첫 페이지는 최근 메시지 캐시에서, 없으면 DB 에서 캐시 용량만큼 읽어 채운 뒤 응답
+    private List<ChatMessageResponse> getLatestMessages(Long chatRoomId, int limit) {
+        Optional<List<ChatMessageResponse>> cached = recentMessageCache.latest(chatRoomId, limit);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        List<ChatMessage> rows = new ArrayList<>(chatMessageRepository.findByChatRoomIdOrderByIdDesc(
+                chatRoomId, PageRequest.of(0, RecentMessageCache.CAPACITY)));
+        Collections.reverse(rows);
+        List<ChatMessageResponse> latest = toResponses(rows);
+        recentMessageCache.seed(chatRoomId, latest, latest.size() < RecentMessageCache.CAPACITY);
+        return new ArrayList<>(latest.subList(Math.max(0, latest.size() - limit), latest.size()));
+    }
+
+    // 전체 히스토리 (내보내기 전용)
     public List<ChatMessageResponse> getAllMessagesByChatRoom(Long chatRoomId) {
-        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByCreatedAtAsc(chatRoomId);
+        return toResponses(chatMessageRepository.findByChatRoomIdOrderByCreatedAtAsc(chatRoomId));
+    }
+
+    // 요청 개수를 [1, MAX_LIMIT] 범위로 보정 (null 이면 기본값)
+    static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    // 롤백된 메시지가 캐시에 남지 않도록
+    private void appendRecentAfterCommit(ChatMessageResponse response) {
+        TransactionCallbacks.afterCommit(() -> recentMessageCache.append(response));
+    }
+
+    private List<ChatMessageResponse> toResponses(List<ChatMessage> messages) {
         return messages.stream()
                 .map(msg -> new ChatMessageResponse(
                         msg.getId(),
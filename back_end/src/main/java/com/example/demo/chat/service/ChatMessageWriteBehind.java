@@ -0,0 +1,240 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dao.ChatMessageRepository;
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import com.example.demo.chat.dao.ChatRoomRepository;
+import com.example.demo.chat.entity.ChatMessage;
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.user.dao.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채팅 메시지 write-behind 저장.
+ * 전송 경로에서는 ID 가 채번된 메시지를 메모리 큐에 넣기만 하고, FLUSH_INTERVAL 마다 BATCH_SIZE 씩 JDBC 배치 INSERT 로 저장한다.
+ * 큐는 CAPACITY 로 제한되어 저장되지 않은 메시지는 최대 CAPACITY 건, 대략 FLUSH_INTERVAL + 배치 저장 시간 동안만 메모리에 머문다.
+ * 큐가 가득 차면 전송 스레드를 OFFER_TIMEOUT 동안 대기시키고, 그래도 자리가 없으면 CHAT_INGEST_BUSY 로 거절한다.
+ * 멤버별 안 읽은 수는 같은 트랜잭션에서 (채팅방, 발신자) 묶음마다 UPDATE 한 번으로 증가시킨다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind {
+
+    static final long FLUSH_INTERVAL_MILLIS = 100;
+    static final int BATCH_SIZE = 500;
+    static final int CAPACITY = 20_000;
+    static final Duration OFFER_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate batchTemplate;
+
+    private final LinkedBlockingDeque<PendingMessage> pending = new LinkedBlockingDeque<>(CAPACITY);
+    // 주기 flush 와 종료 시 flush 가 겹치지 않도록
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter submitted;
+    private final Counter persisted;
+    private final Counter rejected;
+    private final Counter dropped;
+    private final Timer batchTimer;
+    private final Timer lag;
+
+    public ChatMessageWriteBehind(ChatMessageRepository chatMessageRepository,
+                                  ChatRoomRepository chatRoomRepository,
+                                  ChatRoomMemberRepository chatRoomMemberRepository,
+                                  UserRepository userRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.userRepository = userRepository;
+        this.batchTemplate = new TransactionTemplate(transactionManager);
+
+        this.submitted = meterRegistry.counter("chat.ingest.submitted");
+        this.persisted = meterRegistry.counter("chat.ingest.persisted");
+        // 큐가 가득 차 전송 자체를 거절한 수
+        this.rejected = meterRegistry.counter("chat.ingest.rejected");
+        // 큐에 들어왔지만 저장하지 못하고 버린 수
+        this.dropped = meterRegistry.counter("chat.ingest.dropped");
+        this.batchTimer = meterRegistry.timer("chat.ingest.batch");
+        // 큐 적재부터 저장 커밋까지
+        this.lag = meterRegistry.timer("chat.ingest.lag");
+        meterRegistry.gauge("chat.ingest.queue.depth", pending, LinkedBlockingDeque::size);
+    }
+
+    public void enqueue(Long id, Long chatRoomId, Long senderId, String message, LocalDateTime createdAt) {
+        PendingMessage pendingMessage = new PendingMessage(id, chatRoomId, senderId, message, createdAt, System.nanoTime());
+        boolean accepted;
+        try {
+            accepted = pending.offer(pendingMessage, OFFER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            rejected.increment();
+            throw new BusinessException(ErrorCode.CHAT_INGEST_BUSY);
+        }
+        submitted.increment();
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public void flush() {
+        // 이전 flush 가 아직 돌고 있으면 건너뜀
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 남은 메시지를 모두 저장
+    @PreDestroy
+    public void flushAll() {
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+        if (!pending.isEmpty()) {
+            log.error("종료 시 저장하지 못한 채팅 메시지 count={}", pending.size());
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void drain() {
+        List<PendingMessage> batch = new ArrayList<>(BATCH_SIZE);
+        while (pending.drainTo(batch, BATCH_SIZE) > 0) {
+            // DB 장애면 남은 메시지는 다음 주기에 재시도
+            if (!persist(batch)) {
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private boolean persist(List<PendingMessage> batch) {
+        try {
+            batchTimer.record(() -> batchTemplate.executeWithoutResult(status -> {
+                chatMessageRepository.saveAll(batch.stream().map(this::toEntity).toList());
+                incrementUnread(batch);
+            }));
+            recordPersisted(batch);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 배치 저장 실패, 건별로 재시도 size={}", batch.size(), e);
+            return persistEach(batch);
+        }
+    }
+
+    // 배치 중 문제 있는 메시지만 걸러내기 위한 건별 저장
+    private boolean persistEach(List<PendingMessage> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+            try {
+                batchTemplate.executeWithoutResult(status -> {
+                    chatMessageRepository.save(toEntity(message));
+                    incrementUnread(List.of(message));
+                });
+                recordPersisted(List.of(message));
+            } catch (DataIntegrityViolationException e) {
+                // 그 사이 채팅방/사용자가 삭제된 경우 등 재시도해도 저장할 수 없는 메시지
+                dropped.increment();
+                log.warn("채팅 메시지 저장 포기 id={}, roomId={}, senderId={}", message.id, message.chatRoomId, message.senderId, e);
+            } catch (RuntimeException e) {
+                requeue(batch.subList(i, batch.size()));
+                log.warn("채팅 메시지 저장 실패, 다음 주기에 재시도 count={}", batch.size() - i, e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // (채팅방, 발신자) 별 메시지 수만큼 나머지 멤버의 안 읽은 수 증가. 락 순서를 맞추도록 정렬해서 갱신
+    private void incrementUnread(List<PendingMessage> messages) {
+        Map<Long, Map<Long, Integer>> counts = new TreeMap<>();
+        for (PendingMessage message : messages) {
+            counts.computeIfAbsent(message.chatRoomId, key -> new TreeMap<>())
+                    .merge(message.senderId, 1, Integer::sum);
+        }
+        counts.forEach((chatRoomId, bySender) -> bySender.forEach((senderId, count) ->
+                chatRoomMemberRepository.incrementUnread(chatRoomId, senderId, count)));
+    }
+
+    // 원래 순서대로 큐 앞쪽에 되돌림
+    private void requeue(List<PendingMessage> messages) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (!pending.offerFirst(messages.get(i))) {
+                dropped.increment();
+                log.error("큐가 가득 차 채팅 메시지 유실 id={}", messages.get(i).id);
+            }
+        }
+    }
+
+    private void recordPersisted(List<PendingMessage> messages) {
+        long now = System.nanoTime();
+        for (PendingMessage message : messages) {
+            lag.record(now - message.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+        persisted.increment(messages.size());
+    }
+
+    // 연관 엔티티는 프록시 참조만 사용 (SELECT 없이 FK 만 채움)
+    private ChatMessage toEntity(PendingMessage pendingMessage) {
+        ChatMessage message = new ChatMessage();
+        message.setId(pendingMessage.id);
+        message.setChatRoom(chatRoomRepository.getReferenceById(pendingMessage.chatRoomId));
+        message.setSender(userRepository.getReferenceById(pendingMessage.senderId));
+        message.setMessage(pendingMessage.message);
+        message.setCreatedAt(pendingMessage.createdAt);
+        return message;
+    }
+
+    private static final class PendingMessage {
+        private final Long id;
+        private final Long chatRoomId;
+        private final Long senderId;
+        private final String message;
+        private final LocalDateTime createdAt;
+        private final long enqueuedAt;
+
+        private PendingMessage(Long id, Long chatRoomId, Long senderId, String message, LocalDateTime createdAt, long enqueuedAt) {
+            this.id = id;
+            this.chatRoomId = chatRoomId;
+            this.senderId = senderId;
+            this.message = message;
+            this.createdAt = createdAt;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채팅 읽음 확인 배치 반영.
+ * 읽음 확인은 (채팅방, 사용자) 별로 가장 큰 메시지 ID 만 메모리에 남기고, FLUSH_INTERVAL 마다 한 트랜잭션에서 반영한다.
+ * 반영 시 읽음 위치 이후 다른 사람이 보낸 메시지 수로 안 읽은 수를 같은 UPDATE 안에서 다시 계산하며, 읽음 위치는 앞으로만 이동한다.
+ * 아직 write-behind 큐에 있는 메시지는 저장될 때 안 읽은 수에 더해진다.
+ */
+@Slf4j
+@Component
+public class ChatReadReceipts {
+
+    static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final TransactionTemplate batchTemplate;
+
+    // (채팅방, 사용자) -> 읽은 메시지 ID 최댓값
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter acks;
+    private final Counter coalesced;
+    private final Counter applied;
+    private final Timer batchTimer;
+
+    public ChatReadReceipts(ChatRoomMemberRepository chatRoomMemberRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.batchTemplate = new TransactionTemplate(transactionManager);
+
+        this.acks = meterRegistry.counter("chat.read.acks");
+        // 반영 전에 같은 멤버의 다른 읽음 확인에 합쳐진 수
+        this.coalesced = meterRegistry.counter("chat.read.coalesced");
+        this.applied = meterRegistry.counter("chat.read.applied");
+        this.batchTimer = meterRegistry.timer("chat.read.batch");
+        meterRegistry.gauge("chat.read.pending", pending, Map::size);
+    }
+
+    public void acknowledge(Long chatRoomId, Long userId, Long messageId) {
+        acks.increment();
+        pending.merge(new Key(chatRoomId, userId), messageId, (current, acked) -> {
+            coalesced.increment();
+            return Math.max(current, acked);
+        });
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            apply();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 남은 읽음 확인을 모두 반영
+    @PreDestroy
+    public void flushAll() {
+        flushLock.lock();
+        try {
+            apply();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void apply() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Key, Long>> batch = new ArrayList<>();
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            Long messageId = pending.remove(key);
+            if (messageId != null) {
+                batch.add(Map.entry(key, messageId));
+            }
+        }
+        // 여러 노드가 같은 행을 갱신할 때 락 순서를 맞춘다
+        batch.sort(Map.Entry.comparingByKey());
+        try {
+            batchTimer.record(() -> batchTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<Key, Long> entry : batch) {
+                    Key key = entry.getKey();
+                    chatRoomMemberRepository.markRead(key.chatRoomId, key.userId, entry.getValue());
+                }
+            }));
+            applied.increment(batch.size());
+        } catch (RuntimeException e) {
+            // 다음 주기에 재시도 (그 사이 들어온 더 큰 ID 는 유지)
+            for (Map.Entry<Key, Long> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), Math::max);
+            }
+            log.warn("읽음 확인 반영 실패, 다음 주기에 재시도 count={}", batch.size(), e);
+        }
+    }
+
+    private record Key(Long chatRoomId, Long userId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byRoom = chatRoomId.compareTo(other.chatRoomId);
+            return byRoom != 0 ? byRoom : userId.compareTo(other.userId);
+        }
+    }
+}
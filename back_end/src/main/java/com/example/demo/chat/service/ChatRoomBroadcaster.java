@@ -0,0 +1,245 @@
+package com.example.demo.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import com.hazelcast.topic.ReliableMessageListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅방 메시지 클러스터 팬아웃.
+ * SimpleBroker 는 노드 로컬이므로, 메시지를 방 ID 로 분할한 Hazelcast ReliableTopic(PARTITIONS 개)에 발행해 다른 노드로 전달한다.
+ * 각 노드는 로컬 구독자가 있는 방이 속한 파티션 토픽만 구독하고, 받은 메시지 중 로컬 구독자가 있는 방만 로컬 브로커로 넘긴다.
+ * 발행한 노드는 토픽을 거치지 않고 바로 로컬 브로커로 전달한다.
+ */
+@Slf4j
+@Component
+public class ChatRoomBroadcaster {
+
+    static final int PARTITIONS = 64;
+    public static final String TOPIC_PREFIX = "chatRoom-";
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/(topic|queue)/chat/room/(\\d+)$");
+
+    private final HazelcastInstance hazelcastInstance;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final UUID localMember;
+
+    // 방 ID -> 로컬 구독 수 (리스너 스레드에서 읽음)
+    private final Map<Long, Integer> localSubscribers = new ConcurrentHashMap<>();
+    // 세션 ID -> (구독 ID -> 방 ID). 아래 필드들과 함께 this 로 보호
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new HashMap<>();
+    private final int[] partitionSubscribers = new int[PARTITIONS];
+    private final Map<Integer, UUID> partitionListeners = new HashMap<>();
+    private final AtomicInteger activePartitions = new AtomicInteger();
+
+    private final Counter published;
+    private final Counter publishFailed;
+    private final Counter delivered;
+    private final Counter skipped;
+    private final Timer crossNodeLatency;
+
+    public ChatRoomBroadcaster(HazelcastInstance hazelcastInstance,
+                               SimpMessagingTemplate messagingTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.localMember = hazelcastInstance.getCluster().getLocalMember().getUuid();
+
+        this.published = meterRegistry.counter("chat.broker.published");
+        this.publishFailed = meterRegistry.counter("chat.broker.publish.failed");
+        // 다른 노드에서 받아 로컬 구독자에게 전달한 수
+        this.delivered = meterRegistry.counter("chat.broker.delivered");
+        // 파티션은 구독 중이지만 해당 방의 로컬 구독자가 없어 버린 수
+        this.skipped = meterRegistry.counter("chat.broker.skipped");
+        // 발행 노드 발행 시각부터 수신 노드 로컬 전달까지 (노드 간 시계 차이 포함)
+        this.crossNodeLatency = meterRegistry.timer("chat.broker.cross.latency");
+        meterRegistry.gauge("chat.broker.partitions.active", activePartitions);
+    }
+
+    // 로컬 구독자에게 바로 전달하고, 다른 노드로는 방 파티션 토픽으로 비동기 발행
+    public void broadcast(String destination, Long roomId, Object payload) {
+        byte[] body = serialize(payload);
+        messagingTemplate.send(destination, toMessage(body));
+
+        Frame frame = new Frame(localMember, destination, roomId, body, System.currentTimeMillis());
+        topic(partitionOf(roomId)).publishAsync(frame).whenComplete((ignored, e) -> {
+            if (e != null) {
+                publishFailed.increment();
+                log.warn("채팅 메시지 클러스터 발행 실패 roomId={}", roomId, e);
+            } else {
+                published.increment();
+            }
+        });
+    }
+
+    public synchronized void onSubscribe(String sessionId, String subscriptionId, String destination) {
+        Long roomId = roomIdOf(destination);
+        if (sessionId == null || subscriptionId == null || roomId == null) {
+            return;
+        }
+        Map<String, Long> subscriptions = sessionSubscriptions.computeIfAbsent(sessionId, key -> new HashMap<>());
+        if (subscriptions.putIfAbsent(subscriptionId, roomId) == null) {
+            addSubscriber(roomId);
+        }
+    }
+
+    public synchronized void onUnsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (roomId != null) {
+            removeSubscriber(roomId);
+        }
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId);
+        }
+    }
+
+    public synchronized void onDisconnect(String sessionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::removeSubscriber);
+        }
+    }
+
+    boolean hasLocalSubscribers(Long roomId) {
+        return localSubscribers.containsKey(roomId);
+    }
+
+    private void addSubscriber(Long roomId) {
+        localSubscribers.merge(roomId, 1, Integer::sum);
+        int partition = partitionOf(roomId);
+        if (partitionSubscribers[partition]++ == 0) {
+            partitionListeners.put(partition, topic(partition).addMessageListener(new PartitionListener()));
+            activePartitions.incrementAndGet();
+        }
+    }
+
+    private void removeSubscriber(Long roomId) {
+        localSubscribers.computeIfPresent(roomId, (key, count) -> count > 1 ? count - 1 : null);
+        int partition = partitionOf(roomId);
+        if (--partitionSubscribers[partition] == 0) {
+            UUID registration = partitionListeners.remove(partition);
+            if (registration != null) {
+                topic(partition).removeMessageListener(registration);
+            }
+            activePartitions.decrementAndGet();
+        }
+    }
+
+    private void deliver(Frame frame) {
+        if (localMember.equals(frame.origin)) {
+            return;
+        }
+        if (!localSubscribers.containsKey(frame.roomId)) {
+            skipped.increment();
+            return;
+        }
+        messagingTemplate.send(frame.destination, toMessage(frame.body));
+        delivered.increment();
+        crossNodeLatency.record(Math.max(0, System.currentTimeMillis() - frame.publishedAt), TimeUnit.MILLISECONDS);
+    }
+
+    private ITopic<Frame> topic(int partition) {
+        return hazelcastInstance.getReliableTopic(TOPIC_PREFIX + partition);
+    }
+
+    static int partitionOf(Long roomId) {
+        return (int) Math.floorMod(roomId, (long) PARTITIONS);
+    }
+
+    static Long roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(2)) : null;
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("채팅 메시지 직렬화 실패", e);
+        }
+    }
+
+    private static org.springframework.messaging.Message<byte[]> toMessage(byte[] body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    // 노드 간 전달 단위 (이미 직렬화된 본문을 그대로 전달)
+    static final class Frame implements Serializable {
+        private final UUID origin;
+        private final String destination;
+        private final Long roomId;
+        private final byte[] body;
+        private final long publishedAt;
+
+        Frame(UUID origin, String destination, Long roomId, byte[] body, long publishedAt) {
+            this.origin = origin;
+            this.destination = destination;
+            this.roomId = roomId;
+            this.body = body;
+            this.publishedAt = publishedAt;
+        }
+    }
+
+    // 뒤처져 유실이 생겨도 리스너가 종료되지 않도록 (실시간 메시지라 최신부터 이어서 받음)
+    private final class PartitionListener implements ReliableMessageListener<Frame> {
+
+        @Override
+        public void onMessage(Message<Frame> message) {
+            deliver(message.getMessageObject());
+        }
+
+        @Override
+        public long retrieveInitialSequence() {
+            return -1;
+        }
+
+        @Override
+        public void storeSequence(long sequence) {
+        }
+
+        @Override
+        public boolean isLossTolerant() {
+            return true;
+        }
+
+        @Override
+        public boolean isTerminal(Throwable failure) {
+            log.warn("채팅 클러스터 토픽 수신 오류", failure);
+            return false;
+        }
+    }
+}
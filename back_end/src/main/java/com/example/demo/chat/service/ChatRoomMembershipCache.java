@@ -0,0 +1,144 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import com.example.demo.common.transaction.TransactionCallbacks;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 멤버 ID 집합 캐시 (전송 권한 확인용).
+ * Hazelcast 맵에 채팅방별 멤버 ID 집합을 두고 니어 캐시로 읽어, 대부분의 확인은 DB 나 네트워크 없이 끝난다.
+ * 멤버 추가/탈퇴/채팅방 삭제는 커밋 이후 엔트리 프로세서/삭제로 반영하고, 캐시에 없는 방은 키 락을 잡고 DB 에서 한 번 채운다.
+ * 반영이 늦어 멤버가 아니라고 나온 경우만 거절 전에 DB 로 다시 확인한다.
+ */
+@Slf4j
+@Component
+public class ChatRoomMembershipCache {
+
+    public static final String MAP = "chatRoomMembers";
+    static final Duration LOAD_LOCK_LEASE = Duration.ofSeconds(10);
+
+    private final IMap<Long, HashSet<Long>> members;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+
+    private final Counter loads;
+    private final Counter recovered;
+    private final Counter denied;
+
+    public ChatRoomMembershipCache(HazelcastInstance hazelcastInstance,
+                                   ChatRoomMemberRepository chatRoomMemberRepository,
+                                   MeterRegistry meterRegistry) {
+        this.members = hazelcastInstance.getMap(MAP);
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.loads = meterRegistry.counter("chat.membership.loads");
+        // 캐시에는 없었지만 DB 확인으로 허용된 수 (반영 지연)
+        this.recovered = meterRegistry.counter("chat.membership.recovered");
+        this.denied = meterRegistry.counter("chat.membership.denied");
+    }
+
+    public boolean isMember(Long chatRoomId, Long userId) {
+        if (memberIds(chatRoomId).contains(userId)) {
+            return true;
+        }
+        if (chatRoomMemberRepository.existsByUserIdAndChatRoomId(userId, chatRoomId)) {
+            recovered.increment();
+            members.executeOnKey(chatRoomId, new AddProcessor(userId));
+            return true;
+        }
+        denied.increment();
+        return false;
+    }
+
+    public void memberAdded(Long chatRoomId, Long userId) {
+        afterCommit(() -> members.executeOnKey(chatRoomId, new AddProcessor(userId)));
+    }
+
+    public void memberRemoved(Long chatRoomId, Long userId) {
+        afterCommit(() -> members.executeOnKey(chatRoomId, new RemoveProcessor(userId)));
+    }
+
+    public void evictRoom(Long chatRoomId) {
+        afterCommit(() -> members.delete(chatRoomId));
+    }
+
+    // 캐시에 없으면 키 락을 잡고 DB 에서 채운다 (락을 잡은 동안의 추가/탈퇴 반영은 대기했다가 적용됨)
+    private HashSet<Long> memberIds(Long chatRoomId) {
+        HashSet<Long> cached = members.get(chatRoomId);
+        if (cached != null) {
+            return cached;
+        }
+        members.lock(chatRoomId, LOAD_LOCK_LEASE.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            cached = members.get(chatRoomId);
+            if (cached == null) {
+                cached = new HashSet<>(chatRoomMemberRepository.findUserIdsByChatRoomId(chatRoomId));
+                members.set(chatRoomId, cached);
+                loads.increment();
+            }
+            return cached;
+        } finally {
+            members.unlock(chatRoomId);
+        }
+    }
+
+    // 롤백된 변경이 캐시에 반영되지 않도록
+    private static void afterCommit(Runnable action) {
+        TransactionCallbacks.afterCommit(() -> apply(action));
+    }
+
+    private static void apply(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            // 추가 누락은 DB 재확인으로 복구되지만 탈퇴 누락은 맵 TTL 까지 남는다
+            log.warn("채팅방 멤버 캐시 반영 실패", e);
+        }
+    }
+
+    // 캐시에 없는 방은 건드리지 않는다 (다음 조회 때 DB 에서 채움)
+    static class AddProcessor implements EntryProcessor<Long, HashSet<Long>, Boolean> {
+        private final Long userId;
+
+        AddProcessor(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public Boolean process(Map.Entry<Long, HashSet<Long>> entry) {
+            HashSet<Long> current = entry.getValue();
+            if (current == null || !current.add(userId)) {
+                return false;
+            }
+            entry.setValue(current);
+            return true;
+        }
+    }
+
+    static class RemoveProcessor implements EntryProcessor<Long, HashSet<Long>, Boolean> {
+        private final Long userId;
+
+        RemoveProcessor(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public Boolean process(Map.Entry<Long, HashSet<Long>> entry) {
+            HashSet<Long> current = entry.getValue();
+            if (current == null || !current.remove(userId)) {
+                return false;
+            }
+            entry.setValue(current);
+            return true;
+        }
+    }
+}
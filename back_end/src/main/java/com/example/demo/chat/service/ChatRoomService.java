@@ -10,27 +10,57 @@ import com.example.demo.team.dao.TeamRepository;
 import com.example.demo.team.entity.Team;
 import com.example.demo.user.dao.UserRepository;
 import com.example.demo.user.entity.User;
-import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final ChatMemberService chatMemberService;
+    private final RecentMessageCache recentMessageCache;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final TransactionTemplate createTemplate;
+    private final TransactionTemplate lookupTemplate;
+
+    public ChatRoomService(ChatRoomRepository chatRoomRepository,
+                           UserRepository userRepository,
+                           TeamRepository teamRepository,
+                           ChatMemberService chatMemberService,
+                           RecentMessageCache recentMessageCache,
+                           ChatRoomMembershipCache chatRoomMembershipCache,
+                           PlatformTransactionManager transactionManager) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.chatMemberService = chatMemberService;
+        this.recentMessageCache = recentMessageCache;
+        this.chatRoomMembershipCache = chatRoomMembershipCache;
+        this.createTemplate = new TransactionTemplate(transactionManager);
+        this.createTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lookupTemplate = new TransactionTemplate(transactionManager);
+        this.lookupTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lookupTemplate.setReadOnly(true);
+    }
 
-    @Transactional
+    /**
+     * 1:1 채팅방 조회 또는 생성.
+     * 같은 쌍을 동시에 만들면 유니크 제약에 진 쪽의 트랜잭션은 롤백되므로,
+     * 새 트랜잭션에서 쌍을 다시 읽어 이긴 쪽이 만든 방을 돌려준다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ChatRoomResponse createPrivateChatRoom(ChatRoomRequest chatRoomRequest) {
 
         Long user1Id = chatRoomRequest.getUser1Id();
@@ -40,36 +70,42 @@ public class ChatRoomService {
             throw new BusinessException(ErrorCode.INVALID_REQUEST);
         }
 
-        // chatRoomMembers를 미리 로딩
-        User user1 = userRepository.findByIdWithChatRoomMembers(user1Id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        User user2 = userRepository.findByIdWithChatRoomMembers(user2Id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        try {
+            return createTemplate.execute(status -> findOrCreatePrivateChatRoom(user1Id, user2Id));
+        } catch (DataIntegrityViolationException e) {
+            ChatRoom winner = lookupTemplate.execute(status -> findPrivateChatRoom(user1Id, user2Id))
+                    .orElseThrow(() -> new BusinessException(ErrorCode.PRIVATE_CHAT_ROOM_CONFLICT));
+            return new ChatRoomResponse(winner.getId(), winner.getRoomType(), null);
+        }
+    }
 
-        // user1이 속한 PRIVATE 채팅방 목록
-        Set<ChatRoom> user1PrivateRooms = user1.getChatRoomMembers().stream()
-                .map(ChatRoomMember::getChatRoom)
-                .filter(room -> room.getRoomType() == RoomType.PRIVATE)
-                .collect(Collectors.toSet());
+    // 사용자 쌍의 기존 방은 (작은 ID, 큰 ID) 유니크 인덱스로 바로 찾는다
+    private Optional<ChatRoom> findPrivateChatRoom(Long user1Id, Long user2Id) {
+        return chatRoomRepository.findByPrivateUserLowAndPrivateUserHigh(
+                Math.min(user1Id, user2Id), Math.max(user1Id, user2Id));
+    }
 
-        // user2가 속한 PRIVATE 채팅방 중, user1과 공통된 방이 있는지 확인
-        Optional<ChatRoom> existingRoomOpt = user2.getChatRoomMembers().stream()
-                .map(ChatRoomMember::getChatRoom)
-                .filter(room -> room.getRoomType() == RoomType.PRIVATE)
-                .filter(user1PrivateRooms::contains)
-                .findFirst();
+    private ChatRoomResponse findOrCreatePrivateChatRoom(Long user1Id, Long user2Id) {
+        Optional<ChatRoom> existingRoom = findPrivateChatRoom(user1Id, user2Id);
+        if (existingRoom.isPresent()) {
+            return new ChatRoomResponse(existingRoom.get().getId(), existingRoom.get().getRoomType(), null);
+        }
 
-        ChatRoom chatRoom = existingRoomOpt.orElseGet(() -> {
-            ChatRoom newRoom = new ChatRoom();
-            newRoom.setRoomType(RoomType.PRIVATE);
+        User user1 = userRepository.findById(user1Id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User user2 = userRepository.findById(user2Id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-            ChatRoom savedRoom = chatRoomRepository.save(newRoom);
+        ChatRoom newRoom = new ChatRoom();
+        newRoom.setRoomType(RoomType.PRIVATE);
+        newRoom.setPrivatePair(user1Id, user2Id);
 
-            chatMemberService.createChatRoomMember(user1, savedRoom);
-            chatMemberService.createChatRoomMember(user2, savedRoom);
+        ChatRoom chatRoom = chatRoomRepository.save(newRoom);
+        // 동시 생성으로 인한 유니크 제약 위반을 멤버 추가 전에 드러내기 위해 즉시 반영
+        chatRoomRepository.flush();
 
-            return savedRoom;
-        });
+        chatMemberService.createChatRoomMember(user1, chatRoom);
+        chatMemberService.createChatRoomMember(user2, chatRoom);
 
         return new ChatRoomResponse(chatRoom.getId(), chatRoom.getRoomType(), null);
     }
@@ -121,6 +157,8 @@ public class ChatRoomService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
         chatRoomRepository.delete(chatRoom);
+        recentMessageCache.evict(chatRoomId);
+        chatRoomMembershipCache.evictRoom(chatRoomId);
     }
 
 }
\ No newline at end of file
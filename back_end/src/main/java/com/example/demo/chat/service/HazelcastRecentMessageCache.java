@@ -0,0 +1,103 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dto.ChatMessageResponse;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 클러스터 공유 최근 메시지 캐시 (여러 노드 환경).
+ * 방별 버퍼를 Hazelcast 맵에 두고 엔트리 프로세서로 갱신하므로, 어느 노드로 들어온 전송이든 같은 버퍼에 쌓인다.
+ * 메모리 상한과 LRU 제거는 맵 설정(HazelcastConfig, 노드당 사용 힙 기준)으로 처리한다.
+ */
+@Slf4j
+@Component
+@Profile("prod")
+public class HazelcastRecentMessageCache implements RecentMessageCache {
+
+    public static final String MAP = "recentChatMessages";
+
+    private final IMap<Long, RecentMessageBuffer> rooms;
+    private final Counter hit;
+    private final Counter miss;
+
+    public HazelcastRecentMessageCache(HazelcastInstance hazelcastInstance, MeterRegistry meterRegistry) {
+        this.rooms = hazelcastInstance.getMap(MAP);
+        this.hit = meterRegistry.counter("chat.recent.lookup", "store", "hazelcast", "outcome", "hit");
+        this.miss = meterRegistry.counter("chat.recent.lookup", "store", "hazelcast", "outcome", "miss");
+    }
+
+    // 전송 경로를 막지 않도록 비동기로 반영
+    @Override
+    public void append(ChatMessageResponse message) {
+        rooms.submitToKey(message.getChatRoomId(), new AppendProcessor(message))
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.warn("최근 메시지 캐시 반영 실패 roomId={}, id={}", message.getChatRoomId(), message.getId(), e);
+                        rooms.delete(message.getChatRoomId());
+                    }
+                });
+    }
+
+    @Override
+    public Optional<List<ChatMessageResponse>> latest(Long chatRoomId, int limit) {
+        RecentMessageBuffer buffer = rooms.get(chatRoomId);
+        Optional<List<ChatMessageResponse>> result = buffer != null ? buffer.latest(limit) : Optional.empty();
+        (result.isPresent() ? hit : miss).increment();
+        return result;
+    }
+
+    @Override
+    public void seed(Long chatRoomId, List<ChatMessageResponse> latest, boolean complete) {
+        rooms.executeOnKey(chatRoomId, new SeedProcessor(latest, complete));
+    }
+
+    @Override
+    public void evict(Long chatRoomId) {
+        rooms.delete(chatRoomId);
+    }
+
+    static class AppendProcessor implements EntryProcessor<Long, RecentMessageBuffer, Void> {
+        private final ChatMessageResponse message;
+
+        AppendProcessor(ChatMessageResponse message) {
+            this.message = message;
+        }
+
+        @Override
+        public Void process(Map.Entry<Long, RecentMessageBuffer> entry) {
+            RecentMessageBuffer buffer = entry.getValue() != null ? entry.getValue() : new RecentMessageBuffer();
+            buffer.append(message);
+            entry.setValue(buffer);
+            return null;
+        }
+    }
+
+    static class SeedProcessor implements EntryProcessor<Long, RecentMessageBuffer, Void> {
+        private final List<ChatMessageResponse> latest;
+        private final boolean complete;
+
+        SeedProcessor(List<ChatMessageResponse> latest, boolean complete) {
+            this.latest = new ArrayList<>(latest);
+            this.complete = complete;
+        }
+
+        @Override
+        public Void process(Map.Entry<Long, RecentMessageBuffer> entry) {
+            RecentMessageBuffer buffer = entry.getValue() != null ? entry.getValue() : new RecentMessageBuffer();
+            buffer.seed(latest, complete);
+            entry.setValue(buffer);
+            return null;
+        }
+    }
+}
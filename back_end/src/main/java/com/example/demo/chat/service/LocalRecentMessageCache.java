@@ -0,0 +1,89 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 노드 로컬 최근 메시지 캐시 (단일 노드 환경).
+ * 방 단위 LRU 로, 전체 버퍼의 추정 메모리가 MAX_BYTES 를 넘으면 가장 오래 사용되지 않은 방부터 제거한다.
+ */
+@Component
+@Profile("!prod")
+public class LocalRecentMessageCache implements RecentMessageCache {
+
+    static final long MAX_BYTES = 32L * 1024 * 1024;
+
+    // 접근 순서 LinkedHashMap. 모든 접근은 this 로 보호
+    private final LinkedHashMap<Long, RecentMessageBuffer> rooms = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter evicted;
+
+    public LocalRecentMessageCache(MeterRegistry meterRegistry) {
+        this.hit = meterRegistry.counter("chat.recent.lookup", "store", "local", "outcome", "hit");
+        this.miss = meterRegistry.counter("chat.recent.lookup", "store", "local", "outcome", "miss");
+        this.evicted = meterRegistry.counter("chat.recent.evicted", "store", "local");
+        meterRegistry.gauge("chat.recent.bytes", totalBytes);
+    }
+
+    @Override
+    public synchronized void append(ChatMessageResponse message) {
+        update(message.getChatRoomId(), buffer -> buffer.append(message));
+    }
+
+    @Override
+    public synchronized Optional<List<ChatMessageResponse>> latest(Long chatRoomId, int limit) {
+        RecentMessageBuffer buffer = rooms.get(chatRoomId);
+        Optional<List<ChatMessageResponse>> result = buffer != null ? buffer.latest(limit) : Optional.empty();
+        (result.isPresent() ? hit : miss).increment();
+        return result;
+    }
+
+    @Override
+    public synchronized void seed(Long chatRoomId, List<ChatMessageResponse> latest, boolean complete) {
+        update(chatRoomId, buffer -> buffer.seed(latest, complete));
+    }
+
+    @Override
+    public synchronized void evict(Long chatRoomId) {
+        RecentMessageBuffer removed = rooms.remove(chatRoomId);
+        if (removed != null) {
+            totalBytes.addAndGet(-removed.estimatedBytes());
+        }
+    }
+
+    private void update(Long chatRoomId, Consumer<RecentMessageBuffer> change) {
+        RecentMessageBuffer buffer = rooms.computeIfAbsent(chatRoomId, key -> new RecentMessageBuffer());
+        long before = buffer.estimatedBytes();
+        change.accept(buffer);
+        totalBytes.addAndGet(buffer.estimatedBytes() - before);
+        evictOverCapacity(chatRoomId);
+    }
+
+    // 방금 사용한 방은 남김
+    private void evictOverCapacity(Long current) {
+        Iterator<Map.Entry<Long, RecentMessageBuffer>> eldest = rooms.entrySet().iterator();
+        while (totalBytes.get() > MAX_BYTES && eldest.hasNext()) {
+            Map.Entry<Long, RecentMessageBuffer> entry = eldest.next();
+            if (entry.getKey().equals(current)) {
+                continue;
+            }
+            totalBytes.addAndGet(-entry.getValue().estimatedBytes());
+            eldest.remove();
+            evicted.increment();
+        }
+    }
+}
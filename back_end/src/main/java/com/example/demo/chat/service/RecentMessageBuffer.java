@@ -0,0 +1,75 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dto.ChatMessageResponse;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 채팅방 하나의 최근 메시지 링 버퍼 (ID 오름차순, 최대 RecentMessageCache.CAPACITY 개).
+ * seeded: DB 최신 메시지로 채워진 적이 있어 버퍼 안 메시지가 끊김 없이 이어짐을 보장
+ * complete: 방의 전체 히스토리가 버퍼 안에 있음 (limit 보다 적어도 그대로 응답 가능)
+ */
+class RecentMessageBuffer implements Serializable {
+
+    // 메시지 하나의 대략적인 메모리 사용량 (객체 헤더, 필드, 문자열)
+    private static final int MESSAGE_OVERHEAD_BYTES = 96;
+
+    private final List<ChatMessageResponse> messages = new ArrayList<>();
+    private boolean seeded;
+    private boolean complete;
+    private long estimatedBytes;
+
+    void append(ChatMessageResponse message) {
+        // 여러 노드에서 채번된 ID 는 도착 순서가 조금 뒤섞일 수 있어 뒤에서부터 자리를 찾음
+        int index = messages.size();
+        while (index > 0 && messages.get(index - 1).getId() > message.getId()) {
+            index--;
+        }
+        if (index > 0 && messages.get(index - 1).getId().equals(message.getId())) {
+            return;
+        }
+        messages.add(index, message);
+        estimatedBytes += sizeOf(message);
+        trim();
+    }
+
+    void seed(List<ChatMessageResponse> latest, boolean complete) {
+        // ID 순 병합 (이미 버퍼에 있던 전송분 우선)
+        Map<Long, ChatMessageResponse> merged = new TreeMap<>();
+        latest.forEach(message -> merged.put(message.getId(), message));
+        messages.forEach(message -> merged.put(message.getId(), message));
+        messages.clear();
+        messages.addAll(merged.values());
+        estimatedBytes = messages.stream().mapToLong(RecentMessageBuffer::sizeOf).sum();
+        this.seeded = true;
+        this.complete = complete;
+        trim();
+    }
+
+    Optional<List<ChatMessageResponse>> latest(int limit) {
+        if (!seeded || (messages.size() < limit && !complete)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArrayList<>(messages.subList(Math.max(0, messages.size() - limit), messages.size())));
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private void trim() {
+        while (messages.size() > RecentMessageCache.CAPACITY) {
+            estimatedBytes -= sizeOf(messages.remove(0));
+            complete = false;
+        }
+    }
+
+    private static long sizeOf(ChatMessageResponse message) {
+        return MESSAGE_OVERHEAD_BYTES + (message.getMessage() != null ? 2L * message.getMessage().length() : 0);
+    }
+}
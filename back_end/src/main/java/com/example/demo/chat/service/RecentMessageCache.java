@@ -0,0 +1,27 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dto.ChatMessageResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채팅방별 최근 메시지 캐시.
+ * 전송 시 채워지고, 히스토리 첫 페이지(최신 limit 개)를 DB 대신 응답한다. 그보다 오래된 페이지는 DB 에서 조회한다.
+ * 단일 노드용 LocalRecentMessageCache 와 클러스터 공유용 HazelcastRecentMessageCache 가 있다.
+ */
+public interface RecentMessageCache {
+
+    // 방별 보관 개수 (ChatMessageService.MAX_LIMIT 과 같게)
+    int CAPACITY = 200;
+
+    void append(ChatMessageResponse message);
+
+    // 최신 limit 개 (ID 오름차순). 캐시로 응답할 수 없으면 empty
+    Optional<List<ChatMessageResponse>> latest(Long chatRoomId, int limit);
+
+    // DB 에서 읽은 최신 메시지로 채움. complete 면 방의 전체 히스토리
+    void seed(Long chatRoomId, List<ChatMessageResponse> latest, boolean complete);
+
+    void evict(Long chatRoomId);
+}
@@ -0,0 +1,89 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import com.example.demo.chat.dto.ChatRoomRequest;
+import com.example.demo.chat.entity.ChatRoom;
+import com.example.demo.chat.entity.RoomType;
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.outbox.OutboxEvent;
+import com.example.demo.common.outbox.OutboxEventType;
+import com.example.demo.common.outbox.OutboxHandler;
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.entity.Team;
+import com.example.demo.team.service.TeamDetailCache;
+import com.example.demo.user.dao.UserRepository;
+import com.example.demo.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 팀 채팅방 생성 / 멤버 추가 아웃박스 처리기.
+ * 같은 항목이 다시 전달될 수 있으므로 이미 반영된 경우는 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamChatRoomOutboxHandler implements OutboxHandler {
+
+    private final ChatRoomService chatRoomService;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final TeamDetailCache teamDetailCache;
+
+    @Override
+    public Set<OutboxEventType> types() {
+        return Set.of(OutboxEventType.TEAM_CHAT_ROOM_CREATE, OutboxEventType.TEAM_CHAT_MEMBER_ADD);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Team team = teamRepository.findById(event.getAggregateId()).orElse(null);
+        if (team == null) {
+            log.info("삭제된 팀의 채팅방 작업 건너뜀 teamId={}, type={}", event.getAggregateId(), event.getEventType());
+            return;
+        }
+        if (event.getEventType() == OutboxEventType.TEAM_CHAT_ROOM_CREATE) {
+            createChatRoom(team, event.getUserId());
+        } else {
+            addMember(team, event.getUserId());
+        }
+    }
+
+    private void createChatRoom(Team team, Long leaderId) {
+        if (team.getChatRoom() != null) {
+            return;
+        }
+        ChatRoomRequest chatRoomRequest = new ChatRoomRequest();
+        chatRoomRequest.setRoomType(RoomType.TEAM);
+        chatRoomRequest.setTeamId(team.getId());
+        chatRoomRequest.setUserId(leaderId);
+        chatRoomService.createTeamChatRoom(chatRoomRequest);
+        // 팀 상세의 chatRoomId 갱신
+        teamDetailCache.evictTeam(team.getId());
+    }
+
+    private void addMember(Team team, Long userId) {
+        ChatRoom chatRoom = team.getChatRoom();
+        if (chatRoom == null) {
+            // 채팅방 생성 항목이 아직 처리되지 않음 → 재시도
+            throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+        }
+        User user = userRepository.findById(userId).orElse(null);
+        // 처리 전에 팀을 떠났거나 탈퇴한 경우
+        if (user == null || user.getTeam() == null || !user.getTeam().getId().equals(team.getId())) {
+            return;
+        }
+        if (chatRoomMemberRepository.findByUserIdAndChatRoomId(userId, chatRoom.getId()).isPresent()) {
+            return;
+        }
+        ChatRoomRequest chatRoomRequest = new ChatRoomRequest();
+        chatRoomRequest.setRoomId(chatRoom.getId());
+        chatRoomRequest.setUserId(userId);
+        chatRoomService.addMemberToTeamChatRoom(chatRoomRequest);
+    }
+}
@@ -1,9 +1,18 @@
 package com.example.demo.common.config;
 
+import com.example.demo.chat.service.ChatMessageIdGenerator;
+import com.example.demo.chat.service.ChatRoomBroadcaster;
+import com.example.demo.chat.service.ChatRoomMembershipCache;
+import com.example.demo.chat.service.HazelcastRecentMessageCache;
+import com.example.demo.common.notification.NotificationDispatcher;
+import com.example.demo.common.presence.PresenceRegistry;
+import com.example.demo.team.service.TeamCapacityReservations;
+import com.example.demo.team.service.TeamDetailCache;
 import com.hazelcast.config.*;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
+import com.hazelcast.topic.TopicOverloadPolicy;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -48,6 +57,14 @@ public class HazelcastConfig {
         shortTermConfig.setEvictionConfig(evictionConfig2);
         config.addMapConfig(shortTermConfig);
 
+        addTeamDetailCacheConfig(config);
+        addTeamCapacityConfig(config);
+        addChatMessageIdConfig(config);
+        addChatBrokerConfig(config);
+        addPresenceConfig(config);
+        addNotificationConfig(config);
+        addChatMembershipConfig(config);
+
         config.getMetricsConfig().setEnabled(true);
         return config;
     }
@@ -95,9 +112,120 @@ public class HazelcastConfig {
         shortTermConfig.setEvictionConfig(evictionConfig2);
         config.addMapConfig(shortTermConfig);
 
+        addTeamDetailCacheConfig(config);
+        addTeamCapacityConfig(config);
+        addChatMessageIdConfig(config);
+        addChatBrokerConfig(config);
+        addPresenceConfig(config);
+        addNotificationConfig(config);
+        addChatMembershipConfig(config);
+        addRecentMessageConfig(config);
+
         return config;
     }
 
+    // 팀 상세 캐시 + 무효화 세대 (TeamDetailCache)
+    private void addTeamDetailCacheConfig(Config config) {
+        MapConfig teamDetailConfig = new MapConfig();
+        teamDetailConfig.setName(TeamDetailCache.CACHE_MAP);
+        teamDetailConfig.setTimeToLiveSeconds(3600);
+
+        EvictionConfig evictionConfig = new EvictionConfig();
+        evictionConfig.setEvictionPolicy(EvictionPolicy.LRU);
+        evictionConfig.setMaxSizePolicy(MaxSizePolicy.PER_NODE);
+        evictionConfig.setSize(1000);
+        teamDetailConfig.setEvictionConfig(evictionConfig);
+        config.addMapConfig(teamDetailConfig);
+
+        MapConfig epochConfig = new MapConfig();
+        epochConfig.setName(TeamDetailCache.EPOCH_MAP);
+        epochConfig.setTimeToLiveSeconds(3600);
+        config.addMapConfig(epochConfig);
+    }
+
+    // 팀 정원 예약 원장 (TeamCapacityReservations). 한동안 초대가 없으면 제거되고 다음 예약 때 DB 팀원 수로 다시 시작
+    private void addTeamCapacityConfig(Config config) {
+        MapConfig capacityConfig = new MapConfig();
+        capacityConfig.setName(TeamCapacityReservations.MAP);
+        capacityConfig.setMaxIdleSeconds(600);
+        config.addMapConfig(capacityConfig);
+    }
+
+    // 채팅 메시지 ID 발급기 (ChatMessageIdGenerator).
+    // 미리 받아 둔 ID 는 발급 시각보다 최대 prefetch 유효 시간만큼 작아 after 커서가 놓칠 수 있으므로 미리 받지 않는다 (멤버는 로컬 발급)
+    private void addChatMessageIdConfig(Config config) {
+        FlakeIdGeneratorConfig idConfig = new FlakeIdGeneratorConfig(ChatMessageIdGenerator.GENERATOR);
+        idConfig.setPrefetchCount(1);
+        config.addFlakeIdGeneratorConfig(idConfig);
+    }
+
+    // 채팅방 메시지 노드 간 팬아웃 토픽 (ChatRoomBroadcaster). 실시간 전달용이라 짧게만 보관하고, 밀리면 오래된 것부터 버린다
+    private void addChatBrokerConfig(Config config) {
+        ReliableTopicConfig topicConfig = new ReliableTopicConfig(ChatRoomBroadcaster.TOPIC_PREFIX + "*");
+        topicConfig.setTopicOverloadPolicy(TopicOverloadPolicy.DISCARD_OLDEST);
+        topicConfig.setReadBatchSize(50);
+        topicConfig.setStatisticsEnabled(true);
+        config.addReliableTopicConfig(topicConfig);
+
+        // ReliableTopic 은 "_hz_rb_" + 토픽명 Ringbuffer 를 사용
+        RingbufferConfig ringbufferConfig = new RingbufferConfig("_hz_rb_" + ChatRoomBroadcaster.TOPIC_PREFIX + "*");
+        ringbufferConfig.setCapacity(10_000);
+        ringbufferConfig.setTimeToLiveSeconds(60);
+        config.addRingBufferConfig(ringbufferConfig);
+    }
+
+    // 채팅방 최근 메시지 버퍼 (HazelcastRecentMessageCache). 노드당 사용 힙 상한을 넘으면 오래 안 쓰인 방부터 제거
+    private void addRecentMessageConfig(Config config) {
+        MapConfig recentConfig = new MapConfig();
+        recentConfig.setName(HazelcastRecentMessageCache.MAP);
+        recentConfig.setMaxIdleSeconds(3600);
+
+        EvictionConfig evictionConfig = new EvictionConfig();
+        evictionConfig.setEvictionPolicy(EvictionPolicy.LRU);
+        evictionConfig.setMaxSizePolicy(MaxSizePolicy.USED_HEAP_SIZE);
+        evictionConfig.setSize(64); // MB
+        recentConfig.setEvictionConfig(evictionConfig);
+        config.addMapConfig(recentConfig);
+    }
+
+    // 접속 현황 (PresenceRegistry). 하트비트가 끊긴 채 남은 항목은 유휴 시간이 지나면 제거
+    private void addPresenceConfig(Config config) {
+        MapConfig presenceConfig = new MapConfig();
+        presenceConfig.setName(PresenceRegistry.MAP);
+        presenceConfig.setMaxIdleSeconds(300);
+        config.addMapConfig(presenceConfig);
+    }
+
+    // 알림 보관함 전송 요청의 노드 간 전달 토픽 (NotificationDispatcher). 유실돼도 보관함에 남으므로 짧게만 보관
+    private void addNotificationConfig(Config config) {
+        ReliableTopicConfig topicConfig = new ReliableTopicConfig(NotificationDispatcher.TOPIC);
+        topicConfig.setTopicOverloadPolicy(TopicOverloadPolicy.DISCARD_OLDEST);
+        config.addReliableTopicConfig(topicConfig);
+
+        RingbufferConfig ringbufferConfig = new RingbufferConfig("_hz_rb_" + NotificationDispatcher.TOPIC);
+        ringbufferConfig.setCapacity(10_000);
+        ringbufferConfig.setTimeToLiveSeconds(60);
+        config.addRingBufferConfig(ringbufferConfig);
+    }
+
+    // 채팅방 멤버 ID 집합 (ChatRoomMembershipCache). 전송마다 읽으므로 니어 캐시로 노드 로컬에서 읽고, 변경 시 무효화
+    private void addChatMembershipConfig(Config config) {
+        MapConfig membershipConfig = new MapConfig();
+        membershipConfig.setName(ChatRoomMembershipCache.MAP);
+        membershipConfig.setMaxIdleSeconds(3600);
+
+        NearCacheConfig nearCacheConfig = new NearCacheConfig(ChatRoomMembershipCache.MAP);
+        nearCacheConfig.setInMemoryFormat(InMemoryFormat.OBJECT);
+        nearCacheConfig.setInvalidateOnChange(true);
+        nearCacheConfig.setCacheLocalEntries(true);
+        nearCacheConfig.setEvictionConfig(new EvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                .setSize(10_000));
+        membershipConfig.setNearCacheConfig(nearCacheConfig);
+        config.addMapConfig(membershipConfig);
+    }
+
     @Bean
     public HazelcastInstance hazelcastInstance(Config config) {
         return Hazelcast.newHazelcastInstance(config);
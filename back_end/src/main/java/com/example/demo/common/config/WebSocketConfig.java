@@ -1,16 +1,25 @@
 package com.example.demo.common.config;
 
+import com.example.demo.chat.handler.OutboundBackpressure;
+import com.example.demo.chat.handler.StompAuthInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${front.url}")
     private String frontCORSUrl;
+
+    private final StompAuthInterceptor stompAuthInterceptor;
+    private final OutboundBackpressure outboundBackpressure;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         //topic 경로로 메시지 송신 가능
@@ -29,5 +38,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-chat").setAllowedOriginPatterns("*")  // CORS 문제를 해결하기 위해 와일드카드 패턴 사용
                 .withSockJS();
     }
-}
 
+    // CONNECT 프레임 JWT 인증
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthInterceptor);
+    }
+
+    // 세션별 송신 큐 제한 (느린 클라이언트가 브로드캐스트를 막지 않도록)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(outboundBackpressure);
+    }
+}
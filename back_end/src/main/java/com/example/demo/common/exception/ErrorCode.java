@@ -23,21 +23,27 @@ public enum ErrorCode {
     TEAM_MEMBER_LIMIT_EXCEEDED(400, "팀 인원 제한을 초과했습니다."),
     TEAM_ACCESS_DENIED(403, "팀 접근 권한이 없습니다."),
     TEAM_REQUEST_ALLREADY_EXIST(400, "팀 초대 요청이 이미 존재합니다."),
+    TEAM_REQUEST_NOT_FOUND(404, "처리 가능한 팀 요청을 찾을 수 없습니다."),
 //    TEAM_REQUEST_ALLREADY_EXIST(400, "팀 초대 요청이 이미 존재합니다."),
 
     // ==================== Chat 관련 에러 ====================
     CHAT_ROOM_NOT_FOUND(404, "채팅방을 찾을 수 없습니다."),
     CHATROOM_MEMBER_ALREADY_EXISTS(400, "이미 채팅방에 참여한 사용자입니다."),
     CHATROOM_MEMBER_NOT_FOUND(404, "채팅방에서 찾을 수 없는 멤버입니다."),
+    CHATROOM_ACCESS_DENIED(403, "채팅방에 메시지를 보낼 권한이 없습니다."),
     INVALID_PRIVATEROOM_REQUEST(400, "userId1, userId2 는 필수 입력 사항입니다."),
     INVALID_CHAT_ROOM_TYPE(400, "유효하지 않은 채팅방 타입입니다."),
+    PRIVATE_CHAT_ROOM_CONFLICT(409, "같은 사용자 간 채팅방이 동시에 생성되었습니다. 다시 시도해주세요."),
+    CHAT_INGEST_BUSY(503, "메시지 전송이 몰리고 있습니다. 잠시 후 다시 시도해주세요."),
 
     // ==================== 공통 에러 ====================
     INVALID_REQUEST(400, "요청이 유효하지 않습니다."),
+    INVALID_CURSOR(400, "유효하지 않은 페이지 커서입니다."),
     INTERNAL_ERROR(500, "서버 내부 오류입니다."),
 
     DATABASE_ERROR(500, "데이터베이스 처리 중 오류가 발생했습니다."),
     DUPLICATE_KEY_ERROR(409, "중복된 키가 존재합니다."),
+    CONCURRENT_MODIFICATION(409, "다른 요청과 동시에 수정되었습니다. 잠시 후 다시 시도해주세요."),
 
     NETWORK_TIMEOUT(504, "네트워크 연결 시간 초과입니다."),
     NETWORK_CONNECT_FAIL(503, "네트워크 연결에 실패했습니다."),
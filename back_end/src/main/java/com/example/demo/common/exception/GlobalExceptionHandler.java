@@ -2,12 +2,14 @@ package com.example.demo.common.exception;
 
 import com.example.demo.common.response.ApiResponse;
 import com.hazelcast.cp.lock.exception.LockAcquireLimitReachedException;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -45,6 +47,15 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponse<>(errorCode.getStatus(), errorMessage, null));
     }
 
+    // 버전 충돌 (재시도 실행기 밖이거나 호출자 트랜잭션에 참여해 재시도하지 못한 경우)
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockException(Exception ex) {
+        ErrorCode code = ErrorCode.CONCURRENT_MODIFICATION;
+        log.warn("버전 충돌: {}", ex.getMessage());
+        return ResponseEntity.status(code.getStatus())
+                .body(new ApiResponse<>(code.getStatus(), code.getMessage(), null));
+    }
+
     // db에러 처리
     @ExceptionHandler(DataAccessException.class)
     public ResponseEntity<ApiResponse<Void>> handleDataAccessException(DataAccessException ex) {
@@ -0,0 +1,144 @@
+package com.example.demo.common.lock;
+
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.transaction.TransactionCallbacks;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 네임스페이스 + 키 단위 분산 락.
+ * 클러스터 멤버가 하나뿐이면 JVM 내 스트라이프 락을, 여러 멤버면 Hazelcast IMap 락(리스 시간 적용)을 사용한다.
+ * 모드는 획득 시점의 멤버 수로 정하므로, 멤버가 합류하는 순간 이미 로컬 락으로 잡힌 구간은 보호 범위에서 벗어날 수 있다.
+ * 해제는 획득한 스레드에서 해야 한다 (try-with-resources 또는 트랜잭션 완료 콜백).
+ */
+@Slf4j
+@Component
+public class DistributedLockService {
+
+    public static final String MAP = "distributedLocks";
+    static final int STRIPES = 64;
+    // 락을 쥔 노드가 죽어도 이 시간이 지나면 해제
+    static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final HazelcastInstance hazelcastInstance;
+    private final IMap<String, Boolean> locks;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final MeterRegistry meterRegistry;
+
+    public DistributedLockService(HazelcastInstance hazelcastInstance, MeterRegistry meterRegistry) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.locks = hazelcastInstance.getMap(MAP);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 락 획득. wait 동안 기다려도 얻지 못하면 LOCK_ACQUIRE_FAILED.
+     * wait 가 0 이면 기다리지 않는다.
+     */
+    public Handle acquire(String namespace, Object key, Duration wait) {
+        return tryAcquire(namespace, key, wait)
+                .orElseThrow(() -> new BusinessException(ErrorCode.LOCK_ACQUIRE_FAILED));
+    }
+
+    // 락 획득 시도, 실패하면 empty
+    public Optional<Handle> tryAcquire(String namespace, Object key, Duration wait) {
+        String lockKey = namespace + ":" + key;
+        boolean local = hazelcastInstance.getCluster().getMembers().size() <= 1;
+        String mode = local ? "local" : "cluster";
+        long start = System.nanoTime();
+
+        boolean acquired = lockNow(lockKey, local);
+        if (!acquired) {
+            meterRegistry.counter("lock.contention", "namespace", namespace).increment();
+            if (!wait.isZero() && !wait.isNegative()) {
+                acquired = lockWithin(lockKey, local, wait);
+            }
+        }
+        meterRegistry.timer("lock.acquire", "namespace", namespace, "mode", mode, "outcome", acquired ? "acquired" : "timeout")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            log.info("락 획득 실패 key={}, mode={}", lockKey, mode);
+            return Optional.empty();
+        }
+        return Optional.of(new Handle(namespace, lockKey, local));
+    }
+
+    /**
+     * 락을 획득하고 현재 트랜잭션이 끝날 때(커밋/롤백) 해제한다.
+     * 검사 후 저장처럼 커밋 전까지 보호해야 하는 구간에 사용. 트랜잭션이 없으면 호출자가 직접 닫아야 한다.
+     */
+    public Handle acquireUntilCompletion(String namespace, Object key, Duration wait) {
+        Handle handle = acquire(namespace, key, wait);
+        TransactionCallbacks.afterCompletion(committed -> handle.close());
+        return handle;
+    }
+
+    private boolean lockNow(String lockKey, boolean local) {
+        return local ? stripe(lockKey).tryLock() : lockWithin(lockKey, false, Duration.ZERO);
+    }
+
+    private boolean lockWithin(String lockKey, boolean local, Duration wait) {
+        try {
+            return local
+                    ? stripe(lockKey).tryLock(wait.toMillis(), TimeUnit.MILLISECONDS)
+                    : locks.tryLock(lockKey, wait.toMillis(), TimeUnit.MILLISECONDS, LEASE.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ReentrantLock stripe(String lockKey) {
+        return stripes[Math.floorMod(lockKey.hashCode(), STRIPES)];
+    }
+
+    /**
+     * 획득한 락. close 는 여러 번 호출해도 한 번만 해제한다.
+     */
+    public final class Handle implements AutoCloseable {
+        private final String namespace;
+        private final String lockKey;
+        private final boolean local;
+        private final long acquiredAt = System.nanoTime();
+        private boolean released;
+
+        private Handle(String namespace, String lockKey, boolean local) {
+            this.namespace = namespace;
+            this.lockKey = lockKey;
+            this.local = local;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            try {
+                if (local) {
+                    stripe(lockKey).unlock();
+                } else {
+                    locks.unlock(lockKey);
+                }
+            } catch (IllegalMonitorStateException e) {
+                // 리스 만료로 이미 풀린 경우
+                log.warn("락 해제 실패 (이미 해제됨) key={}", lockKey);
+            }
+            meterRegistry.timer("lock.held", "namespace", namespace)
+                    .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.common.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오프라인 사용자에게 보류된 알림.
+ * 사용자가 해당 destination 을 구독하면 DeferredNotificationService 가 전송하고 삭제한다.
+ */
+@Entity
+@Table(name = "deferred_notification"
+        , indexes = {
+        @Index(name = "deferred_notification_destination_idx", columnList = "destination, deferred_notification_id"),
+        @Index(name = "deferred_notification_created_at_idx", columnList = "created_at")
+        }
+        )
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeferredNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deferred_notification_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "destination", length = 200, nullable = false)
+    private String destination;
+
+    @Lob
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.common.notification;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DeferredNotificationRepository extends JpaRepository<DeferredNotification, Long> {
+
+    // 보류된 순서대로
+    List<DeferredNotification> findByDestinationOrderByIdAsc(String destination, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DeferredNotification n WHERE n.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,96 @@
+package com.example.demo.common.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 알림 보관함.
+ * 알림은 아웃박스 릴레이 트랜잭션에서 모든 수신자 몫으로 저장되고, 전송은 보관함을 비우는 방식으로만 한다.
+ * 보관된 알림을 JSON 배열 프레임 하나로 전송한 뒤 삭제하므로, 전송 후 삭제 전에 실패하면 다시 전송될 수는 있어도 유실되지 않는다.
+ * 접속 중이 아닌 사용자의 알림은 해당 destination 을 구독할 때 전송되고, RETENTION 이 지난 알림은 주기적으로 삭제한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class DeferredNotificationService {
+
+    static final int DELIVERY_BATCH = 100;
+    static final Duration RETENTION = Duration.ofDays(30);
+
+    private final DeferredNotificationRepository deferredNotificationRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Counter deferred;
+    private final Counter delivered;
+    private final Counter framesSent;
+
+    public DeferredNotificationService(DeferredNotificationRepository deferredNotificationRepository,
+                                       SimpMessagingTemplate messagingTemplate,
+                                       MeterRegistry meterRegistry) {
+        this.deferredNotificationRepository = deferredNotificationRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.deferred = meterRegistry.counter("notification.deferred");
+        this.delivered = meterRegistry.counter("notification.deferred.delivered");
+        this.framesSent = meterRegistry.counter("notification.frames.sent");
+    }
+
+    // destinationPrefix + userId 로 보낼 알림을 수신자별로 저장
+    @Transactional
+    public void defer(String destinationPrefix, Collection<Long> userIds, String payloadJson) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        deferredNotificationRepository.saveAll(userIds.stream()
+                .map(userId -> DeferredNotification.builder()
+                        .userId(userId)
+                        .destination(destinationPrefix + userId)
+                        .payload(payloadJson)
+                        .build())
+                .toList());
+        deferred.increment(userIds.size());
+    }
+
+    // destination 의 보관 알림을 DELIVERY_BATCH 개씩 한 프레임으로 전송한 뒤 삭제 (전송 실패 시 롤백되어 남음)
+    @Transactional
+    public int deliverPending(String destination) {
+        int total = 0;
+        while (true) {
+            List<DeferredNotification> pending = deferredNotificationRepository.findByDestinationOrderByIdAsc(destination, PageRequest.of(0, DELIVERY_BATCH));
+            if (pending.isEmpty()) {
+                break;
+            }
+            messagingTemplate.send(destination, NotificationDispatcher.toMessage(pending.stream()
+                    .map(notification -> notification.getPayload().getBytes(StandardCharsets.UTF_8))
+                    .toList()));
+            framesSent.increment();
+            deferredNotificationRepository.deleteAllInBatch(pending);
+            total += pending.size();
+            if (pending.size() < DELIVERY_BATCH) {
+                break;
+            }
+        }
+        delivered.increment(total);
+        return total;
+    }
+
+    @Scheduled(initialDelayString = "PT10M", fixedDelayString = "PT1H")
+    @Transactional
+    public void purgeExpired() {
+        int purged = deferredNotificationRepository.deleteCreatedBefore(LocalDateTime.now().minus(RETENTION));
+        if (purged > 0) {
+            log.info("만료된 보류 알림 삭제 count={}", purged);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.demo.common.notification;
+
+import com.example.demo.common.transaction.TransactionCallbacks;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.ReliableMessageListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 알림 전송 예약.
+ * 알림 본문은 DeferredNotificationService 보관함(DB)에 있고, 여기서는 비울 destination 만 모아 둔다.
+ * SimpleBroker 는 노드 로컬이므로 수신자 세션이 있는 노드가 보관함을 비워야 한다. 다른 노드 몫은 ReliableTopic(TOPIC)으로 넘긴다.
+ * 같은 destination 으로 COALESCE_WINDOW 안에 들어온 요청은 한 번의 보관함 전송(JSON 배열 프레임)으로 묶인다.
+ * 예약은 메모리에만 있으므로 노드가 죽으면 사라지지만, 알림은 보관함에 남아 다음 구독 때 전송된다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 예약한다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    public static final String TOPIC = "notificationDrain";
+    static final Duration COALESCE_WINDOW = Duration.ofMillis(200);
+
+    private final DeferredNotificationService deferredNotificationService;
+    private final ITopic<DrainRequest> topic;
+    private final String localNode;
+    // destination -> 처음 예약된 시각 (nanoTime)
+    private final Map<String, Long> scheduled = new ConcurrentHashMap<>();
+
+    private final Timer latency;
+    private final Counter coalesced;
+    private final Counter failed;
+    private final Counter forwarded;
+
+    public NotificationDispatcher(DeferredNotificationService deferredNotificationService,
+                                  HazelcastInstance hazelcastInstance,
+                                  MeterRegistry meterRegistry) {
+        this.deferredNotificationService = deferredNotificationService;
+        this.topic = hazelcastInstance.getReliableTopic(TOPIC);
+        this.localNode = hazelcastInstance.getCluster().getLocalMember().getUuid().toString();
+        // 예약부터 전송까지
+        this.latency = meterRegistry.timer("notification.dispatch.latency");
+        // 이미 예약된 destination 에 합쳐진 요청 수
+        this.coalesced = meterRegistry.counter("notification.coalesced");
+        this.failed = meterRegistry.counter("notification.dispatch.failed");
+        // 세션이 있는 다른 노드로 넘긴 요청 수
+        this.forwarded = meterRegistry.counter("notification.dispatch.forwarded");
+        meterRegistry.gauge("notification.queue.depth", scheduled, Map::size);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic.addMessageListener(new DrainListener());
+    }
+
+    // 이 노드 세션의 destination 보관함 전송 예약
+    public void drain(Collection<String> destinations) {
+        drain(localNode, destinations);
+    }
+
+    // node 에 세션이 있는 destination 의 보관함 전송 예약 (다른 노드면 토픽으로 전달)
+    public void drain(String node, Collection<String> destinations) {
+        DrainRequest request = new DrainRequest(node, List.copyOf(destinations));
+        TransactionCallbacks.afterCommit(() -> route(request));
+    }
+
+    private void route(DrainRequest request) {
+        if (localNode.equals(request.node)) {
+            schedule(request.destinations);
+            return;
+        }
+        // 전달이 유실되어도 알림은 보관함에 남아 다음 구독 때 전송된다
+        topic.publishAsync(request).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.warn("알림 전송 요청 전달 실패 node={}", request.node, e);
+            } else {
+                forwarded.increment();
+            }
+        });
+    }
+
+    private void schedule(List<String> destinations) {
+        long now = System.nanoTime();
+        for (String destination : destinations) {
+            if (scheduled.putIfAbsent(destination, now) != null) {
+                coalesced.increment();
+            }
+        }
+    }
+
+    // 예약된 지 COALESCE_WINDOW 가 지난 destination 전송
+    @Scheduled(fixedDelay = 50)
+    public void flush() {
+        flushOlderThan(COALESCE_WINDOW.toNanos());
+    }
+
+    // 예약된 destination 을 모두 전송
+    public void flushAll() {
+        flushOlderThan(-1);
+    }
+
+    private void flushOlderThan(long ageNanos) {
+        long now = System.nanoTime();
+        for (Map.Entry<String, Long> entry : List.copyOf(scheduled.entrySet())) {
+            long scheduledAt = entry.getValue();
+            if (now - scheduledAt < ageNanos || !scheduled.remove(entry.getKey(), scheduledAt)) {
+                continue;
+            }
+            try {
+                deferredNotificationService.deliverPending(entry.getKey());
+            } catch (RuntimeException e) {
+                // 보관함에 남아 있으므로 다음 예약이나 구독 때 다시 전송
+                failed.increment();
+                log.warn("알림 전송 실패 destination={}", entry.getKey(), e);
+            }
+            latency.record(System.nanoTime() - scheduledAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // [payload1,payload2,...] 형태의 JSON 배열 프레임
+    static Message<byte[]> toMessage(List<byte[]> payloads) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write('[');
+        for (int i = 0; i < payloads.size(); i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            body.writeBytes(payloads.get(i));
+        }
+        body.write(']');
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body.toByteArray(), accessor.getMessageHeaders());
+    }
+
+    // 노드 간 전달 단위
+    static final class DrainRequest implements Serializable {
+        private final String node;
+        private final List<String> destinations;
+
+        DrainRequest(String node, List<String> destinations) {
+            this.node = node;
+            this.destinations = destinations;
+        }
+    }
+
+    // 자기 노드 몫만 예약. 뒤처져 유실이 생겨도 리스너가 종료되지 않도록 최신부터 이어서 받는다
+    private final class DrainListener implements ReliableMessageListener<DrainRequest> {
+
+        @Override
+        public void onMessage(com.hazelcast.topic.Message<DrainRequest> message) {
+            DrainRequest request = message.getMessageObject();
+            if (localNode.equals(request.node)) {
+                schedule(request.destinations);
+            }
+        }
+
+        @Override
+        public long retrieveInitialSequence() {
+            return -1;
+        }
+
+        @Override
+        public void storeSequence(long sequence) {
+        }
+
+        @Override
+        public boolean isLossTolerant() {
+            return true;
+        }
+
+        @Override
+        public boolean isTerminal(Throwable failure) {
+            log.warn("알림 전송 요청 토픽 수신 오류", failure);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.common.outbox;
+
+import com.example.demo.common.notification.DeferredNotificationService;
+import com.example.demo.common.notification.NotificationDispatcher;
+import com.example.demo.common.presence.PresenceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxHandler implements OutboxHandler {
+
+    private final NotificationDispatcher notificationDispatcher;
+    private final DeferredNotificationService deferredNotificationService;
+    private final PresenceRegistry presenceRegistry;
+
+    @Override
+    public Set<OutboxEventType> types() {
+        return Set.of(OutboxEventType.NOTIFICATION);
+    }
+
+    // 모든 수신자 몫을 보관함에 저장하고(릴레이 트랜잭션과 함께 커밋), 접속 중인 수신자는 세션이 있는 노드가 커밋 이후 보관함을 비운다
+    @Override
+    public void handle(OutboxEvent event) {
+        List<Long> recipients = event.recipientIds();
+        deferredNotificationService.defer(event.getDestination(), recipients, event.getPayload());
+
+        presenceRegistry.onlineUsersByNode(recipients).forEach((node, userIds) ->
+                notificationDispatcher.drain(node, userIds.stream()
+                        .sorted()
+                        .map(userId -> event.getDestination() + userId)
+                        .toList()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 트랜잭션 아웃박스 항목.
+ * 핵심 쓰기와 같은 트랜잭션에서 저장되고, OutboxRelay 가 커밋 이후 비동기로 부수 효과를 수행한 뒤 삭제한다.
+ * 처리에 실패하면 지수 백오프로 재시도하며, MAX_ATTEMPTS 를 넘기면 FAILED 로 남겨 둔다.
+ */
+@Entity
+@Table(name = "outbox_event"
+        , indexes = {
+        @Index(name = "outbox_event_ready_idx", columnList = "status, next_attempt_at, outbox_event_id")
+        }
+        )
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    public static final int MAX_ATTEMPTS = 10;
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    public enum Status {
+        PENDING, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 30, nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "destination", length = 200)
+    private String destination;
+
+    // 알림 수신자 ID (쉼표 구분). destination + userId 로 전송
+    @Lob
+    @Column(name = "recipients", columnDefinition = "TEXT")
+    private String recipients;
+
+    @Lob
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // 실패 기록 후 다음 시도 시각 계산 (1s, 2s, 4s ... 최대 5분)
+    public void recordFailure(String error, LocalDateTime now) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= MAX_ATTEMPTS) {
+            this.status = Status.FAILED;
+            return;
+        }
+        long backoffSeconds = Math.min(1L << Math.min(attempts - 1, 20), MAX_BACKOFF.getSeconds());
+        this.nextAttemptAt = now.plusSeconds(backoffSeconds);
+    }
+
+    public static OutboxEvent teamChatRoomCreate(Long teamId, Long leaderId) {
+        return OutboxEvent.builder().eventType(OutboxEventType.TEAM_CHAT_ROOM_CREATE).aggregateId(teamId).userId(leaderId).build();
+    }
+
+    public static OutboxEvent teamChatMemberAdd(Long teamId, Long userId) {
+        return OutboxEvent.builder().eventType(OutboxEventType.TEAM_CHAT_MEMBER_ADD).aggregateId(teamId).userId(userId).build();
+    }
+
+    // payload 는 이미 직렬화된 JSON
+    public static OutboxEvent notification(String destinationPrefix, Collection<Long> recipients, String payload) {
+        String joined = recipients.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return OutboxEvent.builder().eventType(OutboxEventType.NOTIFICATION).destination(destinationPrefix).recipients(joined).payload(payload).build();
+    }
+
+    public List<Long> recipientIds() {
+        if (recipients == null || recipients.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(recipients.split(",")).map(Long::valueOf).toList();
+    }
+
+    public static OutboxEvent teamCacheEvict(Long teamId) {
+        return OutboxEvent.builder().eventType(OutboxEventType.TEAM_CACHE_EVICT).aggregateId(teamId).build();
+    }
+
+    public static OutboxEvent userCacheEvict(Long userId) {
+        return OutboxEvent.builder().eventType(OutboxEventType.USER_CACHE_EVICT).aggregateId(userId).build();
+    }
+}
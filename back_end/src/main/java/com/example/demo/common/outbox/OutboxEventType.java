@@ -0,0 +1,14 @@
+package com.example.demo.common.outbox;
+
+public enum OutboxEventType {
+    // 팀 채팅방 생성 (aggregateId = teamId, userId = 팀장)
+    TEAM_CHAT_ROOM_CREATE,
+    // 팀 채팅방 멤버 추가 (aggregateId = teamId, userId = 추가할 사용자)
+    TEAM_CHAT_MEMBER_ADD,
+    // STOMP 알림 (destination + 수신자 ID, payload JSON)
+    NOTIFICATION,
+    // 팀 상세 캐시 무효화 (aggregateId = teamId)
+    TEAM_CACHE_EVICT,
+    // 사용자를 포함한 팀 상세 캐시 무효화 (aggregateId = userId)
+    USER_CACHE_EVICT
+}
@@ -0,0 +1,14 @@
+package com.example.demo.common.outbox;
+
+import java.util.Set;
+
+/**
+ * 아웃박스 항목 처리기. 같은 항목이 두 번 이상 전달될 수 있으므로(at-least-once) 멱등하게 구현한다.
+ * 예외를 던지면 해당 시도는 롤백되고 백오프 후 재시도된다.
+ */
+public interface OutboxHandler {
+
+    Set<OutboxEventType> types();
+
+    void handle(OutboxEvent event);
+}
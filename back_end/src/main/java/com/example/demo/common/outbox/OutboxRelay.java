@@ -0,0 +1,125 @@
+package com.example.demo.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이.
+ * 커밋된 아웃박스 항목을 저장 순서대로 배치로 읽어 처리기에 전달한다.
+ * 항목마다 별도 트랜잭션에서 행 잠금(SKIP LOCKED)으로 선점하므로 여러 노드가 동시에 돌아도 같은 항목을 동시에 처리하지 않는다.
+ * 처리 성공 시 항목을 삭제하고, 실패하면 처리기 작업은 롤백한 뒤 시도 횟수와 다음 시도 시각만 기록한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    static final int BATCH_SIZE = 100;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    // 전파 REQUIRED: 호출자 트랜잭션이 있으면 새로 열지 않고 그 트랜잭션에 참여한다 (항목별 커밋/롤백은 호출자 경계를 따름)
+    private final TransactionTemplate relayTemplate;
+    private final TransactionTemplate failureTemplate;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lagTimer;
+    private final Counter failed;
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxHandler> handlerBeans,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        for (OutboxHandler handler : handlerBeans) {
+            for (OutboxEventType type : handler.types()) {
+                handlers.put(type, handler);
+            }
+        }
+        this.relayTemplate = new TransactionTemplate(transactionManager);
+        this.failureTemplate = new TransactionTemplate(transactionManager);
+        this.failureTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.meterRegistry = meterRegistry;
+        // 저장 시점부터 처리 완료까지 걸린 시간
+        this.lagTimer = meterRegistry.timer("outbox.relay.lag");
+        this.failed = meterRegistry.counter("outbox.relay.dead");
+        meterRegistry.gauge("outbox.relay.oldest.age", oldestPendingAgeMillis);
+    }
+
+    @Scheduled(initialDelay = 5_000, fixedDelay = 500)
+    public void poll() {
+        relayPending();
+    }
+
+    // 처리 가능한 항목을 한 배치 처리하고 성공 건수를 반환
+    public int relayPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.findReady(OutboxEvent.Status.PENDING, now, PageRequest.of(0, BATCH_SIZE));
+        oldestPendingAgeMillis.set(batch.isEmpty() ? 0 : Duration.between(batch.get(0).getCreatedAt(), now).toMillis());
+
+        int relayed = 0;
+        for (OutboxEvent event : batch) {
+            try {
+                Boolean done = relayTemplate.execute(status -> relay(event.getId()));
+                if (Boolean.TRUE.equals(done)) {
+                    relayed++;
+                }
+            } catch (RuntimeException e) {
+                recordFailure(event, e);
+            }
+        }
+        return relayed;
+    }
+
+    private boolean relay(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findByIdForUpdate(eventId).orElse(null);
+        // 이미 처리되었거나 다른 노드가 처리 중
+        if (event == null || event.getStatus() != OutboxEvent.Status.PENDING) {
+            return false;
+        }
+        OutboxHandler handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            throw new IllegalStateException("아웃박스 처리기 없음: " + event.getEventType());
+        }
+        handler.handle(event);
+        outboxEventRepository.delete(event);
+
+        lagTimer.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+        meterRegistry.counter("outbox.relay.processed", "type", event.getEventType().name(), "outcome", "success").increment();
+        return true;
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException cause) {
+        meterRegistry.counter("outbox.relay.processed", "type", event.getEventType().name(), "outcome", "retry").increment();
+        try {
+            failureTemplate.executeWithoutResult(status -> outboxEventRepository.findById(event.getId()).ifPresent(current -> {
+                current.recordFailure(cause.getMessage(), LocalDateTime.now());
+                if (current.getStatus() == OutboxEvent.Status.FAILED) {
+                    failed.increment();
+                    log.error("아웃박스 처리 포기 id={}, type={}, attempts={}", current.getId(), current.getEventType(), current.getAttempts(), cause);
+                } else {
+                    log.warn("아웃박스 처리 실패, 재시도 예정 id={}, type={}, attempts={}, next={}",
+                            current.getId(), current.getEventType(), current.getAttempts(), current.getNextAttemptAt());
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 실패 기록 실패 id={}", event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.common.outbox;
+
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+// 호출자 트랜잭션에 아웃박스 항목을 함께 기록
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void enqueue(OutboxEvent event) {
+        outboxEventRepository.save(event);
+    }
+
+    // 수신자 전체에 대한 알림 1건. 페이로드는 여기서 한 번만 직렬화한다
+    @Transactional
+    public void enqueueNotification(String destinationPrefix, Collection<Long> recipients, Object payload) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        try {
+            enqueue(OutboxEvent.notification(destinationPrefix, recipients, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+}
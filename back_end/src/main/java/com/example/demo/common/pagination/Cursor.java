@@ -0,0 +1,54 @@
+package com.example.demo.common.pagination;
+
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션용 불투명 커서.
+ * (정렬 키, id) 쌍을 Base64(URL-safe)로 인코딩해 클라이언트가 내부 구조에 의존하지 않도록 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sortKey;
+    private final Long id;
+
+    public static Cursor of(String sortKey, Long id) {
+        return new Cursor(sortKey, id);
+    }
+
+    // 정렬 키가 id 자체인 경우
+    public static Cursor of(Long id) {
+        return new Cursor(String.valueOf(id), id);
+    }
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지(null), 형식이 잘못되면 INVALID_CURSOR
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new Cursor(raw.substring(0, idx), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.common.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * @param <T> 항목 타입
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지 응답")
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    @Schema(description = "현재 페이지 항목")
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MTIzfDEyMw")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "전체 항목 수 (withTotal 요청 시에만 포함)", example = "42")
+    private Long totalCount;
+
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor, Long totalCount) {
+        return new CursorPage<>(items, nextCursor, nextCursor != null, totalCount);
+    }
+
+    // 요청 페이지 크기를 [1, MAX_SIZE] 범위로 보정 (null 이면 기본값)
+    public static int resolveSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+}
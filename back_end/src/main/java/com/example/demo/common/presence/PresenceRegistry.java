@@ -0,0 +1,230 @@
+package com.example.demo.common.presence;
+
+import com.hazelcast.cluster.MembershipEvent;
+import com.hazelcast.cluster.MembershipListener;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 접속 현황 (사용자 ID -> 세션 ID, 접속 노드, 마지막 하트비트).
+ * Hazelcast 맵에 두어 어느 노드에서든 같은 현황을 본다. 갱신은 엔트리 프로세서로 한다.
+ * 각 노드는 HEARTBEAT_INTERVAL 마다 자기 세션의 하트비트를 갱신하고, STALE 동안 갱신이 없는 세션(노드 장애 등)은 오프라인으로 본다.
+ * 클러스터에서 노드가 빠지면 그 노드의 세션은 바로 정리한다.
+ */
+@Slf4j
+@Component
+public class PresenceRegistry {
+
+    public static final String MAP = "presence";
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+    static final Duration STALE = HEARTBEAT_INTERVAL.multipliedBy(3);
+
+    private final IMap<Long, Presence> presence;
+    private final String localNode;
+    // 이 노드의 세션 ID -> 사용자 ID
+    private final Map<String, Long> localSessions = new ConcurrentHashMap<>();
+
+    public PresenceRegistry(HazelcastInstance hazelcastInstance, MeterRegistry meterRegistry) {
+        this.presence = hazelcastInstance.getMap(MAP);
+        this.localNode = hazelcastInstance.getCluster().getLocalMember().getUuid().toString();
+        hazelcastInstance.getCluster().addMembershipListener(new MembershipListener() {
+            @Override
+            public void memberAdded(MembershipEvent event) {
+            }
+
+            @Override
+            public void memberRemoved(MembershipEvent event) {
+                dropNode(event.getMember().getUuid().toString());
+            }
+        });
+        meterRegistry.gauge("presence.sessions.local", localSessions, Map::size);
+    }
+
+    public void connected(Long userId, String sessionId) {
+        if (userId == null || sessionId == null) {
+            return;
+        }
+        Long previous = localSessions.putIfAbsent(sessionId, userId);
+        if (previous != null) {
+            return;
+        }
+        presence.executeOnKey(userId, new ConnectProcessor(sessionId, localNode, System.currentTimeMillis()));
+    }
+
+    public void disconnected(String sessionId) {
+        Long userId = sessionId != null ? localSessions.remove(sessionId) : null;
+        if (userId != null) {
+            presence.executeOnKey(userId, new DisconnectProcessor(sessionId));
+        }
+    }
+
+    public boolean hasSession(String sessionId) {
+        return localSessions.containsKey(sessionId);
+    }
+
+    public boolean isOnline(Long userId) {
+        Presence current = presence.get(userId);
+        return current != null && current.isOnline(System.currentTimeMillis());
+    }
+
+    // 주어진 사용자 중 접속 중인 사용자
+    public Set<Long> onlineUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        long now = System.currentTimeMillis();
+        return presence.getAll(new HashSet<>(userIds)).entrySet().stream()
+                .filter(entry -> entry.getValue().isOnline(now))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    // 주어진 사용자 중 접속 중인 사용자를 세션이 있는 노드별로 (여러 노드에 세션이 있으면 각 노드에 포함)
+    public Map<String, Set<Long>> onlineUsersByNode(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        long now = System.currentTimeMillis();
+        Map<String, Set<Long>> byNode = new HashMap<>();
+        presence.getAll(new HashSet<>(userIds)).forEach((userId, current) -> current.sessions.values().stream()
+                .filter(session -> now - session.lastHeartbeat < STALE.toMillis())
+                .forEach(session -> byNode.computeIfAbsent(session.node, node -> new HashSet<>()).add(userId)));
+        return byNode;
+    }
+
+    // 이 노드 세션들의 하트비트 갱신
+    @Scheduled(fixedDelayString = "PT30S")
+    public void heartbeat() {
+        Set<Long> userIds = new HashSet<>(localSessions.values());
+        if (!userIds.isEmpty()) {
+            presence.executeOnKeys(userIds, new HeartbeatProcessor(localNode, System.currentTimeMillis()));
+        }
+    }
+
+    private void dropNode(String node) {
+        try {
+            presence.executeOnEntries(new DropNodeProcessor(node));
+        } catch (RuntimeException e) {
+            // 정리 실패해도 STALE 이후에는 오프라인으로 판단됨
+            log.warn("이탈 노드 접속 정보 정리 실패 node={}", node, e);
+        }
+    }
+
+    static class Presence implements Serializable {
+        // 세션 ID -> 세션 정보
+        final Map<String, SessionInfo> sessions = new HashMap<>();
+
+        boolean isOnline(long now) {
+            return sessions.values().stream().anyMatch(session -> now - session.lastHeartbeat < STALE.toMillis());
+        }
+    }
+
+    static class SessionInfo implements Serializable {
+        final String node;
+        long lastHeartbeat;
+
+        SessionInfo(String node, long lastHeartbeat) {
+            this.node = node;
+            this.lastHeartbeat = lastHeartbeat;
+        }
+    }
+
+    static class ConnectProcessor implements EntryProcessor<Long, Presence, Void> {
+        private final String sessionId;
+        private final String node;
+        private final long now;
+
+        ConnectProcessor(String sessionId, String node, long now) {
+            this.sessionId = sessionId;
+            this.node = node;
+            this.now = now;
+        }
+
+        @Override
+        public Void process(Map.Entry<Long, Presence> entry) {
+            Presence current = entry.getValue() != null ? entry.getValue() : new Presence();
+            current.sessions.put(sessionId, new SessionInfo(node, now));
+            entry.setValue(current);
+            return null;
+        }
+    }
+
+    static class DisconnectProcessor implements EntryProcessor<Long, Presence, Void> {
+        private final String sessionId;
+
+        DisconnectProcessor(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public Void process(Map.Entry<Long, Presence> entry) {
+            Presence current = entry.getValue();
+            if (current == null) {
+                return null;
+            }
+            current.sessions.remove(sessionId);
+            entry.setValue(current.sessions.isEmpty() ? null : current);
+            return null;
+        }
+    }
+
+    static class HeartbeatProcessor implements EntryProcessor<Long, Presence, Void> {
+        private final String node;
+        private final long now;
+
+        HeartbeatProcessor(String node, long now) {
+            this.node = node;
+            this.now = now;
+        }
+
+        @Override
+        public Void process(Map.Entry<Long, Presence> entry) {
+            Presence current = entry.getValue();
+            if (current == null) {
+                return null;
+            }
+            current.sessions.values().stream()
+                    .filter(session -> session.node.equals(node))
+                    .forEach(session -> session.lastHeartbeat = now);
+            // 하트비트가 끊긴 다른 노드 세션도 함께 정리
+            current.sessions.values().removeIf(session -> now - session.lastHeartbeat >= STALE.toMillis());
+            entry.setValue(current.sessions.isEmpty() ? null : current);
+            return null;
+        }
+    }
+
+    static class DropNodeProcessor implements EntryProcessor<Long, Presence, Void> {
+        private final String node;
+
+        DropNodeProcessor(String node) {
+            this.node = node;
+        }
+
+        @Override
+        public Void process(Map.Entry<Long, Presence> entry) {
+            Presence current = entry.getValue();
+            if (current == null) {
+                return null;
+            }
+            if (current.sessions.values().removeIf(session -> session.node.equals(node))) {
+                entry.setValue(current.sessions.isEmpty() ? null : current);
+            }
+            return null;
+        }
+    }
+}
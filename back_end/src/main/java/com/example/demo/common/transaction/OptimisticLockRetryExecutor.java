@@ -0,0 +1,80 @@
+package com.example.demo.common.transaction;
+
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * @Version 충돌 시 트랜잭션 단위로 재시도하는 실행기.
+ * 시도마다 새 트랜잭션을 열고, 커밋 시점의 버전 충돌이면 짧은 백오프 후 처음부터 다시 실행한다.
+ * 호출자 트랜잭션이 이미 있으면 재시도할 수 없으므로(롤백 전용이 됨) 그 트랜잭션에 참여해 한 번만 실행한다.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MILLIS = 20;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetryExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = transactionTemplate.execute(status -> action.get());
+                if (attempt > 1) {
+                    meterRegistry.counter("optimistic.lock.recovered", "operation", operation).increment();
+                }
+                return result;
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                meterRegistry.counter("optimistic.lock.conflict", "operation", operation).increment();
+                if (attempt >= MAX_ATTEMPTS) {
+                    meterRegistry.counter("optimistic.lock.exhausted", "operation", operation).increment();
+                    log.warn("버전 충돌 재시도 초과 operation={}, attempts={}", operation, attempt);
+                    throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+                meterRegistry.counter("optimistic.lock.retry", "operation", operation).increment();
+                log.info("버전 충돌, 재시도 operation={}, attempt={}", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // 동시에 충돌한 요청끼리 같은 시점에 재시도하지 않도록 지터 추가
+    private void backoff(int attempt) {
+        long delay = BASE_BACKOFF_MILLIS * attempt + ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MILLIS);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * 현재 트랜잭션 종료 시점에 실행할 콜백 등록.
+ * 캐시/브로커/분산 자료구조처럼 롤백할 수 없는 부수 효과는 커밋이 확정된 뒤에 반영한다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 트랜잭션이 있으면 커밋 이후에 실행(롤백 시 실행 안 함), 없으면 즉시 실행
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 트랜잭션이 끝나면(커밋/롤백) 커밋 여부를 넘겨 실행한다.
+     * @return 트랜잭션이 없어 등록하지 못했으면 false (호출자가 직접 처리)
+     */
+    public static boolean afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+        return true;
+    }
+}
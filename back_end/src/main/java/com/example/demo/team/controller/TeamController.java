@@ -1,11 +1,15 @@
 package com.example.demo.team.controller;
 
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.common.response.ApiResponse;
 import com.example.demo.team.dto.*;
 import com.example.demo.team.entity.RequestType;
 import com.example.demo.team.entity.TeamMembershipRequest;
 import com.example.demo.team.service.TeamMembershipRequestService;
 import com.example.demo.team.service.TeamService;
+import com.example.demo.team.service.TeamVacancyIndex;
+import com.example.demo.user.Enum.PositionEnum;
+import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,23 +25,54 @@ public class TeamController {
     private final TeamService teamService;
     private final TeamMembershipRequestService teamMembershipRequestService;
     // 1. 팀 생성
+    @Operation(
+            summary = "팀 생성",
+            description = """
+            팀을 생성하고 생성된 팀 상세 정보를 반환합니다.
+
+            **chatRoomId:** 팀 채팅방은 커밋 이후 아웃박스 릴레이가 비동기로 만들므로 이 응답에서는 null 일 수 있습니다.
+            채팅방이 필요하면 `GET /team/{teamId}` 로 다시 조회하세요.
+            """
+    )
     @PostMapping
     public ResponseEntity<ApiResponse<TeamDetailResponse>> createTeam(@Valid @RequestBody TeamRequest teamRequest) {
         return ResponseEntity.ok(ApiResponse.created(teamService.createTeam(teamRequest)));
     }
 
-    // 2. 전체 팀 조회
+    // 2. 전체 팀 조회 (기본: 커서 페이지네이션 / unpaged=true: 기존 전체 목록 응답, 구 클라이언트용)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<TeamDetailResponse>>> getAllTeams() {
-        return ResponseEntity.ok(ApiResponse.ok(teamService.getAllTeams()));
+    public ResponseEntity<ApiResponse<?>> getAllTeams(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(ApiResponse.ok(teamService.getAllTeams()));
+        }
+        return ResponseEntity.ok(ApiResponse.ok(teamService.getTeamPage(cursor, size)));
     }
 
     // 3. 팀 조건 조회
     @PostMapping("/search")
-    public ResponseEntity<ApiResponse<List<TeamDetailResponse>>> searchConditionTeam(@Valid @RequestBody TeamSearchRequest teamRequest) {
+    public ResponseEntity<ApiResponse<CursorPage<TeamDetailResponse>>> searchConditionTeam(@Valid @RequestBody TeamSearchRequest teamRequest) {
         return ResponseEntity.ok(ApiResponse.ok(teamService.searchConditionTeam(teamRequest)));
     }
 
+    // 3-1. 포지션 빈자리 팀 조회 (최근 생성 순 / 많이 채워진 순)
+    @GetMapping("/vacancy")
+    public ResponseEntity<ApiResponse<List<TeamDetailResponse>>> getTeamsWithOpening(
+            @RequestParam PositionEnum position,
+            @RequestParam(defaultValue = "RECENCY") TeamVacancyIndex.Order order,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ApiResponse.ok(teamService.getTeamsWithOpening(position, order, size)));
+    }
+
+    // 3-2. 팀 변경 피드 (since 이후 변경분만, resyncRequired 면 전체 목록을 다시 조회)
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<TeamChangeFeedResponse>> getTeamChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ApiResponse.ok(teamService.getTeamChanges(since, size)));
+    }
+
     // 4. 팀 정보 조회
     @GetMapping("/{teamId}")
     public ResponseEntity<ApiResponse<TeamDetailResponse>> getTeam(@PathVariable Long teamId) {
@@ -106,4 +141,10 @@ public class TeamController {
         return ResponseEntity.ok(ApiResponse.ok());
     }
 
+    @PostMapping("/request/{requestId}/accept")
+    public ResponseEntity<ApiResponse<Void>> acceptOffer(@PathVariable Long requestId) {
+        teamMembershipRequestService.acceptOffer(requestId);
+        return ResponseEntity.ok(ApiResponse.ok());
+    }
+
 }
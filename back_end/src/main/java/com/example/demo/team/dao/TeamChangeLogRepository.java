@@ -0,0 +1,45 @@
+package com.example.demo.team.dao;
+
+import com.example.demo.team.entity.TeamChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TeamChangeLogRepository extends JpaRepository<TeamChangeLog, Long> {
+
+    // 팀의 직전 변경 (변경 종류 구분용)
+    Optional<TeamChangeLog> findTopByTeamIdOrderByIdDesc(Long teamId);
+
+    // since 이후, 반영이 끝난(settledBefore 이전에 기록된) 항목만 버전 순으로
+    @Query("SELECT l FROM TeamChangeLog l WHERE l.id > :since AND l.changedAt <= :settledBefore ORDER BY l.id ASC")
+    List<TeamChangeLog> findSettledAfter(@Param("since") Long since,
+                                         @Param("settledBefore") LocalDateTime settledBefore,
+                                         Pageable pageable);
+
+    @Query("SELECT MAX(l.id) FROM TeamChangeLog l WHERE l.changedAt <= :before")
+    Long findMaxIdChangedBefore(@Param("before") LocalDateTime before);
+
+    @Query("SELECT MIN(l.id) FROM TeamChangeLog l")
+    Long findMinId();
+
+    @Query("SELECT MAX(l.id) FROM TeamChangeLog l")
+    Long findMaxId();
+
+    // 같은 팀의 더 최신 항목이 있는 항목 제거 (가장 오래된 항목은 잘림 기준점이라 남김)
+    @Modifying
+    @Query("DELETE FROM TeamChangeLog l WHERE l.id > :minId AND EXISTS " +
+            "(SELECT n.id FROM TeamChangeLog n WHERE n.teamId = l.teamId AND n.id > l.id)")
+    int deleteSuperseded(@Param("minId") Long minId);
+
+    @Modifying
+    @Query("DELETE FROM TeamChangeLog l WHERE l.id <= :id")
+    int deleteUpTo(@Param("id") Long id);
+}
@@ -1,13 +1,51 @@
 package com.example.demo.team.dao;
 
+import com.example.demo.team.entity.RequestStatus;
+import com.example.demo.team.entity.RequestType;
 import com.example.demo.team.entity.TeamMembershipRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface TeamMembershipRequestRepository extends JpaRepository<TeamMembershipRequest, Long> {
         List<TeamMembershipRequest> findAllByTeamId(Long teamId);
         List<TeamMembershipRequest> findAllByUserId(Long userId);
+
+        boolean existsByTeamIdAndUserIdAndStatus(Long teamId, Long userId, RequestStatus status);
+
+        // 단건 조건부 전이 (이미 다른 상태로 바뀌었으면 0). 모든 전이는 PENDING 에서 나가므로 active_key 를 비운다
+        @Modifying(flushAutomatically = true)
+        @Query("UPDATE TeamMembershipRequest r SET r.status = :to, r.activeKey = NULL WHERE r.id = :id AND r.status = :from")
+        int transition(@Param("id") Long id, @Param("from") RequestStatus from, @Param("to") RequestStatus to);
+
+        // 팀 단위 일괄 전이
+        @Modifying(flushAutomatically = true)
+        @Query("UPDATE TeamMembershipRequest r SET r.status = :to, r.activeKey = NULL " +
+                "WHERE r.team.id = :teamId AND r.requestType = :type AND r.status = :from")
+        int transitionAllOfTeam(@Param("teamId") Long teamId, @Param("type") RequestType type,
+                                @Param("from") RequestStatus from, @Param("to") RequestStatus to);
+
+        // 사용자 단위 일괄 전이 (excludeId 요청 제외)
+        @Modifying(flushAutomatically = true)
+        @Query("UPDATE TeamMembershipRequest r SET r.status = :to, r.activeKey = NULL " +
+                "WHERE r.user.id = :userId AND r.id <> :excludeId AND r.requestType = :type AND r.status = :from")
+        int transitionAllOfUser(@Param("userId") Long userId, @Param("excludeId") Long excludeId, @Param("type") RequestType type,
+                                @Param("from") RequestStatus from, @Param("to") RequestStatus to);
+
+        @Modifying(flushAutomatically = true)
+        @Query("UPDATE TeamMembershipRequest r SET r.status = :to, r.activeKey = NULL WHERE r.id IN :ids AND r.status = :from")
+        int transitionAll(@Param("ids") List<Long> ids, @Param("from") RequestStatus from, @Param("to") RequestStatus to);
+
+        // 만료 대상 (오래된 순)
+        @Query("SELECT r.id FROM TeamMembershipRequest r WHERE r.status = :status AND r.createdAt < :cutoff ORDER BY r.createdAt ASC")
+        List<Long> findIdsCreatedBefore(@Param("status") RequestStatus status, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+        long countByStatusAndCreatedAtBefore(RequestStatus status, LocalDateTime cutoff);
 }
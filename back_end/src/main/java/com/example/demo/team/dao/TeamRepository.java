@@ -2,12 +2,15 @@ package com.example.demo.team.dao;
 
 import com.example.demo.dashboard.dto.TeamDomainCountDto;
 import com.example.demo.dashboard.dto.TechStackCountDto;
+import com.example.demo.team.dto.TeamDetailRow;
 import com.example.demo.team.entity.Team;
 import jakarta.persistence.MapKeyColumn;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,14 +38,48 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             "WHERE t.id=:id")
     Team findTeamAIDtoById(Long id);
 
-    @Query(value = "SELECT DISTINCT t FROM Team t " +
-            "LEFT JOIN FETCH t.teamPreference " +
-            "LEFT JOIN FETCH t.teamVive " +
-            "LEFT JOIN FETCH t.members " +
-            "WHERE SIZE(t.members)<6 "
-    )
-    List<Team> findAvailableTeams();
+    // 비정규화된 member_count 인덱스로 필터링, 컬렉션은 @BatchSize 로 묶어서 로딩 (fetch join 행 폭증 방지)
+    @Query("SELECT t FROM Team t WHERE t.memberCount < :maxMembers")
+    List<Team> findAvailableTeams(@Param("maxMembers") int maxMembers);
+
+    default List<Team> findAvailableTeams() {
+        return findAvailableTeams(Team.MAX_MEMBERS);
+    }
 
     @Query("select t from Team t left join fetch t.membershipRequests where t.id = :teamId")
     Optional<Team> findByIdWithRequests(Long teamId);
+
+    // ==================== 팀 상세 조회용 프로젝션 (TeamReadService) ====================
+    @Query("SELECT new com.example.demo.team.dto.TeamDetailRow(" +
+            "t.id, c.id, t.teamName, t.teamDomain, t.teamDescription, l.id, " +
+            "t.backendCount, t.frontendCount, t.aiCount, t.pmCount, t.designCount, t.status) " +
+            "FROM Team t LEFT JOIN t.leader l LEFT JOIN t.chatRoom c " +
+            "ORDER BY t.id")
+    List<TeamDetailRow> findAllDetailRows();
+
+    @Query("SELECT new com.example.demo.team.dto.TeamDetailRow(" +
+            "t.id, c.id, t.teamName, t.teamDomain, t.teamDescription, l.id, " +
+            "t.backendCount, t.frontendCount, t.aiCount, t.pmCount, t.designCount, t.status) " +
+            "FROM Team t LEFT JOIN t.leader l LEFT JOIN t.chatRoom c " +
+            "WHERE t.id IN :teamIds")
+    List<TeamDetailRow> findDetailRowsByIdIn(Collection<Long> teamIds);
+
+    // 사용자가 팀장/팀원인 팀 (팀 상세 캐시 무효화용)
+    @Query("SELECT DISTINCT t.id FROM Team t LEFT JOIN t.members m WHERE t.leader.id = :userId OR m.id = :userId")
+    List<Long> findTeamIdsByUserId(@Param("userId") Long userId);
+
+    // 검색 인덱스 적재용 (id, 이름, 설명)
+    @Query("SELECT t.id, t.teamName, t.teamDescription FROM Team t")
+    List<Object[]> findAllSearchDocuments();
+
+    // 빈자리 인덱스 적재용 (id, 상태, 팀원 수, 백엔드/프론트/AI/PM/디자인 남은 자리)
+    @Query("SELECT t.id, t.status, t.memberCount, t.openBackendSlots, t.openFrontendSlots, " +
+            "t.openAiSlots, t.openPmSlots, t.openDesignSlots FROM Team t")
+    List<Object[]> findAllVacancyRows();
+
+    @Query("SELECT t.id, v FROM Team t JOIN t.teamVive v WHERE t.id IN :teamIds")
+    List<Object[]> findTeamVives(Collection<Long> teamIds);
+
+    @Query("SELECT t.id, p FROM Team t JOIN t.teamPreference p WHERE t.id IN :teamIds")
+    List<Object[]> findTeamPreferences(Collection<Long> teamIds);
 }
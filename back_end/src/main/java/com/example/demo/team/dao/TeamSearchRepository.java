@@ -0,0 +1,102 @@
+package com.example.demo.team.dao;
+
+import com.example.demo.team.dto.TeamSearchRequest;
+import com.example.demo.team.entity.Team;
+import com.example.demo.team.entity.TeamStatus;
+import com.example.demo.user.Enum.PositionEnum;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.demo.team.entity.QTeam.team;
+
+/**
+ * TeamSearchRequest 를 QueryDSL 조건으로 변환해 DB 에서 필터링한다.
+ * 팀 ID만 키셋(id 내림차순)으로 조회하고, 상세 정보는 TeamReadService 가 집합 쿼리로 조립한다.
+ * 팀 이름 부분 일치는 LIKE 가 결정한다. 노드별 메모리 인덱스(TeamSearchIndex)는 다른 노드의 변경이나 전파 전 변경을 모를 수 있어
+ * 결과를 좁히는 데 쓰지 않고 keyword 검색의 순위에만 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamSearchRepository {
+
+    private static final int IN_CHUNK = 500;
+
+    private final JPAQueryFactory queryFactory;
+
+    // afterId 보다 작은 id 중 조건에 맞는 팀 id를 최신순으로 limit 개 조회
+    public List<Long> findTeamIds(TeamSearchRequest request, Long afterId, int limit) {
+        return queryFactory
+                .select(team.id)
+                .from(team)
+                .where(condition(request), afterId != null ? team.id.lt(afterId) : null)
+                .orderBy(team.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long countTeams(TeamSearchRequest request) {
+        Long count = queryFactory
+                .select(team.count())
+                .from(team)
+                .where(condition(request))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    // 후보 id 중 필터 조건을 만족하는 id만 남긴다 (후보 순서 유지, keyword 는 조건에 포함되지 않음)
+    public List<Long> filterTeamIds(TeamSearchRequest request, List<Long> candidateIds) {
+        BooleanBuilder condition = condition(request);
+        if (!condition.hasValue() || candidateIds.isEmpty()) {
+            return candidateIds;
+        }
+        Set<Long> matched = new HashSet<>();
+        for (int from = 0; from < candidateIds.size(); from += IN_CHUNK) {
+            List<Long> chunk = candidateIds.subList(from, Math.min(from + IN_CHUNK, candidateIds.size()));
+            matched.addAll(queryFactory
+                    .select(team.id)
+                    .from(team)
+                    .where(condition, team.id.in(chunk))
+                    .fetch());
+        }
+        return candidateIds.stream().filter(matched::contains).toList();
+    }
+
+    // 새 필터는 여기에 조건 한 줄만 추가하면 된다
+    private BooleanBuilder condition(TeamSearchRequest request) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (StringUtils.hasText(request.getTeamName())) {
+            builder.and(team.teamName.contains(request.getTeamName()));
+        }
+        if (request.getLeaderId() != null) {
+            builder.and(team.leader.id.eq(request.getLeaderId()));
+        }
+        if (request.getTeamStatus() != null) {
+            builder.and(team.status.eq(request.getTeamStatus()));
+        }
+        if (request.getOpenPosition() != null) {
+            // 빈자리는 DB 의 비정규화 컬럼이 결정한다 (노드별 TeamVacancyIndex 로 좁히지 않음)
+            builder.and(openSlots(request.getOpenPosition()).gt(0))
+                    .and(team.memberCount.lt(Team.MAX_MEMBERS))
+                    .and(team.status.isNull().or(team.status.notIn(TeamStatus.LOCKED, TeamStatus.FULL)));
+        }
+        return builder;
+    }
+
+    private NumberPath<Integer> openSlots(PositionEnum position) {
+        return switch (position) {
+            case BACKEND -> team.openBackendSlots;
+            case FRONTEND -> team.openFrontendSlots;
+            case AI -> team.openAiSlots;
+            case PM -> team.openPmSlots;
+            case DESIGN -> team.openDesignSlots;
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.team.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "팀 변경 피드 응답")
+public class TeamChangeFeedResponse {
+
+    @Schema(description = "다음 요청의 since 로 사용할 버전", example = "1024")
+    private long version;
+
+    @Schema(description = "since 이후 기록이 잘려 전체 목록을 다시 받아야 하는지", example = "false")
+    private boolean resyncRequired;
+
+    @Schema(description = "이번 응답 이후 변경이 더 있는지", example = "false")
+    private boolean hasMore;
+
+    @Schema(description = "팀별 최신 변경 (버전 오름차순)")
+    private List<TeamChangeResponse> changes;
+
+    public static TeamChangeFeedResponse resync(long version) {
+        return new TeamChangeFeedResponse(version, true, false, List.of());
+    }
+}
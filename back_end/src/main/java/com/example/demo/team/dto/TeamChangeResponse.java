@@ -0,0 +1,20 @@
+package com.example.demo.team.dto;
+
+import com.example.demo.team.entity.TeamChangeType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamChangeResponse {
+    private Long version;
+    private Long teamId;
+    private TeamChangeType changeType;
+    private LocalDateTime changedAt;
+    // 현재 팀 상태 (삭제된 팀이면 null)
+    private TeamDetailResponse team;
+}
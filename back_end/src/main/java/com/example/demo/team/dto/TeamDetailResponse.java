@@ -11,6 +11,7 @@ import lombok.Setter;
 import com.example.demo.team.entity.TeamStatus;
 
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
 
@@ -19,12 +20,13 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Schema(description = "팀 상세 정보 응답")
-public class TeamDetailResponse{
+public class TeamDetailResponse implements Serializable {
 
     @Schema(description = "팀 ID", example = "1")
     private Long teamId;
 
-    @Schema(description = "채팅방 Id", example = "1")
+    @Schema(description = "채팅방 Id. 팀 채팅방은 팀 생성 커밋 이후 비동기로 만들어지므로 생성 직후 응답에서는 null 일 수 있다 (팀 상세 재조회 시 채워짐)",
+            example = "1", nullable = true)
     private Long chatRoomId;
 
     @Schema(description = "팀 이름", example = "프로젝트 A팀")
@@ -0,0 +1,25 @@
+package com.example.demo.team.dto;
+
+import com.example.demo.team.entity.TeamStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class TeamDetailRow {
+    // 팀 상세 조회용 스칼라 프로젝션 (컬렉션은 별도 쿼리로 조립)
+    private Long teamId;
+    private Long chatRoomId;
+    private String teamName;
+    private String teamDomain;
+    private String teamDescription;
+    private Long leaderId;
+    private int backendCount;
+    private int frontendCount;
+    private int aiCount;
+    private int pmCount;
+    private int designCount;
+    private TeamStatus status;
+}
@@ -0,0 +1,33 @@
+package com.example.demo.team.dto;
+
+import com.example.demo.team.entity.RequestType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 팀 가입/초대 요청 알림 (/queue/team/offer/{userId})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamOfferNotification {
+    private Long teamId;
+    private String teamName;
+    // 초대 대상 또는 가입 요청자
+    private Long userId;
+    private RequestType requestType;
+    private String message;
+    private LocalDateTime sentAt;
+
+    public static TeamOfferNotification of(TeamOffer teamOffer, String teamName) {
+        return TeamOfferNotification.builder()
+                .teamId(teamOffer.getTeamId())
+                .teamName(teamName)
+                .userId(teamOffer.getUserId())
+                .requestType(teamOffer.getRequestType())
+                .message(teamOffer.getMessage())
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.demo.team.dto;
 
+import com.example.demo.common.pagination.CursorPage;
+import com.example.demo.team.entity.TeamStatus;
+import com.example.demo.user.Enum.PositionEnum;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,7 +13,31 @@ import lombok.Setter;
 @Setter
 public class TeamSearchRequest {
 
+    // ==================== 필터 (TeamSearchRepository.condition 에 조건 추가) ====================
     @Size(min = 2, message = "팀 이름은 최소 2자 이상이어야 합니다.")
     private String teamName;
     private Long leaderId;
+    private TeamStatus teamStatus;
+
+    // 팀 이름/설명 n-gram 검색어, 지정 시 일치도 순으로 정렬 (TeamSearchIndex)
+    @Size(min = 2, message = "검색어는 최소 2자 이상이어야 합니다.")
+    private String keyword;
+
+    // 해당 포지션에 빈자리가 있는 팀만 (TeamVacancyIndex)
+    private PositionEnum openPosition;
+
+    // ==================== 페이지네이션 ====================
+    // 이전 응답의 nextCursor, 첫 페이지는 null
+    private String cursor;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = CursorPage.MAX_SIZE, message = "페이지 크기는 최대 100입니다.")
+    private Integer size;
+
+    // true 이면 전체 건수(count 쿼리)를 함께 반환
+    private boolean withTotal;
+
+    public int pageSize() {
+        return CursorPage.resolveSize(size);
+    }
 }
@@ -1,5 +1,5 @@
 package com.example.demo.team.entity;
 
 public enum RequestStatus {
-    PENDING, ACCEPTED, REJECTED, CANCELED
+    PENDING, ACCEPTED, REJECTED, CANCELED, EXPIRED
 }
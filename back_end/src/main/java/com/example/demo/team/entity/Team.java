@@ -1,20 +1,32 @@
 package com.example.demo.team.entity;
 
+import com.example.demo.user.Enum.PositionEnum;
 import com.example.demo.user.Enum.ProjectGoalEnum;
 import com.example.demo.chat.entity.ChatRoom;
+import com.example.demo.team.event.TeamEntityListener;
 import com.example.demo.user.Enum.ProjectViveEnum;
 import com.example.demo.user.entity.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Entity
-@Table(name = "team")
+@Table(name = "team"
+        , indexes = {
+        @Index(name = "team_leader_idx", columnList = "leader_id"),
+        @Index(name = "team_status_idx", columnList = "team_status"),
+        @Index(name = "team_member_count_idx", columnList = "member_count")
+        }
+        )
+@EntityListeners(TeamEntityListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -26,6 +38,11 @@ public class Team {
     @Column(name = "team_id")
     private Long id;
 
+    // 낙관적 락 (동시 팀원 변경 충돌 감지)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Column(name = "team_name", nullable = true, length = 20)
     @Size(min = 2, max = 20)
 //    @NotBlank 처음에 팀 생성 시 팀 이름이 없기 때문에 주석처리
@@ -43,6 +60,25 @@ public class Team {
     @Column(columnDefinition = "int default 0")
     private int designCount;
 
+    // 팀 정원 (팀장 포함)
+    public static final int MAX_MEMBERS = 6;
+
+    // 현재 팀원 수, members 크기를 비정규화 (refreshCapacity 로 유지)
+    @Column(name = "member_count", columnDefinition = "int default 0")
+    private int memberCount;
+
+    // 포지션별 남은 자리 = 필요 인원 - 해당 대표 포지션 팀원 수 (refreshCapacity 로 유지)
+    @Column(name = "open_backend_slots", columnDefinition = "int default 0")
+    private int openBackendSlots;
+    @Column(name = "open_frontend_slots", columnDefinition = "int default 0")
+    private int openFrontendSlots;
+    @Column(name = "open_ai_slots", columnDefinition = "int default 0")
+    private int openAiSlots;
+    @Column(name = "open_pm_slots", columnDefinition = "int default 0")
+    private int openPmSlots;
+    @Column(name = "open_design_slots", columnDefinition = "int default 0")
+    private int openDesignSlots;
+
     @Column(name = "team_domain", nullable = false, length = 50)
     @Size(min = 2, max = 50)
     @NotBlank
@@ -57,11 +93,13 @@ public class Team {
     private String teamDescription;
 
     @ElementCollection(targetClass = ProjectGoalEnum.class, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Enumerated(EnumType.STRING)
     @Column(name = "team_preference",  nullable = true)
     private Set<ProjectGoalEnum> teamPreference;
 
     @ElementCollection(targetClass = ProjectViveEnum.class, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Enumerated(EnumType.STRING)
     @Column(name = "team_vive",  nullable = true)
     private Set<ProjectViveEnum> teamVive;
@@ -76,6 +114,7 @@ public class Team {
 
     // ✅ 팀 멤버들 (1:N 관계)
     @OneToMany(mappedBy = "team", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<User> members = new ArrayList<>();
 
     @OneToMany(mappedBy = "team", cascade = CascadeType.ALL)
@@ -93,4 +132,36 @@ public class Team {
 
     @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TeamLockRequest> lockRequests = new ArrayList<>();
+
+    // 팀원 수와 포지션별 남은 자리 재계산 (팀원 구성 또는 필요 인원이 바뀔 때 같은 트랜잭션에서 호출)
+    public void refreshCapacity() {
+        List<User> current = members != null ? members : List.of();
+        Map<PositionEnum, Integer> filled = new EnumMap<>(PositionEnum.class);
+        for (User member : current) {
+            PositionEnum position = member.getMainPosition();
+            if (position != null) {
+                filled.merge(position, 1, Integer::sum);
+            }
+        }
+        this.memberCount = current.size();
+        this.openBackendSlots = Math.max(0, backendCount - filled.getOrDefault(PositionEnum.BACKEND, 0));
+        this.openFrontendSlots = Math.max(0, frontendCount - filled.getOrDefault(PositionEnum.FRONTEND, 0));
+        this.openAiSlots = Math.max(0, aiCount - filled.getOrDefault(PositionEnum.AI, 0));
+        this.openPmSlots = Math.max(0, pmCount - filled.getOrDefault(PositionEnum.PM, 0));
+        this.openDesignSlots = Math.max(0, designCount - filled.getOrDefault(PositionEnum.DESIGN, 0));
+    }
+
+    public int getOpenSlots(PositionEnum position) {
+        return switch (position) {
+            case BACKEND -> openBackendSlots;
+            case FRONTEND -> openFrontendSlots;
+            case AI -> openAiSlots;
+            case PM -> openPmSlots;
+            case DESIGN -> openDesignSlots;
+        };
+    }
+
+    public boolean isFull() {
+        return memberCount >= MAX_MEMBERS;
+    }
 }
@@ -0,0 +1,63 @@
+package com.example.demo.team.entity;
+
+import com.example.demo.team.event.TeamChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀 변경 피드 항목.
+ * id 가 단조 증가하는 피드 버전이며, 클라이언트는 마지막으로 받은 버전 이후의 항목만 받아 간다.
+ * memberCount / teamStatus 는 직전 항목과 비교해 변경 종류를 구분하는 데 사용한다.
+ */
+@Entity
+@Table(name = "team_change_log"
+        , indexes = {
+        @Index(name = "team_change_log_team_idx", columnList = "team_id, change_id"),
+        @Index(name = "team_change_log_changed_at_idx", columnList = "changed_at")
+        }
+        )
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", length = 20, nullable = false)
+    private TeamChangeType changeType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "team_status", length = 20)
+    private TeamStatus teamStatus;
+
+    @Column(name = "member_count")
+    private int memberCount;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.changedAt = LocalDateTime.now();
+    }
+
+    public static TeamChangeLog of(TeamChangeType changeType, TeamChangedEvent event) {
+        return TeamChangeLog.builder()
+                .teamId(event.getTeamId())
+                .changeType(changeType)
+                .teamStatus(event.getStatus())
+                .memberCount(event.getMemberCount())
+                .build();
+    }
+}
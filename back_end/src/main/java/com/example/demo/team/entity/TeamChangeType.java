@@ -0,0 +1,16 @@
+package com.example.demo.team.entity;
+
+// 팀 변경 피드 항목 종류. 한 트랜잭션에서 여러 변경이 겹치면 우선순위가 높은 쪽으로 합친다
+public enum TeamChangeType {
+    UPDATED(0), MEMBER_JOINED(1), MEMBER_LEFT(1), LOCKED(2), CREATED(3), DELETED(4);
+
+    private final int priority;
+
+    TeamChangeType(int priority) {
+        this.priority = priority;
+    }
+
+    public TeamChangeType merge(TeamChangeType other) {
+        return other != null && other.priority > priority ? other : this;
+    }
+}
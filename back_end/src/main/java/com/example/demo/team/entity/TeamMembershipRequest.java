@@ -6,7 +6,14 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "team_membership_request")
+@Table(name = "team_membership_request"
+        , indexes = {
+        // 만료 스캔용
+        @Index(name = "team_membership_request_status_created_idx", columnList = "status, created_at"),
+        // 중복 요청 확인용
+        @Index(name = "team_membership_request_team_user_status_idx", columnList = "team_id, user_id, status")
+        }
+        )
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,7 +40,7 @@ public class TeamMembershipRequest {
     @Column(name = "request_type", length = 15, nullable = false)
     private RequestType requestType;
 
-    // 요청 상태: PENDING, ACCEPTED, REJECTED, CANCELED
+    // 요청 상태: PENDING, ACCEPTED, REJECTED, CANCELED, EXPIRED
     @Enumerated(EnumType.STRING)
     @Column(length = 20, nullable = false)
     @Builder.Default
@@ -48,9 +55,29 @@ public class TeamMembershipRequest {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    // 대기 중일 때만 "teamId:userId", 그 외 NULL. 팀-사용자당 대기 요청 1건을 유니크 제약으로 보장 (부분 유니크 인덱스 대용)
+    @Column(name = "active_key", length = 50, unique = true)
+    private String activeKey;
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
+        syncActiveKey();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        syncActiveKey();
+    }
+
+    private void syncActiveKey() {
+        this.activeKey = status == RequestStatus.PENDING && team != null && user != null
+                ? activeKey(team.getId(), user.getId())
+                : null;
+    }
+
+    public static String activeKey(Long teamId, Long userId) {
+        return teamId + ":" + userId;
     }
 
     // ✅ 양방향 헬퍼 메서드
@@ -0,0 +1,157 @@
+package com.example.demo.team.event;
+
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.entity.TeamChangeLog;
+import com.example.demo.team.entity.TeamChangeType;
+import com.example.demo.team.service.TeamChangeFeed;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 변경 전파기.
+ * - 커밋 직전: 영속성 컨텍스트를 먼저 flush 해 커밋 시점까지 미뤄진 팀 변경도 엔티티 리스너로 모은 뒤,
+ *   팀별 최종 변경을 같은 트랜잭션에서 TeamChangeFeed 에 기록한다 (기록 실패 시 팀 변경도 롤백).
+ *   커밋 콜백은 팀을 읽거나 저장하는 시점(TeamEntityListener)에 미리 등록한다.
+ * - 커밋: 팀별 최종 스냅샷으로 로컬 TeamChangedEvent 를 발행하고, 변경된 팀 ID를 Hazelcast 토픽으로 브로드캐스트한다.
+ *   다른 노드는 DB에서 다시 읽어 반영한다. 공유 인덱스는 커밋되지 않은 변경을 보지 않는다.
+ * - 롤백: 아무것도 반영하지 않는다.
+ * 트랜잭션 밖에서는 별도 트랜잭션으로 즉시 기록하고 발행한다.
+ */
+@Slf4j
+@Component
+public class TeamChangePublisher {
+
+    public static final String TOPIC = "teamChanged";
+    private static final Object PENDING_KEY = TeamChangePublisher.class.getName() + ".pending";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final HazelcastInstance hazelcastInstance;
+    private final TeamRepository teamRepository;
+    private final TeamChangeFeed teamChangeFeed;
+    private final TransactionTemplate resyncTemplate;
+    private final TransactionTemplate logTemplate;
+    private ITopic<Long> topic;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TeamChangePublisher(ApplicationEventPublisher eventPublisher,
+                               HazelcastInstance hazelcastInstance,
+                               TeamRepository teamRepository,
+                               TeamChangeFeed teamChangeFeed,
+                               PlatformTransactionManager transactionManager) {
+        this.eventPublisher = eventPublisher;
+        this.hazelcastInstance = hazelcastInstance;
+        this.teamRepository = teamRepository;
+        this.teamChangeFeed = teamChangeFeed;
+        // 트랜잭션 완료 콜백 안에서도 새 영속성 컨텍스트로 커밋된 상태를 읽는다
+        this.resyncTemplate = new TransactionTemplate(transactionManager);
+        this.resyncTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.resyncTemplate.setReadOnly(true);
+        // 트랜잭션 밖 변경은 flush 중인 영속성 컨텍스트가 아닌 새 트랜잭션에서 기록
+        this.logTemplate = new TransactionTemplate(transactionManager);
+        this.logTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = hazelcastInstance.getTopic(TOPIC);
+        topic.addMessageListener(message -> {
+            // 자신이 보낸 메시지는 이미 로컬에 반영됨
+            if (message.getPublishingMember() != null && message.getPublishingMember().localMember()) {
+                return;
+            }
+            resync(message.getMessageObject());
+        });
+    }
+
+    public void publish(TeamChangedEvent event, TeamChangeType changeType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            logTemplate.executeWithoutResult(status -> teamChangeFeed.append(List.of(TeamChangeLog.of(changeType, event))));
+            eventPublisher.publishEvent(event);
+            topic.publish(event.getTeamId());
+            return;
+        }
+        pendingChanges().merge(event.getTeamId(), new PendingChange(changeType, event),
+                (previous, current) -> new PendingChange(previous.changeType().merge(current.changeType()), current.event()));
+    }
+
+    // 쓰기 트랜잭션에서 팀을 읽으면 커밋 콜백을 미리 등록 (커밋 시점 flush 로 생기는 변경도 기록되도록)
+    public void track() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pendingChanges();
+        }
+    }
+
+    // DB(커밋된 상태) 기준으로 다시 읽어 로컬 리스너에 반영
+    public void resync(Long teamId) {
+        TeamChangedEvent event = resyncTemplate.execute(status -> teamRepository.findById(teamId)
+                .map(TeamChangedEvent::of)
+                .orElseGet(() -> TeamChangedEvent.deleted(teamId)));
+        eventPublisher.publishEvent(event);
+    }
+
+    // 트랜잭션 내 팀별 변경 종류 + 마지막 스냅샷
+    private record PendingChange(TeamChangeType changeType, TeamChangedEvent event) {
+    }
+
+    // 트랜잭션 당 변경된 팀 모음, 커밋 콜백은 한 번만 등록
+    @SuppressWarnings("unchecked")
+    private Map<Long, PendingChange> pendingChanges() {
+        Map<Long, PendingChange> pending = (Map<Long, PendingChange>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending != null) {
+            return pending;
+        }
+        Map<Long, PendingChange> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 아직 flush 되지 않은 팀 변경을 지금 반영해 리스너가 created 에 합치도록 한다
+                if (!readOnly && TransactionSynchronizationManager.isActualTransactionActive()) {
+                    entityManager.flush();
+                }
+                List<TeamChangeLog> changes = new ArrayList<>();
+                for (PendingChange change : created.values()) {
+                    changes.add(TeamChangeLog.of(change.changeType(), change.event()));
+                }
+                teamChangeFeed.append(changes);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                if (status != STATUS_COMMITTED) {
+                    return;
+                }
+                for (PendingChange change : created.values()) {
+                    Long teamId = change.event().getTeamId();
+                    try {
+                        eventPublisher.publishEvent(change.event());
+                        topic.publish(teamId);
+                    } catch (RuntimeException e) {
+                        log.warn("팀 변경 전파 실패 teamId={}", teamId, e);
+                    }
+                }
+            }
+        });
+        return created;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.team.event;
+
+import com.example.demo.team.entity.Team;
+import com.example.demo.team.entity.TeamStatus;
+import com.example.demo.user.Enum.PositionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 팀 행이 생성/수정/삭제되었음을 알리는 로컬 이벤트.
+ * 변경 시점의 팀 스냅샷을 담아, 리스너(상주 인덱스 등)가 DB 재조회 없이 갱신할 수 있게 한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TeamChangedEvent {
+
+    private final Long teamId;
+    private final boolean deleted;
+    private final String teamName;
+    private final String teamDescription;
+    private final TeamStatus status;
+    private final int memberCount;
+    // 포지션별 남은 자리
+    private final Map<PositionEnum, Integer> openSlots;
+
+    public static TeamChangedEvent of(Team team) {
+        Map<PositionEnum, Integer> openSlots = new EnumMap<>(PositionEnum.class);
+        for (PositionEnum position : PositionEnum.values()) {
+            openSlots.put(position, team.getOpenSlots(position));
+        }
+        return new TeamChangedEvent(team.getId(), false, team.getTeamName(), team.getTeamDescription(),
+                team.getStatus(), team.getMemberCount(), openSlots);
+    }
+
+    public static TeamChangedEvent deleted(Long teamId) {
+        return new TeamChangedEvent(teamId, true, null, null, null, 0, Map.of());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.team.event;
+
+import com.example.demo.team.entity.Team;
+import com.example.demo.team.entity.TeamChangeType;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Team 엔티티 생명주기 리스너.
+ * 서비스/리포지토리 어느 경로로 저장되든 TeamChangePublisher 로 변경을 전달한다.
+ * (EntityManagerFactory 생성 시점 순환 참조를 피하기 위해 ObjectProvider 로 지연 조회)
+ */
+@Component
+public class TeamEntityListener {
+
+    private final ObjectProvider<TeamChangePublisher> publisher;
+
+    public TeamEntityListener(ObjectProvider<TeamChangePublisher> publisher) {
+        this.publisher = publisher;
+    }
+
+    // 수정/삭제는 커밋 시점 flush 에서야 드러날 수 있으므로 읽는 시점에 커밋 콜백을 등록해 둔다
+    @PostLoad
+    public void onLoaded(Team team) {
+        publisher.ifAvailable(TeamChangePublisher::track);
+    }
+
+    @PostPersist
+    public void onCreated(Team team) {
+        publisher.ifAvailable(p -> p.publish(TeamChangedEvent.of(team), TeamChangeType.CREATED));
+    }
+
+    @PostUpdate
+    public void onUpdated(Team team) {
+        publisher.ifAvailable(p -> p.publish(TeamChangedEvent.of(team), TeamChangeType.UPDATED));
+    }
+
+    @PostRemove
+    public void onRemoved(Team team) {
+        publisher.ifAvailable(p -> p.publish(TeamChangedEvent.deleted(team.getId()), TeamChangeType.DELETED));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.team.service;
+
+import com.example.demo.common.outbox.OutboxEvent;
+import com.example.demo.common.outbox.OutboxEventType;
+import com.example.demo.common.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// 팀 상세 캐시 무효화 (커밋 직후 무효화가 유실된 경우의 보강, 중복 무효화는 무해)
+@Component
+@RequiredArgsConstructor
+public class TeamCacheOutboxHandler implements OutboxHandler {
+
+    private final TeamDetailCache teamDetailCache;
+
+    @Override
+    public Set<OutboxEventType> types() {
+        return Set.of(OutboxEventType.TEAM_CACHE_EVICT, OutboxEventType.USER_CACHE_EVICT);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        if (event.getEventType() == OutboxEventType.TEAM_CACHE_EVICT) {
+            teamDetailCache.evictTeamNow(event.getAggregateId());
+        } else {
+            teamDetailCache.evictUserNow(event.getAggregateId());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.demo.team.service;
+
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.transaction.TransactionCallbacks;
+import com.example.demo.team.entity.Team;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 팀 정원 예약.
+ * 팀원 추가 전에 팀별 슬롯을 Hazelcast 엔트리 프로세서로 원자적으로 예약한다 (키 파티션 스레드에서 실행되므로 락 없음).
+ * 예약은 트랜잭션 커밋 시 확정(팀원 수 +1), 롤백 시 해제되며, 완료 콜백이 유실되어도 만료 시간이 지나면 자동 해제된다.
+ */
+@Slf4j
+@Component
+public class TeamCapacityReservations {
+
+    public static final String MAP = "teamCapacityReservations";
+    // 트랜잭션 타임아웃보다 넉넉하게
+    static final long HOLD_MILLIS = 30_000;
+
+    private final IMap<Long, SlotLedger> ledgers;
+    private final Counter acquired;
+    private final Counter rejectedFull;
+    private final Counter rejectedContended;
+    private final Timer reserveTimer;
+
+    public TeamCapacityReservations(HazelcastInstance hazelcastInstance, MeterRegistry meterRegistry) {
+        this.ledgers = hazelcastInstance.getMap(MAP);
+        this.acquired = meterRegistry.counter("team.capacity.reservation", "outcome", "acquired");
+        // 확정된 팀원만으로 정원이 찬 경우
+        this.rejectedFull = meterRegistry.counter("team.capacity.reservation", "outcome", "full");
+        // 진행 중인 다른 예약 때문에 거절된 경우 (경합)
+        this.rejectedContended = meterRegistry.counter("team.capacity.reservation", "outcome", "contended");
+        this.reserveTimer = meterRegistry.timer("team.capacity.reservation.latency");
+    }
+
+    /**
+     * 팀원 1명 자리를 예약한다. 정원이 찼으면 TEAM_MEMBER_LIMIT_EXCEEDED.
+     * 트랜잭션 안에서 호출하면 커밋 시 확정, 롤백 시 해제가 자동으로 등록된다.
+     *
+     * @param currentMemberCount DB 에서 읽은 현재 팀원 수
+     */
+    public String reserve(Long teamId, int currentMemberCount) {
+        String reservationId = UUID.randomUUID().toString();
+        ReserveResult result = reserveTimer.record(() -> ledgers.executeOnKey(teamId,
+                new ReserveProcessor(reservationId, currentMemberCount, Team.MAX_MEMBERS, System.currentTimeMillis() + HOLD_MILLIS)));
+
+        if (result != ReserveResult.ACQUIRED) {
+            (result == ReserveResult.CONTENDED ? rejectedContended : rejectedFull).increment();
+            log.info("팀 정원 예약 거절 teamId={}, result={}", teamId, result);
+            throw new BusinessException(ErrorCode.TEAM_MEMBER_LIMIT_EXCEEDED);
+        }
+        acquired.increment();
+
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (committed) {
+                confirm(teamId, reservationId);
+            } else {
+                release(teamId, reservationId);
+            }
+        });
+        return reservationId;
+    }
+
+    // 예약을 확정된 팀원으로 전환
+    public void confirm(Long teamId, String reservationId) {
+        ledgers.executeOnKey(teamId, new CompleteProcessor(reservationId, true));
+    }
+
+    // 예약 해제 (롤백)
+    public void release(Long teamId, String reservationId) {
+        ledgers.executeOnKey(teamId, new CompleteProcessor(reservationId, false));
+    }
+
+    // 팀원이 나간 경우 (커밋 이후) 확정 인원 감소
+    public void memberLeft(Long teamId) {
+        TransactionCallbacks.afterCommit(() -> ledgers.executeOnKey(teamId, new MemberLeftProcessor()));
+    }
+
+    // 팀 삭제 시 원장 제거
+    public void forget(Long teamId) {
+        ledgers.delete(teamId);
+    }
+
+    enum ReserveResult {
+        ACQUIRED, FULL, CONTENDED
+    }
+
+    /**
+     * 팀별 슬롯 원장.
+     * members: 마지막으로 알려진 확정 팀원 수 (DB 값과 비교해 큰 쪽을 사용, 오래된 스냅샷으로 인한 초과 방지)
+     * pending: 예약 ID → 만료 시각
+     */
+    static class SlotLedger implements Serializable {
+        int members = -1;
+        final Map<String, Long> pending = new HashMap<>();
+
+        void purgeExpired(long now) {
+            pending.values().removeIf(expiresAt -> expiresAt < now);
+        }
+    }
+
+    static class ReserveProcessor implements EntryProcessor<Long, SlotLedger, ReserveResult> {
+        private final String reservationId;
+        private final int currentMemberCount;
+        private final int maxMembers;
+        private final long expiresAt;
+
+        ReserveProcessor(String reservationId, int currentMemberCount, int maxMembers, long expiresAt) {
+            this.reservationId = reservationId;
+            this.currentMemberCount = currentMemberCount;
+            this.maxMembers = maxMembers;
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public ReserveResult process(Map.Entry<Long, SlotLedger> entry) {
+            SlotLedger ledger = entry.getValue() != null ? entry.getValue() : new SlotLedger();
+            ledger.purgeExpired(System.currentTimeMillis());
+            ledger.members = Math.max(ledger.members, currentMemberCount);
+
+            ReserveResult result;
+            if (ledger.members >= maxMembers) {
+                result = ReserveResult.FULL;
+            } else if (ledger.members + ledger.pending.size() >= maxMembers) {
+                result = ReserveResult.CONTENDED;
+            } else {
+                ledger.pending.put(reservationId, expiresAt);
+                result = ReserveResult.ACQUIRED;
+            }
+            entry.setValue(ledger);
+            return result;
+        }
+    }
+
+    static class CompleteProcessor implements EntryProcessor<Long, SlotLedger, Void> {
+        private final String reservationId;
+        private final boolean committed;
+
+        CompleteProcessor(String reservationId, boolean committed) {
+            this.reservationId = reservationId;
+            this.committed = committed;
+        }
+
+        @Override
+        public Void process(Map.Entry<Long, SlotLedger> entry) {
+            SlotLedger ledger = entry.getValue();
+            if (ledger == null) {
+                return null;
+            }
+            // 만료로 이미 해제된 예약이라도 커밋되었다면 인원은 반영
+            ledger.pending.remove(reservationId);
+            if (committed && ledger.members >= 0) {
+                ledger.members++;
+            }
+            entry.setValue(ledger);
+            return null;
+        }
+    }
+
+    static class MemberLeftProcessor implements EntryProcessor<Long, SlotLedger, Void> {
+        @Override
+        public Void process(Map.Entry<Long, SlotLedger> entry) {
+            SlotLedger ledger = entry.getValue();
+            if (ledger == null) {
+                return null;
+            }
+            ledger.members = Math.max(0, ledger.members - 1);
+            entry.setValue(ledger);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.demo.team.service;
+
+import com.example.demo.common.pagination.CursorPage;
+import com.example.demo.team.dao.TeamChangeLogRepository;
+import com.example.demo.team.dto.TeamChangeFeedResponse;
+import com.example.demo.team.dto.TeamChangeResponse;
+import com.example.demo.team.dto.TeamDetailResponse;
+import com.example.demo.team.entity.TeamChangeLog;
+import com.example.demo.team.entity.TeamChangeType;
+import com.example.demo.team.entity.TeamStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 팀 변경 피드.
+ * 커밋된 팀 변경을 단조 증가 버전으로 기록하고, 클라이언트에는 since 이후의 팀별 최신 변경만 돌려준다.
+ * 오래된 기록은 주기적으로 압축/절단하며, 잘린 구간을 요청하면 resyncRequired 로 전체 재조회를 요구한다.
+ */
+@Slf4j
+@Component
+public class TeamChangeFeed {
+
+    // 동시에 커밋된 기록의 버전 역전(작은 id 가 늦게 보이는 경우)을 흡수하는 대기 시간
+    static final Duration SETTLE = Duration.ofSeconds(2);
+    static final Duration RETENTION = Duration.ofDays(7);
+
+    private final TeamChangeLogRepository teamChangeLogRepository;
+    private final TeamReadService teamReadService;
+    private final TransactionTemplate appendTemplate;
+
+    public TeamChangeFeed(TeamChangeLogRepository teamChangeLogRepository,
+                          TeamReadService teamReadService,
+                          PlatformTransactionManager transactionManager) {
+        this.teamChangeLogRepository = teamChangeLogRepository;
+        this.teamReadService = teamReadService;
+        // 팀 변경 트랜잭션에 참여해 같이 커밋되도록 (트랜잭션이 없을 때만 새로 연다)
+        this.appendTemplate = new TransactionTemplate(transactionManager);
+        this.appendTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+    }
+
+    // 변경 기록 (TeamChangePublisher 가 팀 변경 트랜잭션의 커밋 직전에 호출)
+    public void append(List<TeamChangeLog> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        appendTemplate.executeWithoutResult(status -> {
+            for (TeamChangeLog change : changes) {
+                if (change.getChangeType() == TeamChangeType.UPDATED) {
+                    teamChangeLogRepository.findTopByTeamIdOrderByIdDesc(change.getTeamId())
+                            .ifPresent(previous -> change.setChangeType(refine(previous, change)));
+                }
+            }
+            teamChangeLogRepository.saveAll(changes);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public TeamChangeFeedResponse getChanges(Long since, Integer size) {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(SETTLE);
+        Long settledHead = teamChangeLogRepository.findMaxIdChangedBefore(settledBefore);
+        long head = settledHead != null ? settledHead : 0L;
+
+        if (since == null || since < 0 || isTruncated(since)) {
+            return TeamChangeFeedResponse.resync(head);
+        }
+
+        int limit = CursorPage.resolveSize(size);
+        List<TeamChangeLog> logs = teamChangeLogRepository.findSettledAfter(since, settledBefore, PageRequest.of(0, limit + 1));
+        boolean hasMore = logs.size() > limit;
+        if (hasMore) {
+            logs = logs.subList(0, limit);
+        }
+        if (logs.isEmpty()) {
+            return new TeamChangeFeedResponse(since, false, false, List.of());
+        }
+
+        // 같은 팀의 여러 변경은 마지막 것만 (응답은 어차피 현재 상태를 담는다)
+        Map<Long, TeamChangeLog> latest = new LinkedHashMap<>();
+        for (TeamChangeLog entry : logs) {
+            latest.remove(entry.getTeamId());
+            latest.put(entry.getTeamId(), entry);
+        }
+        List<Long> liveTeamIds = latest.values().stream()
+                .filter(entry -> entry.getChangeType() != TeamChangeType.DELETED)
+                .map(TeamChangeLog::getTeamId)
+                .toList();
+        Map<Long, TeamDetailResponse> details = new HashMap<>();
+        for (TeamDetailResponse detail : teamReadService.getTeamDetails(liveTeamIds)) {
+            details.put(detail.getTeamId(), detail);
+        }
+
+        List<TeamChangeResponse> changes = new ArrayList<>(latest.size());
+        for (TeamChangeLog entry : latest.values()) {
+            changes.add(TeamChangeResponse.builder()
+                    .version(entry.getId())
+                    .teamId(entry.getTeamId())
+                    .changeType(entry.getChangeType())
+                    .changedAt(entry.getChangedAt())
+                    .team(details.get(entry.getTeamId()))
+                    .build());
+        }
+        long version = logs.get(logs.size() - 1).getId();
+        return new TeamChangeFeedResponse(version, false, hasMore, changes);
+    }
+
+    // 압축: 팀별 최신 항목만 남기고, 보관 기간이 지난 항목은 잘라낸다 (가장 최신 항목은 현재 버전 유지를 위해 남김)
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "PT10M")
+    @Transactional
+    public void compact() {
+        Long minId = teamChangeLogRepository.findMinId();
+        Long maxId = teamChangeLogRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return;
+        }
+        int superseded = teamChangeLogRepository.deleteSuperseded(minId);
+
+        int truncated = 0;
+        Long expired = teamChangeLogRepository.findMaxIdChangedBefore(LocalDateTime.now().minus(RETENTION));
+        if (expired != null) {
+            truncated = teamChangeLogRepository.deleteUpTo(Math.min(expired, maxId - 1));
+        }
+        if (superseded > 0 || truncated > 0) {
+            log.info("팀 변경 피드 압축 superseded={}, truncated={}", superseded, truncated);
+        }
+    }
+
+    // 남아 있는 가장 오래된 항목보다 앞의 버전은 잘렸을 수 있음
+    private boolean isTruncated(long since) {
+        Long minId = teamChangeLogRepository.findMinId();
+        Long maxId = teamChangeLogRepository.findMaxId();
+        if (minId == null) {
+            return since > 0;
+        }
+        return since < minId - 1 || since > maxId;
+    }
+
+    // 직전 기록과 비교해 UPDATED 를 잠금 / 합류 / 탈퇴로 구분
+    private TeamChangeType refine(TeamChangeLog previous, TeamChangeLog current) {
+        if (current.getTeamStatus() == TeamStatus.LOCKED && previous.getTeamStatus() != TeamStatus.LOCKED) {
+            return TeamChangeType.LOCKED;
+        }
+        if (current.getMemberCount() > previous.getMemberCount()) {
+            return TeamChangeType.MEMBER_JOINED;
+        }
+        if (current.getMemberCount() < previous.getMemberCount()) {
+            return TeamChangeType.MEMBER_LEFT;
+        }
+        return TeamChangeType.UPDATED;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.team.service;
+
+import com.example.demo.common.outbox.OutboxEvent;
+import com.example.demo.common.outbox.OutboxService;
+import com.example.demo.common.transaction.TransactionCallbacks;
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.dto.TeamDetailResponse;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 팀 상세 캐시.
+ * TeamDetailResponse 는 팀장 + 팀원 프로필을 포함하므로, 프로필 수정 시 그 사용자가 팀장/팀원인 팀을 DB 에서 찾아
+ * 멤버 변경 / 팀 수정과 마찬가지로 영향 받는 팀만 커밋 이후 클러스터 전체에서 무효화(세대 증가)한다.
+ * 로딩 중인 팀도 세대가 바뀌므로 변경 전 값이 저장되지 않는다.
+ * 커밋 직후 콜백이 유실되어도(노드 종료 등) 무효화되도록 같은 트랜잭션에 아웃박스 항목도 남긴다.
+ */
+@Slf4j
+@Component
+public class TeamDetailCache {
+
+    public static final String CACHE_MAP = "teamDetailCache";
+    public static final String EPOCH_MAP = "teamDetailCacheEpoch";
+
+    private final IMap<Long, TeamDetailResponse> cache;
+    // 팀별 무효화 세대. 로딩 중에 무효화가 끼어들면 오래된 값을 저장하지 않기 위해 사용
+    private final IMap<Long, Long> epochs;
+    private final TeamRepository teamRepository;
+    private final OutboxService outboxService;
+
+    public TeamDetailCache(HazelcastInstance hazelcastInstance, TeamRepository teamRepository, OutboxService outboxService) {
+        this.cache = hazelcastInstance.getMap(CACHE_MAP);
+        this.epochs = hazelcastInstance.getMap(EPOCH_MAP);
+        this.teamRepository = teamRepository;
+        this.outboxService = outboxService;
+    }
+
+    // 캐시 조회, 없으면 loader 로 조립 후 저장
+    public TeamDetailResponse get(Long teamId, Supplier<TeamDetailResponse> loader) {
+        TeamDetailResponse cached = cache.get(teamId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long epoch = epochs.get(teamId);
+        TeamDetailResponse loaded = loader.get();
+
+        // 쓰기 트랜잭션 안에서는 아직 커밋되지 않은 값일 수 있으므로 저장하지 않는다
+        if (loaded == null || !isCacheableTransaction()) {
+            return loaded;
+        }
+
+        cache.set(teamId, loaded);
+
+        // 저장 직전에 무효화가 일어났다면 방금 넣은 값을 다시 제거
+        if (!Objects.equals(epoch, epochs.get(teamId))) {
+            cache.delete(teamId);
+        }
+        return loaded;
+    }
+
+    // 팀 단위 무효화 (팀 수정/삭제/잠금, 멤버 변경)
+    public void evictTeam(Long teamId) {
+        if (teamId == null) {
+            return;
+        }
+        if (isWriteTransaction()) {
+            outboxService.enqueue(OutboxEvent.teamCacheEvict(teamId));
+        }
+        TransactionCallbacks.afterCommit(() -> evictTeamNow(teamId));
+    }
+
+    // 사용자 단위 무효화 - 해당 사용자를 포함하는 팀만 제거 (프로필 수정, 탈퇴)
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (isWriteTransaction()) {
+            outboxService.enqueue(OutboxEvent.userCacheEvict(userId));
+        }
+        // 변경 전 소속으로 조회 (탈퇴로 소속이 사라지는 경우 포함)
+        List<Long> teamIds = teamRepository.findTeamIdsByUserId(userId);
+        TransactionCallbacks.afterCommit(() -> evictTeamsNow(teamIds));
+    }
+
+    // 즉시 무효화 (아웃박스 릴레이에서 호출)
+    public void evictUserNow(Long userId) {
+        evictTeamsNow(teamRepository.findTeamIdsByUserId(userId));
+    }
+
+    private void evictTeamsNow(Collection<Long> teamIds) {
+        for (Long teamId : teamIds) {
+            evictTeamNow(teamId);
+        }
+    }
+
+    // 즉시 무효화 (아웃박스 릴레이에서 호출)
+    public void evictTeamNow(Long teamId) {
+        epochs.set(teamId, System.nanoTime());
+        cache.delete(teamId);
+        log.debug("팀 상세 캐시 무효화 teamId={}", teamId);
+    }
+
+    private boolean isWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private boolean isCacheableTransaction() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+}
@@ -2,6 +2,7 @@ package com.example.demo.team.service;
 
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.lock.DistributedLockService;
 import com.example.demo.team.dao.TeamLockRequestRepository;
 import com.example.demo.team.dao.TeamRepository;
 import com.example.demo.team.dto.TeamLockCreateRequest;
@@ -13,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +24,7 @@ import java.util.stream.Collectors;
 public class TeamLockRequestService {
     private final TeamLockRequestRepository teamLockRequestRepository;
     private final TeamRepository teamRepository;
+    private final DistributedLockService distributedLockService;
 
     public List<TeamLockResponse> getAllLockRequest(){
         return teamLockRequestRepository.findAll().stream()
@@ -31,6 +34,9 @@ public class TeamLockRequestService {
 
     @Transactional
     public void saveRequest(TeamLockCreateRequest teamLockCreateRequest){
+        // 대기 요청 확인 ~ 저장이 커밋될 때까지 같은 팀의 동시 요청 차단
+        distributedLockService.acquireUntilCompletion("teamLockRequest", teamLockCreateRequest.getTeamId(), Duration.ofSeconds(2));
+
         List<TeamLockRequest> requests = teamLockRequestRepository.findAllByTeamId(teamLockCreateRequest.getTeamId());
 
         boolean hasPending = requests.stream()
@@ -2,6 +2,8 @@ package com.example.demo.team.service;
 
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.outbox.OutboxService;
+import com.example.demo.common.transaction.OptimisticLockRetryExecutor;
 import com.example.demo.team.dao.TeamMembershipRequestRepository;
 import com.example.demo.team.dao.TeamRepository;
 import com.example.demo.team.dto.*;
@@ -11,21 +13,16 @@ import com.example.demo.team.entity.Team;
 import com.example.demo.team.entity.TeamMembershipRequest;
 import com.example.demo.user.dao.UserRepository;
 import com.example.demo.user.entity.User;
-import com.hazelcast.core.HazelcastInstance;
-import com.hazelcast.cp.lock.FencedLock;
-import com.hazelcast.cp.lock.exception.LockAcquireLimitReachedException;
-import com.hazelcast.map.IMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.exception.LockAcquisitionException;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.SQLException;
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,88 +31,43 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TeamMembershipRequestService {
 
+    static final String OFFER_DESTINATION = "/queue/team/offer/";
+
     public final TeamMembershipRequestRepository teamMembershipRequestRepository;
     public final TeamRepository teamRepository;
     public final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final HazelcastInstance hazelcastInstance;
+    private final OutboxService outboxService;
+    private final TeamService teamService;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
 
     @Transactional
     public void requestTeamToMember(TeamOffer teamOffer) {
         Team team = teamRepository.findById(teamOffer.getTeamId()).orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
         User user = userRepository.findById(teamOffer.getUserId()).orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        String key = team.getId() + "+" + user.getId();
-        IMap<String,String> lock = hazelcastInstance.getMap("teamMembershipRequestLock");
-        String lockValue = UUID.randomUUID().toString();
-        boolean lockAcquired = false;
-        try {
-            log.info("락 획득 시도 중");
-            String existingLockValue = lock.putIfAbsent(key, lockValue,5,TimeUnit.SECONDS);
-            if(existingLockValue == null) {
-                lockAcquired = true;
-                log.info("락 획득 성공");
-            }
-            else {
-                throw new LockAcquireLimitReachedException("요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
-            }
-            boolean exists = team.getMembershipRequests().stream()
-                    .anyMatch(req -> req.getUser().equals(user) && req.getStatus() != RequestStatus.REJECTED);
-
-            if (exists) {
-                throw new BusinessException(ErrorCode.TEAM_REQUEST_ALLREADY_EXIST);
-            }
-            saveTeamOffer(teamOffer, team, user);
-            log.info("락 획득 후 요청 처리 완료");
-        }
-        finally {
-            if (lockAcquired) {
-                lock.remove(key, lockValue);
-                log.info("락 해제됨");
-            }
-
-        }
+        validateNoPendingRequest(team, user);
+        saveTeamOffer(teamOffer, team, user);
 
-        messagingTemplate.convertAndSend("/queue/team/offer/" + teamOffer.getUserId(), teamOffer.getMessage());
+        // 알림은 커밋 이후 아웃박스 릴레이가 전송
+        outboxService.enqueueNotification(OFFER_DESTINATION, List.of(user.getId()), TeamOfferNotification.of(teamOffer, team.getTeamName()));
     }
     @Transactional
     public void requestMemberToTeam(TeamOffer teamOffer) {
         Team team = teamRepository.findById(teamOffer.getTeamId()).orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
         User user = userRepository.findById(teamOffer.getUserId()).orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        String key = team.getId() + "+" + user.getId();
-        IMap<String, String> lock = hazelcastInstance.getMap("teamMembershipRequestLock");
-        String lockValue = UUID.randomUUID().toString();
-        boolean lockAcquired = false;
-        try {
-            log.info("락 획득 시도 중");
-            String existingLockValue = lock.putIfAbsent(key, lockValue,5,TimeUnit.SECONDS);
-            if(existingLockValue == null) {
-                lockAcquired = true;
-                log.info("락 획득 성공");
-            }
-            else {
-                throw new LockAcquireLimitReachedException("요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
-            }
-
-            boolean exists = team.getMembershipRequests().stream()
-                    .anyMatch(req -> req.getTeam().equals(team) && req.getStatus() != RequestStatus.REJECTED);
-            if (exists) {
-                throw new BusinessException(ErrorCode.TEAM_REQUEST_ALLREADY_EXIST);
-            }
-            saveTeamOffer(teamOffer, team, user);
-            log.info("락 획득 후 요청 처리 완료");
-        }
-        finally {
-            if (lockAcquired) {
-                lock.remove(key, lockValue);
-                log.info("락 해제됨");
-            }
-        }
+        validateNoPendingRequest(team, user);
+        saveTeamOffer(teamOffer, team, user);
 
+        // 팀원 전체에 대한 알림 1건 (페이로드 1회 직렬화)
+        List<Long> memberIds = team.getMembers().stream().map(User::getId).toList();
+        outboxService.enqueueNotification(OFFER_DESTINATION, memberIds, TeamOfferNotification.of(teamOffer, team.getTeamName()));
+    }
 
-        for (User member : team.getMembers()) {
-            messagingTemplate.convertAndSend("/queue/team/offer/" + member.getId(), teamOffer.getMessage());
+    // 같은 팀-사용자 사이의 대기 요청 확인 (인덱스 조회). 동시 요청은 active_key 유니크 제약이 막는다
+    private void validateNoPendingRequest(Team team, User user) {
+        if (teamMembershipRequestRepository.existsByTeamIdAndUserIdAndStatus(team.getId(), user.getId(), RequestStatus.PENDING)) {
+            throw new BusinessException(ErrorCode.TEAM_REQUEST_ALLREADY_EXIST);
         }
     }
 
@@ -129,7 +81,13 @@ public class TeamMembershipRequestService {
         request.setStatus(RequestStatus.PENDING);
         request.setMessage(teamOffer.getMessage()); // 메시지가 있다면
 
-        teamMembershipRequestRepository.save(request);
+        try {
+            teamMembershipRequestRepository.save(request);
+            // 유니크 제약 위반을 이 자리에서 드러내기 위해 즉시 반영
+            teamMembershipRequestRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.TEAM_REQUEST_ALLREADY_EXIST);
+        }
     }
 
     public List<TeamMembershipResponse> getAllTeamRequest(Long teamId) {
@@ -152,19 +110,39 @@ public class TeamMembershipRequestService {
                 .collect(Collectors.toList());
     }
 
-    public void rejectOffer(Long teamId) {
+    // 팀이 보낸 대기 중 초대 일괄 거절 (단일 UPDATE)
+    @Transactional
+    public int rejectOffer(Long teamId) {
+        int rejected = teamMembershipRequestRepository.transitionAllOfTeam(teamId, RequestType.INVITE, RequestStatus.PENDING, RequestStatus.REJECTED);
+        log.info("팀 초대 일괄 거절 teamId={}, count={}", teamId, rejected);
+        return rejected;
+    }
 
-        List<TeamMembershipRequest> requests = teamMembershipRequestRepository.findAllByTeamId(teamId);
+    /**
+     * 요청 1건 수락 후 팀 합류.
+     * 같은 사용자의 나머지 대기 요청은 정리한다 (받은 초대는 거절, 보낸 가입 요청은 취소).
+     * 수락 전이는 PENDING 조건부 UPDATE 이므로 동시에 처리된 요청은 한쪽만 성공한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void acceptOffer(Long requestId) {
+        optimisticLockRetryExecutor.run("team.accept", () -> doAcceptOffer(requestId));
+    }
 
-        // 조건에 맞는 요청만 필터링
-        List<TeamMembershipRequest> filtered = requests.stream()
-                .filter(r -> r.getStatus() == RequestStatus.PENDING && r.getRequestType() == RequestType.INVITE)
-                .collect(Collectors.toList());
+    // 팀 합류(버전 충돌 가능)와 요청 상태 변경을 한 트랜잭션으로 묶어 통째로 재시도한다
+    private void doAcceptOffer(Long requestId) {
+        TeamMembershipRequest request = teamMembershipRequestRepository.findById(requestId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_REQUEST_NOT_FOUND));
+        if (teamMembershipRequestRepository.transition(requestId, RequestStatus.PENDING, RequestStatus.ACCEPTED) == 0) {
+            throw new BusinessException(ErrorCode.TEAM_REQUEST_NOT_FOUND);
+        }
 
-        // 상태를 REJECTED로 변경
-        filtered.forEach(r -> r.setStatus(RequestStatus.REJECTED));
+        Long userId = request.getUser().getId();
+        teamMembershipRequestRepository.transitionAllOfUser(userId, requestId, RequestType.INVITE, RequestStatus.PENDING, RequestStatus.REJECTED);
+        teamMembershipRequestRepository.transitionAllOfUser(userId, requestId, RequestType.JOIN_REQUEST, RequestStatus.PENDING, RequestStatus.CANCELED);
 
-        // DB에 저장
-        teamMembershipRequestRepository.saveAll(filtered);
+        TeamInviteRequest invite = new TeamInviteRequest();
+        invite.setTeamId(request.getTeam().getId());
+        invite.setUserId(userId);
+        teamService.inviteMemberTeam(invite);
     }
 }
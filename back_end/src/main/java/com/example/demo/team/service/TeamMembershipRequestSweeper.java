@@ -0,0 +1,91 @@
+package com.example.demo.team.service;
+
+import com.example.demo.common.lock.DistributedLockService;
+import com.example.demo.team.dao.TeamMembershipRequestRepository;
+import com.example.demo.team.entity.RequestStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오래된 대기 요청 만료.
+ * 만료 대상 ID 를 BATCH_SIZE 씩 읽어 배치마다 짧은 트랜잭션의 단일 UPDATE 로 EXPIRED 전이한다.
+ * 한 번 실행에 MAX_BATCHES 까지만 처리하고, 남은 건수는 backlog 게이지로 노출한다.
+ */
+@Slf4j
+@Component
+public class TeamMembershipRequestSweeper {
+
+    static final Duration TTL = Duration.ofDays(14);
+    static final int BATCH_SIZE = 500;
+    static final int MAX_BATCHES = 20;
+
+    private final TeamMembershipRequestRepository teamMembershipRequestRepository;
+    private final TransactionTemplate batchTemplate;
+    private final DistributedLockService distributedLockService;
+
+    private final Counter expired;
+    private final Timer batchTimer;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public TeamMembershipRequestSweeper(TeamMembershipRequestRepository teamMembershipRequestRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        DistributedLockService distributedLockService,
+                                        MeterRegistry meterRegistry) {
+        this.teamMembershipRequestRepository = teamMembershipRequestRepository;
+        this.batchTemplate = new TransactionTemplate(transactionManager);
+        this.distributedLockService = distributedLockService;
+        this.expired = meterRegistry.counter("team.request.expired");
+        this.batchTimer = meterRegistry.timer("team.request.expiry.batch");
+        // 실행 후에도 남아 있는 만료 대상 수
+        meterRegistry.gauge("team.request.expiry.backlog", backlog);
+    }
+
+    @Scheduled(initialDelayString = "PT2M", fixedDelayString = "PT5M")
+    public void sweep() {
+        // 여러 노드에서 동시에 돌지 않도록
+        Optional<DistributedLockService.Handle> lock = distributedLockService.tryAcquire("teamRequestSweeper", "all", Duration.ZERO);
+        if (lock.isEmpty()) {
+            return;
+        }
+        try (DistributedLockService.Handle ignored = lock.get()) {
+            int count = expireCreatedBefore(LocalDateTime.now().minus(TTL));
+            if (count > 0) {
+                log.info("대기 팀 요청 만료 count={}, backlog={}", count, backlog.get());
+            }
+        }
+    }
+
+    // cutoff 이전에 생성된 PENDING 요청을 만료하고 처리 건수를 반환
+    public int expireCreatedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < MAX_BATCHES; batch++) {
+            List<Long> ids = teamMembershipRequestRepository.findIdsCreatedBefore(RequestStatus.PENDING, cutoff, PageRequest.of(0, BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer updated = batchTimer.record(() -> batchTemplate.execute(status ->
+                    teamMembershipRequestRepository.transitionAll(ids, RequestStatus.PENDING, RequestStatus.EXPIRED)));
+            int count = updated != null ? updated : 0;
+            total += count;
+            expired.increment(count);
+            if (ids.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        backlog.set(teamMembershipRequestRepository.countByStatusAndCreatedAtBefore(RequestStatus.PENDING, cutoff));
+        return total;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.demo.team.service;
+
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.dto.TeamDetailResponse;
+import com.example.demo.team.dto.TeamDetailRow;
+import com.example.demo.user.Enum.PositionEnum;
+import com.example.demo.user.Enum.ProjectGoalEnum;
+import com.example.demo.user.Enum.ProjectViveEnum;
+import com.example.demo.user.Enum.TechEnum;
+import com.example.demo.user.dao.UserRepository;
+import com.example.demo.user.dto.UserDetailResponse;
+import com.example.demo.user.dto.UserDetailRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팀 목록 조회 전용 읽기 경로.
+ * 엔티티 그래프를 순회하지 않고 팀 IN_CHUNK 개마다 고정된 8번의 집합 쿼리로 TeamDetailResponse를 조립한다.
+ * (팀 1 + 팀 컬렉션 2 + 사용자 1 + 사용자 컬렉션 4, IN 목록은 IN_CHUNK 개씩 나눠 조회)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeamReadService {
+
+    // IN 목록 최대 크기 (TeamSearchRepository 와 동일)
+    private static final int IN_CHUNK = 500;
+
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+
+    // 전체 팀 상세 조회 (팀 ID 오름차순)
+    public List<TeamDetailResponse> getAllTeamDetails() {
+        return assemble(teamRepository.findAllDetailRows());
+    }
+
+    // 지정한 팀들의 상세 조회 (요청한 ID 순서 유지)
+    public List<TeamDetailResponse> getTeamDetails(List<Long> teamIds) {
+        if (teamIds == null || teamIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < teamIds.size(); i++) {
+            order.putIfAbsent(teamIds.get(i), i);
+        }
+        List<TeamDetailRow> rows = new ArrayList<>(inChunks(new ArrayList<>(order.keySet()), teamRepository::findDetailRowsByIdIn));
+        rows.sort(Comparator.comparing(row -> order.get(row.getTeamId())));
+        return assemble(rows);
+    }
+
+    // 팀 IN_CHUNK 개씩 나눠 조립해 팀/팀장 IN 목록이 커지지 않게 한다
+    private List<TeamDetailResponse> assemble(List<TeamDetailRow> rows) {
+        List<TeamDetailResponse> responses = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += IN_CHUNK) {
+            responses.addAll(assembleChunk(rows.subList(from, Math.min(from + IN_CHUNK, rows.size()))));
+        }
+        return responses;
+    }
+
+    private List<TeamDetailResponse> assembleChunk(List<TeamDetailRow> rows) {
+        List<Long> teamIds = rows.stream().map(TeamDetailRow::getTeamId).toList();
+        Set<Long> leaderIds = rows.stream()
+                .map(TeamDetailRow::getLeaderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        // 팀 컬렉션
+        Map<Long, Set<ProjectViveEnum>> teamVives = groupToSet(teamRepository.findTeamVives(teamIds), ProjectViveEnum.class);
+        Map<Long, Set<ProjectGoalEnum>> teamPreferences = groupToSet(teamRepository.findTeamPreferences(teamIds), ProjectGoalEnum.class);
+
+        // 팀원 + 팀장
+        List<UserDetailRow> userRows = userRepository.findDetailRowsByTeamIdInOrIdIn(teamIds, leaderIds);
+        List<Long> userIds = userRows.stream().map(UserDetailRow::getUserId).toList();
+
+        // 사용자 컬렉션
+        Map<Long, List<PositionEnum>> wantedPositions = new HashMap<>();
+        Map<Long, Set<TechEnum>> techStacks = new HashMap<>();
+        Map<Long, Set<ProjectGoalEnum>> projectGoals = new HashMap<>();
+        Map<Long, Set<ProjectViveEnum>> projectVives = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            // 팀 하나에 여러 명이므로 사용자 ID 는 한 번 더 나눠 조회
+            wantedPositions = groupToList(inChunks(userIds, userRepository::findWantedPositions), PositionEnum.class);
+            techStacks = groupToSet(inChunks(userIds, userRepository::findTechStacks), TechEnum.class);
+            projectGoals = groupToSet(inChunks(userIds, userRepository::findProjectGoals), ProjectGoalEnum.class);
+            projectVives = groupToSet(inChunks(userIds, userRepository::findProjectVives), ProjectViveEnum.class);
+        }
+
+        Map<Long, UserDetailResponse> usersById = new HashMap<>();
+        Map<Long, List<UserDetailResponse>> membersByTeam = new HashMap<>();
+        for (UserDetailRow row : userRows) {
+            UserDetailResponse user = UserDetailResponse.builder()
+                    .id(row.getUserId())
+                    .userName(row.getUserName())
+                    .role(row.getRole())
+                    .email(row.getEmail())
+                    .major(row.getMajor())
+                    .lastClass(row.getLastClass())
+                    .userProfile(row.getUserProfile())
+                    .wantedPosition(wantedPositions.getOrDefault(row.getUserId(), new ArrayList<>()))
+                    .projectGoal(projectGoals.getOrDefault(row.getUserId(), new HashSet<>()))
+                    .projectVive(projectVives.getOrDefault(row.getUserId(), new HashSet<>()))
+                    .projectExp(row.getProjectExp())
+                    .qualification(row.getQualification())
+                    .techStack(techStacks.getOrDefault(row.getUserId(), new HashSet<>()))
+                    .build();
+            usersById.put(row.getUserId(), user);
+            if (row.getTeamId() != null) {
+                membersByTeam.computeIfAbsent(row.getTeamId(), k -> new ArrayList<>()).add(user);
+            }
+        }
+
+        List<TeamDetailResponse> responses = new ArrayList<>(rows.size());
+        for (TeamDetailRow row : rows) {
+            TeamDetailResponse response = new TeamDetailResponse();
+            response.setTeamId(row.getTeamId());
+            response.setChatRoomId(row.getChatRoomId());
+            response.setTeamName(row.getTeamName());
+            response.setTeamDomain(row.getTeamDomain());
+            response.setTeamVive(teamVives.getOrDefault(row.getTeamId(), new HashSet<>()));
+            response.setTeamPreference(teamPreferences.getOrDefault(row.getTeamId(), new HashSet<>()));
+            response.setBackendCount(row.getBackendCount());
+            response.setFrontendCount(row.getFrontendCount());
+            response.setAiCount(row.getAiCount());
+            response.setPmCount(row.getPmCount());
+            response.setDesignCount(row.getDesignCount());
+            response.setTeamDescription(row.getTeamDescription());
+            response.setLeader(row.getLeaderId() != null ? usersById.get(row.getLeaderId()) : null);
+            response.setMembers(membersByTeam.getOrDefault(row.getTeamId(), new ArrayList<>()));
+            response.setTeamStatus(row.getStatus());
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    // ids 를 IN_CHUNK 개씩 나눠 조회한 결과를 이어 붙인다
+    private <T> List<T> inChunks(List<Long> ids, Function<List<Long>, List<T>> query) {
+        if (ids.size() <= IN_CHUNK) {
+            return query.apply(ids);
+        }
+        List<T> results = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK) {
+            results.addAll(query.apply(ids.subList(from, Math.min(from + IN_CHUNK, ids.size()))));
+        }
+        return results;
+    }
+
+    // (ownerId, value) 행을 ownerId 별 Set으로 묶는다
+    private <E> Map<Long, Set<E>> groupToSet(List<Object[]> rows, Class<E> type) {
+        Map<Long, Set<E>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add(type.cast(row[1]));
+        }
+        return grouped;
+    }
+
+    // (ownerId, value) 행을 ownerId 별 List로 묶는다
+    private <E> Map<Long, List<E>> groupToList(List<Object[]> rows, Class<E> type) {
+        Map<Long, List<E>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add(type.cast(row[1]));
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.demo.team.service;
+
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.event.TeamChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팀 이름/설명 상주 n-gram(bigram) 인덱스.
+ * LIKE '%x%' 는 인덱스를 탈 수 없으므로, 바이그램 역색인으로 후보 팀을 좁힌 뒤 정확도 점수로 정렬한다.
+ * 팀 이름 최소 길이(2)와 한글 특성상 trigram 대신 bigram 을 사용한다.
+ * 기동 시 전체를 적재하고 이후 TeamChangedEvent 로 갱신된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamSearchIndex {
+
+    private static final int GRAM = 2;
+    // 퍼지 매칭 최소 바이그램 일치율
+    private static final double MIN_FUZZY_RATIO = 0.5;
+
+    // 매칭 점수 (높을수록 상위)
+    private static final int SCORE_NAME_EXACT = 1000;
+    private static final int SCORE_NAME_PREFIX = 900;
+    private static final int SCORE_NAME_CONTAINS = 800;
+    private static final int SCORE_DESCRIPTION_CONTAINS = 600;
+    private static final int SCORE_FUZZY_MAX = 500;
+
+    private final TeamRepository teamRepository;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final Long teamId;
+        private final int score;
+    }
+
+    private record Document(String name, String description, Set<String> grams) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        documents.keySet().forEach(this::remove);
+        for (Object[] row : teamRepository.findAllSearchDocuments()) {
+            upsert((Long) row[0], (String) row[1], (String) row[2]);
+        }
+        log.info("팀 검색 인덱스 적재 완료 teams={}, grams={}", documents.size(), postings.size());
+    }
+
+    @EventListener
+    public void onTeamChanged(TeamChangedEvent event) {
+        if (event.getTeamId() == null) {
+            return;
+        }
+        if (event.isDeleted()) {
+            remove(event.getTeamId());
+        } else {
+            upsert(event.getTeamId(), event.getTeamName(), event.getTeamDescription());
+        }
+    }
+
+    public synchronized void upsert(Long teamId, String teamName, String teamDescription) {
+        remove(teamId);
+        String name = normalize(teamName);
+        String description = normalize(teamDescription);
+        Set<String> grams = new HashSet<>(grams(name));
+        grams.addAll(grams(description));
+
+        documents.put(teamId, new Document(name, description, grams));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(teamId);
+        }
+    }
+
+    public synchronized void remove(Long teamId) {
+        Document old = documents.remove(teamId);
+        if (old == null) {
+            return;
+        }
+        for (String gram : old.grams()) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(teamId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // 팀 이름에 query 를 부분 문자열로 포함하는 팀 ID (DB 필터의 후보 집합)
+    public Set<Long> findIdsByName(String query) {
+        String q = normalize(query);
+        Set<Long> result = new HashSet<>();
+        for (Long teamId : candidatesContainingAll(q)) {
+            Document doc = documents.get(teamId);
+            if (doc != null && doc.name().contains(q)) {
+                result.add(teamId);
+            }
+        }
+        return result;
+    }
+
+    // 이름/설명 대상 부분 일치 + 퍼지 검색, 점수 내림차순 → 팀 ID 내림차순
+    public List<Match> search(String keyword) {
+        String q = normalize(keyword);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+        Set<String> queryGrams = grams(q);
+
+        // 후보별 일치한 바이그램 수
+        Map<Long, Integer> hits = new HashMap<>();
+        for (String gram : queryGrams) {
+            for (Long teamId : postings.getOrDefault(gram, Set.of())) {
+                hits.merge(teamId, 1, Integer::sum);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : hits.entrySet()) {
+            Document doc = documents.get(entry.getKey());
+            if (doc == null) {
+                continue;
+            }
+            int score = score(doc, q, (double) entry.getValue() / queryGrams.size());
+            if (score > 0) {
+                matches.add(new Match(entry.getKey(), score));
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::getScore).reversed()
+                .thenComparing(Match::getTeamId, Comparator.reverseOrder()));
+        return matches;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private int score(Document doc, String q, double gramRatio) {
+        if (doc.name().equals(q)) return SCORE_NAME_EXACT;
+        if (doc.name().startsWith(q)) return SCORE_NAME_PREFIX;
+        if (doc.name().contains(q)) return SCORE_NAME_CONTAINS;
+        if (doc.description().contains(q)) return SCORE_DESCRIPTION_CONTAINS;
+        if (gramRatio >= MIN_FUZZY_RATIO) return (int) Math.round(SCORE_FUZZY_MAX * gramRatio);
+        return 0;
+    }
+
+    // 모든 쿼리 바이그램을 포함하는 팀 (가장 짧은 포스팅부터 교집합)
+    private Set<Long> candidatesContainingAll(String q) {
+        if (q.isEmpty()) {
+            return Set.of();
+        }
+        if (q.length() < GRAM) {
+            return new HashSet<>(documents.keySet());
+        }
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(q)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text.isEmpty()) {
+            return grams;
+        }
+        if (text.length() < GRAM) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // 전각/반각 통일, 소문자, 공백 제거
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.replaceAll("\\s+", "");
+    }
+}
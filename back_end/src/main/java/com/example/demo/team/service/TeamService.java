@@ -2,31 +2,42 @@ package com.example.demo.team.service;
 
 import com.example.demo.chat.dao.ChatRoomMemberRepository;
 import com.example.demo.chat.entity.ChatRoomMember;
+import com.example.demo.chat.service.ChatRoomMembershipCache;
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.pagination.Cursor;
+import com.example.demo.common.outbox.OutboxEvent;
+import com.example.demo.common.outbox.OutboxService;
+import com.example.demo.common.pagination.CursorPage;
+import com.example.demo.common.transaction.OptimisticLockRetryExecutor;
+import com.example.demo.team.entity.RequestStatus;
+import com.example.demo.team.entity.RequestType;
 import com.example.demo.team.entity.TeamStatus;
+import com.example.demo.user.Enum.PositionEnum;
 import com.example.demo.user.Enum.UserStatus;
 import com.example.demo.user.dao.UserRepository;
 import com.example.demo.user.dto.UserDetailResponse;
 import com.example.demo.user.entity.User;
-import com.example.demo.chat.dto.ChatRoomRequest;
 import com.example.demo.chat.entity.RoomType;
-import com.example.demo.chat.service.ChatRoomService;
+import com.example.demo.team.dao.TeamMembershipRequestRepository;
 import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.dao.TeamSearchRepository;
 import com.example.demo.team.dto.*;
 import com.example.demo.team.entity.Team;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
@@ -43,8 +54,18 @@ public class TeamService {
 
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
-    private final ChatRoomService chatRoomService;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final TeamReadService teamReadService;
+    private final TeamSearchRepository teamSearchRepository;
+    private final TeamDetailCache teamDetailCache;
+    private final TeamSearchIndex teamSearchIndex;
+    private final TeamVacancyIndex teamVacancyIndex;
+    private final TeamCapacityReservations teamCapacityReservations;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+    private final TeamChangeFeed teamChangeFeed;
+    private final OutboxService outboxService;
+    private final TeamMembershipRequestRepository teamMembershipRequestRepository;
     // 1. 팀 생성
     @Transactional
     public TeamDetailResponse createTeam(TeamRequest dto) { // 팀장만 생성 가능
@@ -67,51 +88,117 @@ public class TeamService {
         // 저장
         Team saved = teamRepository.save(team);
 
-        ChatRoomRequest chatRoomRequest = new ChatRoomRequest();
-        chatRoomRequest.setRoomType(RoomType.TEAM);
-        chatRoomRequest.setTeamId(saved.getId());
-        chatRoomRequest.setUserId(dto.getLeaderId());
-
-        chatRoomService.createTeamChatRoom(chatRoomRequest);
+        // 팀 채팅방은 커밋 이후 아웃박스 릴레이가 생성 (응답의 chatRoomId 는 생성 전이면 null)
+        outboxService.enqueue(OutboxEvent.teamChatRoomCreate(saved.getId(), dto.getLeaderId()));
 
         return teamToResponse(saved);
     }
 
     // 2. 전체 팀 조회
     public List<TeamDetailResponse> getAllTeams() {
-        return teamRepository.findAllWithDetails().stream()
-                .map(this::teamToResponse) // 헬퍼 메서드를 참조하여 매핑
-                .collect(Collectors.toList());
+        // 엔티티 그래프 대신 프로젝션 기반 읽기 경로 사용 (팀 수와 무관하게 쿼리 수 고정)
+        return teamReadService.getAllTeamDetails();
     }
 
-    // 3. 팀 조건 조회
-    public List<TeamDetailResponse> searchConditionTeam(TeamSearchRequest teamRequest) {
-        return teamRepository.findAllWithDetails().stream()
-                // teamName 필터링
-                .filter(team -> teamRequest.getTeamName() == null || team.getTeamName().contains(teamRequest.getTeamName()))
-                // leaderId 필터링
-                .filter(team -> teamRequest.getLeaderId() == null ||
-                        (team.getLeader() != null && team.getLeader().getId().equals(teamRequest.getLeaderId())))
-                // teamToResponse 헬퍼 메서드를 사용하여 DTO로 변환
-                .map(this::teamToResponse)
-                .collect(Collectors.toList());
+    // 2-1. 전체 팀 페이지 조회 (id 내림차순 키셋 페이지네이션)
+    public CursorPage<TeamDetailResponse> getTeamPage(String cursor, Integer size) {
+        TeamSearchRequest request = new TeamSearchRequest();
+        request.setCursor(cursor);
+        request.setSize(size);
+        return searchConditionTeam(request);
     }
 
-    // 4. 팀 정보 조회
-//    @Cacheable(value = "longTermCache", key = "'team:' + #teamId") // 유저 프로필 업데이트 후 동기화 안 됨.
-    public TeamDetailResponse getTeam(Long teamId) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+    // 3. 팀 조건 조회 (DB 필터링 + 키셋 페이지네이션)
+    public CursorPage<TeamDetailResponse> searchConditionTeam(TeamSearchRequest teamRequest) {
+        Cursor cursor = Cursor.decode(teamRequest.getCursor());
+        int size = teamRequest.pageSize();
+        if (StringUtils.hasText(teamRequest.getKeyword())) {
+            return searchByKeyword(teamRequest, cursor, size);
+        }
 
-        return teamToResponse(team);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Long> teamIds = teamSearchRepository.findTeamIds(teamRequest, cursor != null ? cursor.getId() : null, size + 1);
+        boolean hasNext = teamIds.size() > size;
+        if (hasNext) {
+            teamIds = teamIds.subList(0, size);
+        }
+
+        List<TeamDetailResponse> items = teamReadService.getTeamDetails(teamIds);
+        String nextCursor = hasNext ? Cursor.of(teamIds.get(teamIds.size() - 1)).encode() : null;
+        Long totalCount = teamRequest.isWithTotal() ? teamSearchRepository.countTeams(teamRequest) : null;
+        return CursorPage.of(items, nextCursor, totalCount);
+    }
+
+    // 3-1. 검색어 조회: n-gram 인덱스 일치도 순 (점수, id) 키셋 페이지네이션
+    private CursorPage<TeamDetailResponse> searchByKeyword(TeamSearchRequest teamRequest, Cursor cursor, int size) {
+        Map<Long, Integer> scores = new HashMap<>();
+        List<Long> rankedIds = new ArrayList<>();
+        for (TeamSearchIndex.Match match : teamSearchIndex.search(teamRequest.getKeyword())) {
+            scores.put(match.getTeamId(), match.getScore());
+            rankedIds.add(match.getTeamId());
+        }
+        // 나머지 필터(팀 이름, 팀장, 상태)는 DB에서 후보 id 기준으로 적용
+        List<Long> filtered = teamSearchRepository.filterTeamIds(teamRequest, rankedIds);
+
+        int from = 0;
+        if (cursor != null) {
+            int cursorScore = parseScore(cursor);
+            while (from < filtered.size() && !isAfter(scores.get(filtered.get(from)), filtered.get(from), cursorScore, cursor.getId())) {
+                from++;
+            }
+        }
+        List<Long> pageIds = filtered.subList(from, Math.min(from + size, filtered.size()));
+        boolean hasNext = from + size < filtered.size();
+
+        List<TeamDetailResponse> items = teamReadService.getTeamDetails(pageIds);
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastId = pageIds.get(pageIds.size() - 1);
+            nextCursor = Cursor.of(String.valueOf(scores.get(lastId)), lastId).encode();
+        }
+        Long totalCount = teamRequest.isWithTotal() ? (long) filtered.size() : null;
+        return CursorPage.of(items, nextCursor, totalCount);
+    }
+
+    // (점수 내림차순, id 내림차순) 기준으로 커서 이후인지
+    private boolean isAfter(int score, Long id, int cursorScore, Long cursorId) {
+        return score < cursorScore || (score == cursorScore && id < cursorId);
+    }
+
+    private int parseScore(Cursor cursor) {
+        try {
+            return Integer.parseInt(cursor.getSortKey());
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    // 3-2. 포지션 빈자리 팀 조회 (TeamVacancyIndex 순서 유지)
+    public List<TeamDetailResponse> getTeamsWithOpening(PositionEnum position, TeamVacancyIndex.Order order, Integer size) {
+        List<Long> teamIds = teamVacancyIndex.findTeamIds(position, order, CursorPage.resolveSize(size));
+        return teamReadService.getTeamDetails(teamIds);
+    }
+
+    // 3-3. 팀 변경 피드 (since 버전 이후 변경된 팀만)
+    public TeamChangeFeedResponse getTeamChanges(Long since, Integer size) {
+        return teamChangeFeed.getChanges(since, size);
+    }
+
+    // 4. 팀 정보 조회 (포함된 사용자 기준으로 무효화되는 팀 상세 캐시 사용)
+    public TeamDetailResponse getTeam(Long teamId) {
+        return teamDetailCache.get(teamId, () -> {
+            Team team = teamRepository.findById(teamId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+            return teamToResponse(team);
+        });
     }
 
     // 5. 팀 정보 삭제
     @Transactional
-    @CacheEvict(value = "longTermCache", key = "'team:' + #teamId")
     public void deleteTeam(Long teamId) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        teamDetailCache.evictTeam(teamId);
 
         // 멤버들의 team 참조 해제 (연관관계 주인: User.team)
         if (team.getMembers() != null) {
@@ -119,16 +206,22 @@ public class TeamService {
                 member.setTeam(null); // 안전하게 순회
             }
         }
+        team.refreshCapacity();
+        teamCapacityReservations.forget(teamId);
+        // 팀 채팅방은 cascade 로 함께 삭제
+        if (team.getChatRoom() != null) {
+            chatRoomMembershipCache.evictRoom(team.getChatRoom().getId());
+        }
 
         teamRepository.delete(team);
     }
 
     // 6. 팀 정보 수정
     @Transactional
-    @CacheEvict(value = "longTermCache", key = "'team:' + #teamId")
     public TeamDetailResponse modifyTeam(TeamRequest teamRequest) {
         Team team = teamRepository.findById(teamRequest.getTeamId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        teamDetailCache.evictTeam(team.getId());
 
         //팀명 중복 시
         teamRepository.findByTeamName(teamRequest.getTeamName())
@@ -147,9 +240,13 @@ public class TeamService {
         return teamToResponse(team);
     }
 
-    // 7. 팀 멤버 초대
-    @Transactional
+    // 7. 팀 멤버 초대 (Team/User 버전 충돌 시 트랜잭션 단위 재시도)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TeamDetailResponse inviteMemberTeam(TeamInviteRequest teamInviteRequest) {
+        return optimisticLockRetryExecutor.execute("team.invite", () -> doInviteMemberTeam(teamInviteRequest));
+    }
+
+    private TeamDetailResponse doInviteMemberTeam(TeamInviteRequest teamInviteRequest) {
         User invitedUser = userRepository.findById(teamInviteRequest.getUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         Team team = teamRepository.findById(teamInviteRequest.getTeamId())
@@ -160,36 +257,58 @@ public class TeamService {
         if (invitedUser.getTeam() != null && invitedUser.getTeam().getId().equals(team.getId())) {
             throw new BusinessException(ErrorCode.USER_ALLREADY_HAS_TEAM);
         }
+        // 채팅방이 아직 생성 전(아웃박스 처리 대기)일 수 있으므로 있을 때만 검사
+        if (team.getChatRoom() != null && team.getChatRoom().getRoomType() != RoomType.TEAM) {
+            throw new BusinessException(ErrorCode.INVALID_CHAT_ROOM_TYPE);
+        }
+
+        // 동시 초대로 정원을 넘지 않도록 팀 슬롯 선점 (커밋 시 확정, 롤백 시 해제)
+        teamCapacityReservations.reserve(team.getId(), team.getMemberCount());
 
-        invitedUser.setTeam(team);
-        team.getMembers().add(invitedUser);
+        // 기존 소속 팀과 초대한 팀 모두 멤버 목록이 바뀜
+        Team previousTeam = invitedUser.getTeam();
+        if (previousTeam != null) {
+            teamDetailCache.evictTeam(previousTeam.getId());
+        }
+        teamDetailCache.evictTeam(team.getId());
+
+        invitedUser.setTeam(team); // 양방향: 기존 팀에서 제거 + team.members 에 추가
+        if (previousTeam != null) {
+            previousTeam.refreshCapacity();
+            teamCapacityReservations.memberLeft(previousTeam.getId());
+        }
+        team.refreshCapacity();
 
         invitedUser.setUserStatus(UserStatus.IN_TEAM);
-        userRepository.flush();
-        teamRepository.flush();
-        // ✅ 팀 채팅방에 자동 추가
-        ChatRoomRequest chatRoomRequest = new ChatRoomRequest();
-        chatRoomRequest.setRoomId(team.getChatRoom().getId());
-        chatRoomRequest.setUserId(teamInviteRequest.getUserId());
-
-        chatRoomService.addMemberToTeamChatRoom(chatRoomRequest);
+        // flush 는 커밋 시점으로 미룸 (버전 충돌도 커밋 시 감지)
+        // ✅ 팀 채팅방 자동 추가는 커밋 이후 아웃박스 릴레이가 수행
+        outboxService.enqueue(OutboxEvent.teamChatMemberAdd(team.getId(), invitedUser.getId()));
         log.info(String.valueOf(team.getMembers().size()));
         return teamToResponse(team);
     }
 
     // 6. 팀 정보 수정
     @Transactional
-    @CacheEvict(value = "longTermCache", key = "'team:' + #teamId")
     public void lockTeam(Long teamId) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        teamDetailCache.evictTeam(teamId);
 
         if(team.getStatus() != TeamStatus.LOCKED)team.setStatus(TeamStatus.LOCKED);
         else throw new BusinessException(ErrorCode.TEAM_ALLREADY_LOCKED);
+
+        // 잠긴 팀은 더 받을 수 없으므로 대기 중 가입 요청은 같은 트랜잭션에서 일괄 취소
+        int canceled = teamMembershipRequestRepository.transitionAllOfTeam(teamId, RequestType.JOIN_REQUEST, RequestStatus.PENDING, RequestStatus.CANCELED);
+        log.info("팀 잠금 teamId={}, 취소된 가입 요청={}", teamId, canceled);
     }
 
-    @Transactional
+    // 팀 탈퇴 (Team/User 버전 충돌 시 트랜잭션 단위 재시도)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void leaveTeam(Long userId) {
+        optimisticLockRetryExecutor.run("team.leave", () -> doLeaveTeam(userId));
+    }
+
+    private void doLeaveTeam(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
@@ -202,31 +321,36 @@ public class TeamService {
         }
         log.info("Team 영속성: {}", entityManager.contains(team));
 
-        ChatRoomMember member = chatRoomMemberRepository.findByUserIdAndChatRoomId(userId, team.getChatRoom().getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHATROOM_MEMBER_NOT_FOUND));
+        // 채팅방 생성/멤버 추가는 아웃박스로 비동기 처리되므로 아직 채팅방 멤버가 아닐 수 있다
+        // (이후 도착하는 멤버 추가 항목은 팀 소속을 다시 확인해 건너뜀)
+        ChatRoomMember member = team.getChatRoom() == null ? null
+                : chatRoomMemberRepository.findByUserIdAndChatRoomId(userId, team.getChatRoom().getId()).orElse(null);
 
-        log.info("Member 영속성: {}", entityManager.contains(member));
-        log.info("Member.user 영속성: {}", member.getUser() != null ? entityManager.contains(member.getUser()) : "null");
+        if (member != null) {
+            log.info("Member 영속성: {}", entityManager.contains(member));
+            log.info("Member.user 영속성: {}", member.getUser() != null ? entityManager.contains(member.getUser()) : "null");
 
-        // 연관관계 끊기 전 상태
-        log.info("Before unlink user.chatRoomMembers.size: {}", user.getChatRoomMembers().size());
+            // 연관관계 끊기 전 상태
+            log.info("Before unlink user.chatRoomMembers.size: {}", user.getChatRoomMembers().size());
 
-        member.setUser(null);
-        member.setChatRoom(null);
+            member.setUser(null);
+            member.setChatRoom(null);
+            chatRoomMembershipCache.memberRemoved(team.getChatRoom().getId(), userId);
 
-        // 끊은 후 user의 chatRoomMembers 상태 출력
-        log.info("After unlink user.chatRoomMembers.size: {}", user.getChatRoomMembers().size());
+            // 끊은 후 user의 chatRoomMembers 상태 출력
+            log.info("After unlink user.chatRoomMembers.size: {}", user.getChatRoomMembers().size());
+        }
 
         
 
         // user와 team 연결 끊기
+        teamDetailCache.evictTeam(team.getId());
         team.getMembers().remove(user);
         user.setTeam(null);
+        team.refreshCapacity();
+        teamCapacityReservations.memberLeft(team.getId());
 
         if(team.getMembers().isEmpty()) {deleteTeam(team.getId());}
-        log.info("User before saveAndFlush: {}", user.getId());
-        log.info("User is managed by EntityManager before saveAndFlush: {}", entityManager.contains(user));
-        userRepository.saveAndFlush(user);
 
         // 최종 영속성 상태 확인
         log.info("최종 User 영속성: {}", entityManager.contains(user));
@@ -249,6 +373,7 @@ public class TeamService {
         team.setPmCount(teamRequest.getPmCount());
         team.setDesignCount(teamRequest.getDesignCount());
         team.setTeamDescription(teamRequest.getTeamDescription());
+        team.refreshCapacity(); // 필요 인원 변경 반영
         return team;
     }
 
@@ -267,13 +392,13 @@ public class TeamService {
         response.setTeamDomain(team != null ? team.getTeamDomain() : null);
 
         if (team != null && team.getTeamVive() != null) {
-            response.setTeamVive(team.getTeamVive());
+            response.setTeamVive(new HashSet<>(team.getTeamVive()));
         } else {
             response.setTeamVive(null);
         }
 
         if (team != null && team.getTeamPreference() != null) {
-            response.setTeamPreference(team.getTeamPreference());
+            response.setTeamPreference(new HashSet<>(team.getTeamPreference()));
         } else {
             response.setTeamPreference(null);
         }
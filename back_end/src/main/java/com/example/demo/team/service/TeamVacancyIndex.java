@@ -0,0 +1,145 @@
+package com.example.demo.team.service;
+
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.entity.Team;
+import com.example.demo.team.entity.TeamStatus;
+import com.example.demo.team.event.TeamChangedEvent;
+import com.example.demo.user.Enum.PositionEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 포지션별 빈자리 인덱스 ("BACKEND 자리가 남은 팀").
+ * 팀원 수가 정원 미만이고 잠기지 않았으며 해당 포지션 남은 자리가 있는 팀만 담는다.
+ * 정렬 순서별로 미리 정렬된 집합을 유지하고 TeamChangedEvent 로 증분 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamVacancyIndex {
+
+    public enum Order {
+        // 최근 생성 순 (id 내림차순)
+        RECENCY,
+        // 많이 채워진 순 (팀원 수 내림차순 → id 내림차순), 곧 완성될 팀 우선
+        FILL_RATIO
+    }
+
+    private record Entry(long teamId, int memberCount) {
+    }
+
+    private static final Comparator<Entry> BY_RECENCY =
+            Comparator.comparingLong(Entry::teamId).reversed();
+    private static final Comparator<Entry> BY_FILL_RATIO =
+            Comparator.comparingInt(Entry::memberCount).reversed().thenComparing(BY_RECENCY);
+
+    private final TeamRepository teamRepository;
+
+    // 팀별 현재 등록된 엔트리와 빈자리 포지션
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<PositionEnum>> openPositions = new ConcurrentHashMap<>();
+    // 포지션별 정렬 순서마다 미리 정렬된 집합
+    private final Map<PositionEnum, NavigableSet<Entry>> byRecency = sortedSets(BY_RECENCY);
+    private final Map<PositionEnum, NavigableSet<Entry>> byFillRatio = sortedSets(BY_FILL_RATIO);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        new ArrayList<>(entries.keySet()).forEach(this::remove);
+        PositionEnum[] columns = {PositionEnum.BACKEND, PositionEnum.FRONTEND, PositionEnum.AI, PositionEnum.PM, PositionEnum.DESIGN};
+        for (Object[] row : teamRepository.findAllVacancyRows()) {
+            Map<PositionEnum, Integer> openSlots = new EnumMap<>(PositionEnum.class);
+            for (int i = 0; i < columns.length; i++) {
+                openSlots.put(columns[i], ((Number) row[3 + i]).intValue());
+            }
+            update((Long) row[0], (TeamStatus) row[1], ((Number) row[2]).intValue(), openSlots);
+        }
+        log.info("팀 빈자리 인덱스 적재 완료 teams={}", entries.size());
+    }
+
+    @EventListener
+    public void onTeamChanged(TeamChangedEvent event) {
+        if (event.getTeamId() == null) {
+            return;
+        }
+        if (event.isDeleted()) {
+            remove(event.getTeamId());
+        } else {
+            update(event.getTeamId(), event.getStatus(), event.getMemberCount(), event.getOpenSlots());
+        }
+    }
+
+    public synchronized void update(Long teamId, TeamStatus status, int memberCount, Map<PositionEnum, Integer> openSlots) {
+        remove(teamId);
+        if (status == TeamStatus.LOCKED || status == TeamStatus.FULL || memberCount >= Team.MAX_MEMBERS) {
+            return;
+        }
+        Set<PositionEnum> open = EnumSet.noneOf(PositionEnum.class);
+        openSlots.forEach((position, slots) -> {
+            if (slots != null && slots > 0) {
+                open.add(position);
+            }
+        });
+        if (open.isEmpty()) {
+            return;
+        }
+        Entry entry = new Entry(teamId, memberCount);
+        entries.put(teamId, entry);
+        openPositions.put(teamId, open);
+        for (PositionEnum position : open) {
+            byRecency.get(position).add(entry);
+            byFillRatio.get(position).add(entry);
+        }
+    }
+
+    public synchronized void remove(Long teamId) {
+        Entry entry = entries.remove(teamId);
+        Set<PositionEnum> open = openPositions.remove(teamId);
+        if (entry == null || open == null) {
+            return;
+        }
+        for (PositionEnum position : open) {
+            byRecency.get(position).remove(entry);
+            byFillRatio.get(position).remove(entry);
+        }
+    }
+
+    // 해당 포지션에 빈자리가 있는 팀 ID (정렬 순서대로, limit 이하)
+    public List<Long> findTeamIds(PositionEnum position, Order order, int limit) {
+        NavigableSet<Entry> sorted = (order == Order.FILL_RATIO ? byFillRatio : byRecency).get(position);
+        List<Long> result = new ArrayList<>(Math.min(limit, sorted.size()));
+        for (Entry entry : sorted) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(entry.teamId());
+        }
+        return result;
+    }
+
+    public Set<Long> teamIdsWithOpening(PositionEnum position) {
+        Set<Long> result = new HashSet<>();
+        for (Entry entry : byRecency.get(position)) {
+            result.add(entry.teamId());
+        }
+        return result;
+    }
+
+    public int size(PositionEnum position) {
+        return byRecency.get(position).size();
+    }
+
+    private static Map<PositionEnum, NavigableSet<Entry>> sortedSets(Comparator<Entry> comparator) {
+        Map<PositionEnum, NavigableSet<Entry>> sets = new EnumMap<>(PositionEnum.class);
+        for (PositionEnum position : PositionEnum.values()) {
+            sets.put(position, new ConcurrentSkipListSet<>(comparator));
+        }
+        return sets;
+    }
+}
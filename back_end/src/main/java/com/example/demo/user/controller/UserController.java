@@ -425,6 +425,10 @@ public class UserController {
             **활용 시나리오:**
             - 팀 구성 시 대기중인 개발자 목록 보기
             - 매칭 시스템에서 활용
+            
+            **페이지네이션:**
+            - 기본 응답은 (userName, id) 순 커서 페이지 (`items`, `nextCursor`, `hasNext`)
+            - `unpaged=true` 이면 기존과 같이 전체 목록 배열 반환
             """,
             tags = {"사용자 프로필 관리"}
     )
@@ -439,8 +443,18 @@ public class UserController {
             )
     })
     @GetMapping("/waiting")
-    public ResponseEntity<ApiResponse> getWaitingUsers() {
-        List<UserSearchResponse> waitingUsers = userService.getWaitingUsers();
-        return ResponseEntity.ok(ApiResponse.ok(waitingUsers));
+    public ResponseEntity<ApiResponse> getWaitingUsers(
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "true 이면 페이지네이션 없이 전체 목록 반환 (구 클라이언트용)", example = "false")
+            @RequestParam(defaultValue = "false") boolean unpaged
+    ) {
+        if (unpaged) {
+            List<UserSearchResponse> waitingUsers = userService.getWaitingUsers();
+            return ResponseEntity.ok(ApiResponse.ok(waitingUsers));
+        }
+        return ResponseEntity.ok(ApiResponse.ok(userService.getWaitingUsers(cursor, size)));
     }
 }
\ No newline at end of file
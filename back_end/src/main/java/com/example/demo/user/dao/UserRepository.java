@@ -6,12 +6,15 @@ import com.example.demo.user.Enum.ProjectGoalEnum;
 import com.example.demo.user.Enum.ProjectViveEnum;
 import com.example.demo.user.Enum.TechEnum;
 import com.example.demo.user.Enum.UserStatus;
+import com.example.demo.user.dto.UserDetailRow;
 import com.example.demo.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -22,12 +25,6 @@ public interface UserRepository extends JpaRepository<User,Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findById(Long id);
 
-    @Query("SELECT u FROM User u " +
-            "LEFT JOIN FETCH u.chatRoomMembers m " +
-            "LEFT JOIN FETCH m.chatRoom " +
-            "WHERE u.id = :id")
-    Optional<com.example.demo.user.entity.User> findByIdWithChatRoomMembers(@Param("id") Long id);
-
     @Query(value = """
         SELECT 
             u.team_id,
@@ -92,4 +89,38 @@ public interface UserRepository extends JpaRepository<User,Long> {
 
     // UserStatus가 WAITING인 사용자들 조회
     List<User> findByUserStatus(UserStatus userStatus);
+
+    // 상태별 사용자 키셋 페이지 조회 (userName, id 오름차순) - user_status_name_idx 사용
+    @Query("SELECT u FROM User u WHERE u.userStatus = :userStatus " +
+            "ORDER BY u.userName ASC, u.id ASC")
+    List<User> findFirstPageByUserStatus(@Param("userStatus") UserStatus userStatus, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.userStatus = :userStatus " +
+            "AND (u.userName > :userName OR (u.userName = :userName AND u.id > :id)) " +
+            "ORDER BY u.userName ASC, u.id ASC")
+    List<User> findPageByUserStatusAfter(@Param("userStatus") UserStatus userStatus,
+                                         @Param("userName") String userName,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // ==================== 팀 상세 조회용 프로젝션 (TeamReadService) ====================
+    // 엔티티 대신 스칼라만 조회해 EAGER 연관관계(team)와 지연 컬렉션 로딩을 피한다.
+    @Query("SELECT new com.example.demo.user.dto.UserDetailRow(" +
+            "u.id, u.team.id, u.userName, u.role, u.email, u.major, u.lastClass, " +
+            "u.userProfile, u.projectExp, u.qualification) " +
+            "FROM User u WHERE u.team.id IN :teamIds OR u.id IN :userIds")
+    List<UserDetailRow> findDetailRowsByTeamIdInOrIdIn(@Param("teamIds") Collection<Long> teamIds,
+                                                       @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.id, p FROM User u JOIN u.wantedPosition p WHERE u.id IN :userIds")
+    List<Object[]> findWantedPositions(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.id, t FROM User u JOIN u.techStack t WHERE u.id IN :userIds")
+    List<Object[]> findTechStacks(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.id, g FROM User u JOIN u.projectGoal g WHERE u.id IN :userIds")
+    List<Object[]> findProjectGoals(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.id, v FROM User u JOIN u.projectVive v WHERE u.id IN :userIds")
+    List<Object[]> findProjectVives(@Param("userIds") Collection<Long> userIds);
 }
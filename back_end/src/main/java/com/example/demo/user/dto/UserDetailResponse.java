@@ -5,6 +5,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import com.example.demo.user.entity.User;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -14,7 +17,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Schema(description = "사용자 상세 응답 DTO")
-public class UserDetailResponse {
+public class UserDetailResponse implements Serializable {
 
     @Schema(description = "사용자 ID", example = "1")
     private Long id;
@@ -55,6 +58,7 @@ public class UserDetailResponse {
     @Schema(description = "기술 스택")
     private Set<TechEnum> techStack;
 
+    // 컬렉션은 영속성 컨텍스트와 분리된 복사본으로 담는다 (팀 상세 캐시 직렬화 대상)
     public static UserDetailResponse fromEntity(User user) {
         if (user == null) return null;
 
@@ -66,12 +70,12 @@ public class UserDetailResponse {
                 .major(user.getMajor())
                 .lastClass(user.getLastClass())
                 .userProfile(user.getUserProfile())
-                .wantedPosition(user.getWantedPosition())
-                .projectGoal(user.getProjectGoal())
-                .projectVive(user.getProjectVive())
+                .wantedPosition(user.getWantedPosition() != null ? new ArrayList<>(user.getWantedPosition()) : null)
+                .projectGoal(user.getProjectGoal() != null ? new HashSet<>(user.getProjectGoal()) : null)
+                .projectVive(user.getProjectVive() != null ? new HashSet<>(user.getProjectVive()) : null)
                 .projectExp(user.getProjectExp())
                 .qualification(user.getQualification())
-                .techStack(user.getTechStack())
+                .techStack(user.getTechStack() != null ? new HashSet<>(user.getTechStack()) : null)
                 .build();
     }
 
@@ -0,0 +1,22 @@
+package com.example.demo.user.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserDetailRow {
+    // 팀 상세 조회용 사용자 스칼라 프로젝션 (컬렉션은 별도 쿼리로 조립)
+    private Long userId;
+    private Long teamId;
+    private String userName;
+    private String role;
+    private String email;
+    private Boolean major;
+    private Integer lastClass;
+    private String userProfile;
+    private String projectExp;
+    private String qualification;
+}
@@ -10,6 +10,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
+import org.hibernate.annotations.BatchSize;
 import lombok.Setter;
 
 import java.util.*;
@@ -19,7 +20,8 @@ import java.util.*;
         , indexes= {
         @Index(name = "user_major_idx", columnList = "major"),
 //        @Index(name = "user_position_idx", columnList = "wanted_position"),
-        @Index(name = "user_team_idx", columnList = "team_id")
+        @Index(name = "user_team_idx", columnList = "team_id"),
+        @Index(name = "user_status_name_idx", columnList = "user_status, user_name, user_id")
         }
         )
 @Getter
@@ -30,6 +32,11 @@ public class User {
     @Column(name = "user_id")
     private Long id;
 
+    // 낙관적 락 (소속 팀 변경 충돌 감지)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // 학생인지 프로인지 구분, 기본값 학생
     @Column(name="role", length = 10, nullable = false)
     @NotBlank
@@ -71,6 +78,7 @@ public class User {
     private String userProfile;
 
     @ElementCollection(targetClass = PositionEnum.class, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Enumerated(EnumType.STRING)
     @Column(name = "wanted_position")
     private List<PositionEnum> wantedPosition;
@@ -90,18 +98,21 @@ public class User {
     private String qualification;
 
     @ElementCollection(targetClass = TechEnum.class, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Enumerated(EnumType.STRING)
     @Column(name="tech_stack",  nullable = true, length = 100)
     @Size(max = 100)
     private Set<TechEnum> techStack;
 
     @ElementCollection(targetClass = ProjectGoalEnum.class, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Enumerated(EnumType.STRING)
     @Column(name = "project_preference", nullable = true, length = 50)
     @Size(max = 50)
     private Set<ProjectGoalEnum> projectGoal;
 
     @ElementCollection(targetClass = ProjectViveEnum.class, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Enumerated(EnumType.STRING)
     @Column(name = "personal_preference", nullable = true, length = 50)
     @Size(max = 50)
@@ -115,6 +126,11 @@ public class User {
     //)
     //private Set<TechStack> techStacks = new HashSet<>();
 
+    // 대표 포지션 = 첫 번째 희망 포지션 (팀 포지션별 남은 자리 계산 기준)
+    public PositionEnum getMainPosition() {
+        return wantedPosition != null && !wantedPosition.isEmpty() ? wantedPosition.get(0) : null;
+    }
+
     public void setTeam(Team team) {
         if (this.team != null) {
             this.team.getMembers().remove(this);
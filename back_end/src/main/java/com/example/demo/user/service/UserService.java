@@ -1,5 +1,7 @@
 package com.example.demo.user.service;
 
+import com.example.demo.common.pagination.Cursor;
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.team.entity.Team;
 import com.example.demo.user.Enum.ProjectGoalEnum;
 import com.example.demo.user.Enum.UserStatus;
@@ -8,12 +10,15 @@ import com.example.demo.user.dto.*;
 import com.example.demo.user.dto.UserSearchRequest;
 import com.example.demo.user.entity.User;
 import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.service.TeamCapacityReservations;
+import com.example.demo.team.service.TeamDetailCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +36,12 @@ public class UserService {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private TeamDetailCache teamDetailCache;
+
+    @Autowired
+    private TeamCapacityReservations teamCapacityReservations;
+
     @Transactional
     public UserProfileResponse getProfile(){
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -58,6 +69,14 @@ public class UserService {
     public void deleteProfile(Long id){
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("해당 유저가 없습니다."));
+        teamDetailCache.evictUser(id);
+        Team team = user.getTeam();
+        if (team != null) {
+            // 팀 탈퇴와 같이 연결을 끊고 팀원 수/남은 자리 컬럼을 다시 계산 (검색/빈자리/정원 기준값이 이 컬럼을 읽는다)
+            user.setTeam(null);
+            team.refreshCapacity();
+            teamCapacityReservations.memberLeft(team.getId());
+        }
         userRepository.delete(user);
     }
 
@@ -67,6 +86,8 @@ public class UserService {
         System.out.println("유저 찾기 전");
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 수 없습니다."));
+        // 이 유저를 포함한 팀 상세 캐시 무효화 (커밋 이후)
+        teamDetailCache.evictUser(id);
 
         // 전체 및 부분 업데이트
         if (request.getUserName() != null) {
@@ -83,12 +104,27 @@ public class UserService {
         if (request.getTechStack() != null) user.setTechStack(request.getTechStack());
         if (request.getUserStatus() != null) user.setUserStatus(request.getUserStatus());
 
+        Team previousTeam = user.getTeam();
         if (request.getTeamId() != null) {
             Team team = teamRepository.findById(request.getTeamId())
                     .orElseThrow(() -> new EntityNotFoundException("해당 팀이 존재하지 않습니다."));
+            teamDetailCache.evictTeam(team.getId());
+            if (previousTeam != team) {
+                // 다른 팀 합류 시 정원 선점
+                teamCapacityReservations.reserve(team.getId(), team.getMemberCount());
+            }
             user.setTeam(team);
         }
 
+        // 소속 팀 변경 또는 대표 포지션 변경 시 팀원 수 / 남은 자리 갱신
+        if (previousTeam != null && previousTeam != user.getTeam()) {
+            previousTeam.refreshCapacity();
+            teamCapacityReservations.memberLeft(previousTeam.getId());
+        }
+        if (user.getTeam() != null) {
+            user.getTeam().refreshCapacity();
+        }
+
         // 변경사항을 데이터베이스에 저장
         user = userRepository.save(user);
         
@@ -120,6 +156,28 @@ public class UserService {
                 .map(UserSearchResponse::fromUser)
                 .collect(java.util.stream.Collectors.toList());
     }
+
+    // 대기중인 사용자 키셋 페이지 조회 (커서 = (userName, id))
+    @Transactional(readOnly = true)
+    public CursorPage<UserSearchResponse> getWaitingUsers(String cursor, Integer size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.resolveSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<User> users = after == null
+                ? userRepository.findFirstPageByUserStatus(UserStatus.WAITING, limit)
+                : userRepository.findPageByUserStatusAfter(UserStatus.WAITING, after.getSortKey(), after.getId(), limit);
+
+        boolean hasNext = users.size() > pageSize;
+        if (hasNext) {
+            users = users.subList(0, pageSize);
+        }
+        User last = users.isEmpty() ? null : users.get(users.size() - 1);
+        String nextCursor = hasNext ? Cursor.of(last.getUserName(), last.getId()).encode() : null;
+
+        return CursorPage.of(UserSearchResponse.fromUserList(users), nextCursor, null);
+    }
     
     private boolean matchesTechStack(User user, java.util.Set<com.example.demo.user.Enum.TechEnum> techStack) {
         if (techStack == null || techStack.isEmpty()) {
@@ -599,3 +599,16 @@ INSERT INTO TEAM_TEAM_VIVE (TEAM_TEAM_ID, TEAM_VIVE) VALUES
                                                          (14, 'CASUAL'), (14, 'AGILE'),
                                                          (15, 'FORMAL'), (15, 'RULE');
 
+-- 팀원 수 / 포지션별 남은 자리 (Team.refreshCapacity 와 같은 계산, 대표 포지션 = 첫 번째 희망 포지션)
+UPDATE team SET member_count = (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id);
+UPDATE team SET
+    open_backend_slots = GREATEST(0, backend_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'BACKEND')),
+    open_frontend_slots = GREATEST(0, frontend_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'FRONTEND')),
+    open_ai_slots = GREATEST(0, ai_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'AI')),
+    open_pm_slots = GREATEST(0, pm_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'PM')),
+    open_design_slots = GREATEST(0, design_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'DESIGN'));
@@ -0,0 +1,137 @@
+-- 팀/채팅 스키마 변경 (PostgreSQL)
+-- prod 는 ddl-auto: validate 이므로 새 버전 배포 전에 한 번 적용한다. 여러 번 실행해도 안전하다.
+
+-- ==================== team ====================
+-- 낙관적 락 + 팀원 수 / 포지션별 남은 자리 비정규화
+ALTER TABLE team ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE team ADD COLUMN IF NOT EXISTS member_count integer NOT NULL DEFAULT 0;
+ALTER TABLE team ADD COLUMN IF NOT EXISTS open_backend_slots integer NOT NULL DEFAULT 0;
+ALTER TABLE team ADD COLUMN IF NOT EXISTS open_frontend_slots integer NOT NULL DEFAULT 0;
+ALTER TABLE team ADD COLUMN IF NOT EXISTS open_ai_slots integer NOT NULL DEFAULT 0;
+ALTER TABLE team ADD COLUMN IF NOT EXISTS open_pm_slots integer NOT NULL DEFAULT 0;
+ALTER TABLE team ADD COLUMN IF NOT EXISTS open_design_slots integer NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS team_leader_idx ON team (leader_id);
+CREATE INDEX IF NOT EXISTS team_status_idx ON team (team_status);
+CREATE INDEX IF NOT EXISTS team_member_count_idx ON team (member_count);
+
+-- 기존 팀 백필 (Team.refreshCapacity 와 같은 계산, 대표 포지션 = 첫 번째 희망 포지션)
+UPDATE team SET member_count = (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id);
+UPDATE team SET
+    open_backend_slots = GREATEST(0, backend_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'BACKEND')),
+    open_frontend_slots = GREATEST(0, frontend_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'FRONTEND')),
+    open_ai_slots = GREATEST(0, ai_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'AI')),
+    open_pm_slots = GREATEST(0, pm_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'PM')),
+    open_design_slots = GREATEST(0, design_count - (SELECT COUNT(*) FROM users u WHERE u.team_id = team.team_id
+        AND (SELECT p.wanted_position FROM user_wanted_position p WHERE p.user_user_id = u.user_id LIMIT 1) = 'DESIGN'));
+
+-- ==================== users ====================
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS user_status_name_idx ON users (user_status, user_name, user_id);
+
+-- ==================== team_change_log ====================
+CREATE TABLE IF NOT EXISTS team_change_log (
+    change_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    team_id bigint NOT NULL,
+    change_type varchar(20) NOT NULL,
+    team_status varchar(20),
+    member_count integer NOT NULL DEFAULT 0,
+    changed_at timestamp(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS team_change_log_team_idx ON team_change_log (team_id, change_id);
+CREATE INDEX IF NOT EXISTS team_change_log_changed_at_idx ON team_change_log (changed_at);
+
+-- ==================== outbox_event ====================
+CREATE TABLE IF NOT EXISTS outbox_event (
+    outbox_event_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type varchar(30) NOT NULL,
+    aggregate_id bigint,
+    user_id bigint,
+    destination varchar(200),
+    recipients text,
+    payload text,
+    status varchar(20) NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    last_error varchar(500),
+    created_at timestamp(6) NOT NULL,
+    next_attempt_at timestamp(6) NOT NULL
+);
+-- 이전 버전에서 만든 테이블이면 알림 수신자 컬럼만 추가
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS recipients text;
+CREATE INDEX IF NOT EXISTS outbox_event_ready_idx ON outbox_event (status, next_attempt_at, outbox_event_id);
+
+-- ==================== deferred_notification ====================
+CREATE TABLE IF NOT EXISTS deferred_notification (
+    deferred_notification_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id bigint NOT NULL,
+    destination varchar(200) NOT NULL,
+    payload text,
+    created_at timestamp(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS deferred_notification_destination_idx ON deferred_notification (destination, deferred_notification_id);
+CREATE INDEX IF NOT EXISTS deferred_notification_created_at_idx ON deferred_notification (created_at);
+
+-- ==================== team_membership_request ====================
+-- EXPIRED 상태 추가 (Hibernate 가 만든 enum CHECK 제약 교체)
+ALTER TABLE team_membership_request DROP CONSTRAINT IF EXISTS team_membership_request_status_check;
+ALTER TABLE team_membership_request ADD CONSTRAINT team_membership_request_status_check
+    CHECK (status IN ('PENDING', 'ACCEPTED', 'REJECTED', 'CANCELED', 'EXPIRED'));
+
+-- 팀-사용자당 대기 요청 1건 (대기 중일 때만 "teamId:userId")
+ALTER TABLE team_membership_request ADD COLUMN IF NOT EXISTS active_key varchar(50);
+-- 같은 팀-사용자의 대기 요청이 여러 건이면 최신 1건만 남기고 취소
+UPDATE team_membership_request r SET status = 'CANCELED'
+WHERE r.status = 'PENDING'
+  AND EXISTS (SELECT 1 FROM team_membership_request n
+              WHERE n.team_id = r.team_id AND n.user_id = r.user_id AND n.status = 'PENDING' AND n.id > r.id);
+UPDATE team_membership_request SET active_key = CASE WHEN status = 'PENDING' THEN team_id || ':' || user_id END;
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'team_membership_request_active_key_uk') THEN
+        ALTER TABLE team_membership_request ADD CONSTRAINT team_membership_request_active_key_uk UNIQUE (active_key);
+    END IF;
+END $$;
+CREATE INDEX IF NOT EXISTS team_membership_request_status_created_idx ON team_membership_request (status, created_at);
+CREATE INDEX IF NOT EXISTS team_membership_request_team_user_status_idx ON team_membership_request (team_id, user_id, status);
+
+-- ==================== chat_message ====================
+-- ID 는 ChatMessageIdGenerator 가 발급 (IDENTITY 해제)
+ALTER TABLE chat_message ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE INDEX IF NOT EXISTS chat_message_room_id_idx ON chat_message (chat_room_id, id);
+
+-- ==================== chat_room ====================
+-- PRIVATE 방 사용자 쌍 (작은 ID / 큰 ID)
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS private_user_low bigint;
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS private_user_high bigint;
+-- 기존 PRIVATE 방 백필. 같은 쌍의 방이 여러 개면 가장 먼저 만든 방만 쌍으로 조회되도록 나머지는 NULL 로 둔다
+UPDATE chat_room c SET private_user_low = p.low, private_user_high = p.high
+FROM (SELECT m.chat_room_id, MIN(m.user_id) AS low, MAX(m.user_id) AS high
+      FROM chat_room_member m JOIN chat_room r ON r.id = m.chat_room_id
+      WHERE r.room_type = 'PRIVATE'
+      GROUP BY m.chat_room_id
+      HAVING COUNT(DISTINCT m.user_id) = 2) p
+WHERE c.id = p.chat_room_id
+  AND c.private_user_low IS NULL
+  AND c.id = (SELECT MIN(o.chat_room_id)
+              FROM (SELECT m2.chat_room_id, MIN(m2.user_id) AS low, MAX(m2.user_id) AS high
+                    FROM chat_room_member m2 JOIN chat_room r2 ON r2.id = m2.chat_room_id
+                    WHERE r2.room_type = 'PRIVATE'
+                    GROUP BY m2.chat_room_id
+                    HAVING COUNT(DISTINCT m2.user_id) = 2) o
+              WHERE o.low = p.low AND o.high = p.high);
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'chat_room_private_pair_uk') THEN
+        ALTER TABLE chat_room ADD CONSTRAINT chat_room_private_pair_uk UNIQUE (private_user_low, private_user_high);
+    END IF;
+END $$;
+
+-- ==================== chat_room_member ====================
+-- 읽음 위치 / 안 읽은 수 (기존 멤버는 읽음 확인 전 상태로 시작)
+ALTER TABLE chat_room_member ADD COLUMN IF NOT EXISTS last_read_message_id bigint;
+ALTER TABLE chat_room_member ADD COLUMN IF NOT EXISTS unread_count integer NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS chat_room_member_user_room_idx ON chat_room_member (user_id, chat_room_id);
@@ -7,6 +7,7 @@ import com.example.demo.ai.dto.TeamToPersonDto;
 import com.example.demo.ai.service.AIService;
 import com.example.demo.team.dao.TeamRepository;
 import com.example.demo.team.entity.Team;
+import com.example.demo.team.service.TeamVacancyIndex;
 import com.example.demo.user.Enum.PositionEnum;
 import com.example.demo.user.Enum.ProjectGoalEnum;
 import com.example.demo.user.Enum.ProjectViveEnum;
@@ -44,6 +45,9 @@ class AIServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private TeamVacancyIndex teamVacancyIndex;
+
     @InjectMocks
     private AIService aiService;
 
@@ -104,6 +108,27 @@ class AIServiceTest {
         verify(teamRepository).findAvailableTeams();
     }
 
+    @Test
+    @DisplayName("개인에게 추천할 팀 후보 - 대표 포지션 빈자리 팀을 인덱스 순서대로 사용")
+    void findPersonToTeamDtoById_UsesVacancyIndex() {
+        Long personId = 1L;
+        User mockUser = createMockUser(); // 대표 포지션 BACKEND
+        Team first = createMockTeam();
+        Team second = mock(Team.class);
+        when(second.getId()).thenReturn(2L);
+        when(second.getMemberWanted()).thenReturn("BACKEND");
+
+        when(userRepository.findCurUser(personId)).thenReturn(mockUser);
+        when(teamVacancyIndex.findTeamIds(eq(PositionEnum.BACKEND), eq(TeamVacancyIndex.Order.FILL_RATIO), anyInt()))
+                .thenReturn(List.of(2L, 1L));
+        when(teamRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(first, second));
+
+        PersonToTeamDto result = aiService.findPersonToTeamDtoById(personId);
+
+        assertThat(result.getTeams()).extracting(TeamAIDto::getTeamId).containsExactly(2L, 1L);
+        verify(teamRepository, never()).findAvailableTeams();
+    }
+
     @Test
     @DisplayName("팀에게 후보자 추천 - RecSys 호출 성공")
     void recommendCandidatesForTeam_Success() {
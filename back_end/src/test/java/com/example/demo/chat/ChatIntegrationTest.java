@@ -8,6 +8,7 @@ import com.example.demo.chat.dto.ChatMessageRequest;
 import com.example.demo.chat.dto.ChatRoomRequest;
 import com.example.demo.chat.entity.RoomType;
 import com.example.demo.chat.service.ChatMessageService;
+import com.example.demo.common.outbox.OutboxRelay;
 import com.example.demo.common.exception.ErrorCode;
 import com.example.demo.common.response.ApiResponse;
 import com.example.demo.team.dto.TeamDetailResponse;
@@ -70,6 +71,9 @@ public class ChatIntegrationTest {
     @Autowired
     private TeamService teamService;
 
+    @Autowired
+    private OutboxRelay outboxRelay;
+
     private User user1,user2,user3;
     private TeamDetailResponse teamDetailResponse;
     private ChatMessageRequest chatMessageRequest;
@@ -129,6 +133,8 @@ public class ChatIntegrationTest {
         teamRequest.setTeamDescription("함께 성장하며 멋진 포트폴리오를 만들고 싶습니다.");
 
         teamDetailResponse = teamService.createTeam(teamRequest);
+        // 팀 채팅방은 아웃박스 릴레이가 생성
+        outboxRelay.relayPending();
         teamDetailResponse = teamService.getTeam(teamDetailResponse.getTeamId());
 
         chatMessageRequest = new ChatMessageRequest();
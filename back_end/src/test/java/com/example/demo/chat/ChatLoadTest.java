@@ -0,0 +1,401 @@
+package com.example.demo.chat;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.auth.util.JwtUtil;
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import com.example.demo.chat.dao.ChatRoomRepository;
+import com.example.demo.chat.dto.ChatMessageRequest;
+import com.example.demo.chat.dto.ChatMessageResponse;
+import com.example.demo.chat.entity.ChatRoom;
+import com.example.demo.chat.entity.ChatRoomMember;
+import com.example.demo.chat.entity.RoomType;
+import com.example.demo.user.dao.UserRepository;
+import com.example.demo.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 채팅 부하 테스트 (기본 test 태스크에서는 제외, ./gradlew loadTest 로 실행).
+ * 내장 서버(H2 메모리 DB)에 CLIENTS 개의 STOMP 클라이언트를 붙여 ROOMS 개 방에 나눠 구독시키고,
+ * 클라이언트마다 RATE 건/초로 /app/chat.sendMessage 에 발행한다. 메시지 본문에 보낸 시각(nanoTime)을 넣어
+ * 구독자가 받은 시점까지의 종단 지연 분위수, 처리량, 전달률, 힙/GC 변화를 출력한다.
+ * 서버와 클라이언트가 같은 JVM 에서 돌기 때문에 힙/GC 수치에는 클라이언트 비용도 포함된다.
+ * 설정은 -Pchat.load.clients=5000 처럼 chat.load.* 프로퍼티로 바꾼다.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(classes = DemoApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:chatload;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "logging.level.com.example.demo=WARN",
+                "logging.level.org.springframework.security=WARN",
+                "logging.level.org.hibernate.SQL=WARN"
+        })
+class ChatLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("chat.load.clients", 1000);
+    private static final int ROOMS = Integer.getInteger("chat.load.rooms", 100);
+    // 클라이언트 한 명의 초당 발행 수
+    private static final double RATE = Double.parseDouble(System.getProperty("chat.load.rate", "0.5"));
+    private static final int WARMUP_SECONDS = Integer.getInteger("chat.load.warmup-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("chat.load.duration-seconds", 30);
+    // 측정 종료 후 남은 메시지를 기다리는 시간
+    private static final int DRAIN_SECONDS = Integer.getInteger("chat.load.drain-seconds", 5);
+    private static final int CONNECT_CONCURRENCY = Integer.getInteger("chat.load.connect-concurrency", 100);
+    private static final double MIN_DELIVERY_RATIO =
+            Double.parseDouble(System.getProperty("chat.load.min-delivery-ratio", "0.99"));
+
+    private static final String BODY_PREFIX = "load ";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry serverMeterRegistry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final SimpleMeterRegistry loadRegistry = new SimpleMeterRegistry();
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final LongAdder expected = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private Timer latency;
+    private WebSocketStompClient stompClient;
+    private ScheduledExecutorService publishers;
+    private List<Long> userIds;
+    private List<String> userEmails;
+    private List<Long> roomIds;
+    private Map<Long, Integer> roomSizes;
+
+    // 측정 구간 (nanoTime). 이 구간에 보낸 메시지만 집계한다
+    private volatile long measureFrom = Long.MAX_VALUE;
+    private volatile long measureUntil = Long.MAX_VALUE;
+
+    @BeforeEach
+    void setUp() {
+        // 분위수는 측정 구간 전체 기준
+        latency = Timer.builder("chat.load.latency")
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .distributionStatisticBufferLength(1)
+                .register(loadRegistry);
+
+        List<User> users = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            User user = new User();
+            user.setUserName("load" + i);
+            user.setRole("USER");
+            user.setEmail("load" + i + "@load.test");
+            user.setMajor(false);
+            user.setLastClass(1);
+            users.add(user);
+        }
+        userIds = userRepository.saveAll(users).stream().map(User::getId).toList();
+        userEmails = users.stream().map(User::getEmail).toList();
+
+        List<ChatRoom> rooms = new ArrayList<>(ROOMS);
+        for (int i = 0; i < ROOMS; i++) {
+            ChatRoom room = new ChatRoom();
+            room.setRoomType(RoomType.TEAM);
+            rooms.add(room);
+        }
+        rooms = chatRoomRepository.saveAll(rooms);
+        roomIds = rooms.stream().map(ChatRoom::getId).toList();
+
+        // 클라이언트 i 는 방 i % ROOMS 의 멤버
+        List<ChatRoomMember> members = new ArrayList<>(CLIENTS);
+        roomSizes = new ConcurrentHashMap<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            ChatRoomMember member = new ChatRoomMember();
+            member.setChatRoom(rooms.get(i % ROOMS));
+            member.setUser(users.get(i));
+            members.add(member);
+            roomSizes.merge(roomIds.get(i % ROOMS), 1, Integer::sum);
+        }
+        chatRoomMemberRepository.saveAll(members);
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(converter);
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+
+        publishers = Executors.newScheduledThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publishers != null) {
+            publishers.shutdownNow();
+        }
+        for (StompSession session : sessions) {
+            try {
+                session.disconnect();
+            } catch (RuntimeException ignored) {
+                // 이미 끊긴 세션
+            }
+        }
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("다수 STOMP 클라이언트의 채팅 종단 지연/처리량 측정")
+    void roomMessages_endToEndLatency() throws Exception {
+        long connectStarted = System.nanoTime();
+        connectAll();
+        long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStarted);
+
+        long periodMicros = Math.max(1, (long) (1_000_000 / RATE));
+        for (int i = 0; i < CLIENTS; i++) {
+            StompSession session = sessions.get(i);
+            Long roomId = roomIds.get(i % ROOMS);
+            Long userId = userIds.get(i);
+            long initialDelay = ThreadLocalRandom.current().nextLong(periodMicros);
+            publishers.scheduleAtFixedRate(() -> publish(session, roomId, userId),
+                    initialDelay, periodMicros, TimeUnit.MICROSECONDS);
+        }
+
+        TimeUnit.SECONDS.sleep(WARMUP_SECONDS);
+
+        JvmSnapshot before = JvmSnapshot.take();
+        AtomicLong peakHeap = new AtomicLong(before.heapUsed());
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+        heapSampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(JvmSnapshot.heapUsed(), Math::max), 0, 200, TimeUnit.MILLISECONDS);
+
+        long from = System.nanoTime();
+        measureFrom = from;
+        measureUntil = from + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        TimeUnit.SECONDS.sleep(DURATION_SECONDS);
+        publishers.shutdownNow();
+        TimeUnit.SECONDS.sleep(DRAIN_SECONDS);
+
+        heapSampler.shutdownNow();
+        JvmSnapshot after = JvmSnapshot.take();
+
+        report(connectMillis, before, after, peakHeap.get());
+
+        double deliveryRatio = expected.sum() == 0 ? 0 : (double) received.sum() / expected.sum();
+        assertThat(sent.sum()).isPositive();
+        assertThat(errors.sum()).isZero();
+        assertThat(deliveryRatio).isGreaterThanOrEqualTo(MIN_DELIVERY_RATIO);
+    }
+
+    // 동시에 CONNECT_CONCURRENCY 개까지만 핸드셰이크하며 연결 후 방을 구독 (익명 세션은 전송할 수 없으므로 클라이언트마다 JWT 로 인증)
+    private void connectAll() throws Exception {
+        String url = "ws://localhost:" + port + "/ws-chat/websocket";
+        Semaphore inFlight = new Semaphore(CONNECT_CONCURRENCY);
+        List<CompletableFuture<StompSession>> futures = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            inFlight.acquire();
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + jwtUtil.generateToken(userEmails.get(i), Map.of("role", "USER")));
+            CompletableFuture<StompSession> future =
+                    stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new LoadSessionHandler());
+            future.whenComplete((session, e) -> inFlight.release());
+            futures.add(future);
+        }
+        for (int i = 0; i < CLIENTS; i++) {
+            StompSession session = futures.get(i).get(30, TimeUnit.SECONDS);
+            session.subscribe("/topic/chat/room/" + roomIds.get(i % ROOMS), new LatencyFrameHandler());
+            sessions.add(session);
+        }
+        // 구독 등록이 끝날 때까지 잠시 대기
+        TimeUnit.SECONDS.sleep(1);
+    }
+
+    private void publish(StompSession session, Long roomId, Long userId) {
+        long now = System.nanoTime();
+        ChatMessageRequest request = new ChatMessageRequest();
+        request.setRoomId(roomId);
+        request.setSenderId(userId);
+        request.setMessage(BODY_PREFIX + now);
+        try {
+            session.send("/app/chat.sendMessage", request);
+        } catch (RuntimeException e) {
+            errors.increment();
+            return;
+        }
+        if (now >= measureFrom && now < measureUntil) {
+            sent.increment();
+            expected.add(roomSizes.get(roomId));
+        }
+    }
+
+    private void report(long connectMillis, JvmSnapshot before, JvmSnapshot after, long peakHeap) {
+        HistogramSnapshot snapshot = latency.takeSnapshot();
+        StringBuilder out = new StringBuilder("\n=== 채팅 부하 테스트 결과 ===\n");
+        out.append(String.format("clients=%d rooms=%d rate=%.2f/s/client duration=%ds warmup=%ds%n",
+                CLIENTS, ROOMS, RATE, DURATION_SECONDS, WARMUP_SECONDS));
+        out.append(String.format("connect: %d ms (%d sessions)%n", connectMillis, sessions.size()));
+        out.append(String.format("published: %d (%.1f msg/s)%n", sent.sum(), (double) sent.sum() / DURATION_SECONDS));
+        out.append(String.format("delivered: %d / %d expected (%.4f), %.1f msg/s, errors=%d%n",
+                received.sum(), expected.sum(), expected.sum() == 0 ? 0 : (double) received.sum() / expected.sum(),
+                (double) received.sum() / DURATION_SECONDS, errors.sum()));
+        out.append(String.format("latency ms: mean=%.2f max=%.2f", snapshot.mean(TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            out.append(String.format(" p%s=%.2f", trim(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        out.append('\n');
+        out.append(String.format("heap MB: before=%d after=%d peak=%d%n",
+                mb(before.heapUsed()), mb(after.heapUsed()), mb(peakHeap)));
+        for (Map.Entry<String, long[]> gc : after.gc().entrySet()) {
+            long[] start = before.gc().getOrDefault(gc.getKey(), new long[]{0, 0});
+            out.append(String.format("gc %s: collections=%d time=%d ms%n",
+                    gc.getKey(), gc.getValue()[0] - start[0], gc.getValue()[1] - start[1]));
+        }
+        appendServerMetrics(out);
+        log.warn(out.toString());
+    }
+
+    // 서버 쪽 송신 큐/저장 지표
+    private void appendServerMetrics(StringBuilder out) {
+        Timer send = serverMeterRegistry.find("chat.ws.outbound.send").timer();
+        if (send != null) {
+            out.append(String.format("server ws send: count=%d mean=%.3f ms max=%.3f ms%n",
+                    send.count(), send.mean(TimeUnit.MILLISECONDS), send.max(TimeUnit.MILLISECONDS)));
+        }
+        for (String name : List.of("chat.ws.outbound.dropped", "chat.ws.outbound.disconnected")) {
+            Counter counter = serverMeterRegistry.find(name).counter();
+            if (counter != null) {
+                out.append(String.format("server %s=%.0f%n", name, counter.count()));
+            }
+        }
+        Double ingestDepth = serverMeterRegistry.find("chat.ingest.queue.depth").gauges().stream()
+                .findFirst().map(gauge -> gauge.value()).orElse(null);
+        if (ingestDepth != null) {
+            out.append(String.format("server chat.ingest.queue.depth=%.0f%n", ingestDepth));
+        }
+    }
+
+    private static String trim(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    private static long mb(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    private class LoadSessionHandler extends StompSessionHandlerAdapter {
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            errors.increment();
+            log.warn("STOMP 처리 실패 sessionId={}", session.getSessionId(), exception);
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            errors.increment();
+            log.warn("STOMP 전송 실패 sessionId={}", session.getSessionId(), exception);
+        }
+    }
+
+    private class LatencyFrameHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return ChatMessageResponse.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            String message = ((ChatMessageResponse) payload).getMessage();
+            if (message == null || !message.startsWith(BODY_PREFIX)) {
+                return;
+            }
+            long sentAt = Long.parseLong(message.substring(BODY_PREFIX.length()));
+            if (sentAt >= measureFrom && sentAt < measureUntil) {
+                received.increment();
+                latency.record(now - sentAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private record JvmSnapshot(long heapUsed, Map<String, long[]> gc) {
+
+        static JvmSnapshot take() {
+            Map<String, long[]> gc = new LinkedHashMap<>();
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gc.put(bean.getName(), new long[]{bean.getCollectionCount(), bean.getCollectionTime()});
+            }
+            return new JvmSnapshot(heapUsed(), gc);
+        }
+
+        static long heapUsed() {
+            long used = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    used += pool.getUsage().getUsed();
+                }
+            }
+            return used;
+        }
+    }
+}
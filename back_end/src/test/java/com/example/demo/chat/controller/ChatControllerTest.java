@@ -2,24 +2,38 @@ package com.example.demo.chat.controller;
 
 import com.example.demo.chat.dto.ChatMessageRequest;
 import com.example.demo.chat.dto.ChatMessageResponse;
+import com.example.demo.chat.dto.ChatReadRequest;
 import com.example.demo.chat.dto.MessageType;
+import com.example.demo.chat.handler.StompAuthInterceptor;
 import com.example.demo.chat.service.ChatMessageService;
+import com.example.demo.chat.service.ChatReadReceipts;
+import com.example.demo.chat.service.ChatRoomBroadcaster;
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 public class ChatControllerTest {
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private ChatRoomBroadcaster chatRoomBroadcaster;
 
     @Mock
     private ChatMessageService chatMessageService;
 
+    @Mock
+    private ChatReadReceipts chatReadReceipts;
+
     @InjectMocks
     private ChatController chatController;
 
@@ -39,14 +53,14 @@ public class ChatControllerTest {
         ); // roomId, senderId, message 등 채움
         ChatMessageResponse savedResponse = new ChatMessageResponse(10L, 1L, 2L, "Hello", null);
 
-        when(chatMessageService.saveMessage(any(ChatMessageRequest.class))).thenReturn(savedResponse);
+        when(chatMessageService.submitMessage(any(ChatMessageRequest.class))).thenReturn(savedResponse);
 
         // when
-        chatController.sendRoomMessage(socketMessage);
+        chatController.sendRoomMessage(socketMessage, sessionOf(2L));
 
         // then
-        verify(chatMessageService, times(1)).saveMessage(any(ChatMessageRequest.class));
-        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/chat/room/" + savedResponse.getChatRoomId()), eq(savedResponse));
+        verify(chatMessageService, times(1)).submitMessage(any(ChatMessageRequest.class));
+        verify(chatRoomBroadcaster, times(1)).broadcast(eq("/topic/chat/room/" + savedResponse.getChatRoomId()), eq(1L), eq(savedResponse));
     }
 
     @Test
@@ -60,13 +74,71 @@ public class ChatControllerTest {
         );
         ChatMessageResponse savedResponse = new ChatMessageResponse(20L, 1L, 2L, "Private Hello", null);
 
-        when(chatMessageService.saveMessage(any(ChatMessageRequest.class))).thenReturn(savedResponse);
+        when(chatMessageService.submitMessage(any(ChatMessageRequest.class))).thenReturn(savedResponse);
 
         // when
-        chatController.sendPrivateMessage(socketMessage);
+        chatController.sendPrivateMessage(socketMessage, sessionOf(2L));
 
         // then
-        verify(chatMessageService, times(1)).saveMessage(any(ChatMessageRequest.class));
-        verify(messagingTemplate, times(1)).convertAndSend(eq("/queue/chat/room/" + savedResponse.getChatRoomId()), eq(savedResponse));
+        verify(chatMessageService, times(1)).submitMessage(any(ChatMessageRequest.class));
+        verify(chatRoomBroadcaster, times(1)).broadcast(eq("/queue/chat/room/" + savedResponse.getChatRoomId()), eq(1L), eq(savedResponse));
+    }
+
+    @Test
+    void sendRoomMessage_rejectsOtherSenderOnAuthenticatedSession() {
+        ChatMessageRequest socketMessage = new ChatMessageRequest(MessageType.CHAT, 1L, 2L, "Hello");
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatController.sendRoomMessage(socketMessage, sessionOf(7L)));
+
+        assertEquals(ErrorCode.CHATROOM_ACCESS_DENIED, exception.getErrorCode());
+        verifyNoInteractions(chatMessageService, chatRoomBroadcaster);
+    }
+
+    @Test
+    void sendRoomMessage_rejectsAnonymousSession() {
+        ChatMessageRequest socketMessage = new ChatMessageRequest(MessageType.CHAT, 1L, 2L, "Hello");
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatController.sendRoomMessage(socketMessage, SimpMessageHeaderAccessor.create()));
+
+        assertEquals(ErrorCode.USER_UNAUTHORIZED, exception.getErrorCode());
+        verifyNoInteractions(chatMessageService, chatRoomBroadcaster);
+    }
+
+    @Test
+    void sendPrivateMessage_rejectsAnonymousSession() {
+        ChatMessageRequest socketMessage = new ChatMessageRequest(MessageType.CHAT, 1L, 2L, "Hello");
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatController.sendPrivateMessage(socketMessage, SimpMessageHeaderAccessor.create()));
+
+        assertEquals(ErrorCode.USER_UNAUTHORIZED, exception.getErrorCode());
+        verifyNoInteractions(chatMessageService, chatRoomBroadcaster);
+    }
+
+    @Test
+    void markRead_usesSessionUser() {
+        chatController.markRead(new ChatReadRequest(1L, 100L), sessionOf(7L));
+
+        verify(chatReadReceipts, times(1)).acknowledge(1L, 7L, 100L);
+    }
+
+    @Test
+    void markRead_rejectsAnonymousSession() {
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatController.markRead(new ChatReadRequest(1L, 100L), SimpMessageHeaderAccessor.create()));
+
+        assertEquals(ErrorCode.USER_UNAUTHORIZED, exception.getErrorCode());
+        verifyNoInteractions(chatReadReceipts);
+    }
+
+    // StompAuthInterceptor 가 인증한 세션
+    private static SimpMessageHeaderAccessor sessionOf(Long userId) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create();
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(StompAuthInterceptor.USER_ID, userId);
+        headerAccessor.setSessionAttributes(attributes);
+        return headerAccessor;
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,9 @@ import com.example.demo.auth.filter.JwtFilter;
 import com.example.demo.auth.util.JwtUtil;
 import com.example.demo.chat.dto.ChatMessageResponse;
 import com.example.demo.chat.dto.ChatRoomRequest;
+import com.example.demo.chat.dto.ChatRoomUnreadResponse;
 import com.example.demo.chat.entity.RoomType;
+import com.example.demo.chat.service.ChatMemberService;
 import com.example.demo.chat.service.ChatMessageService;
 import com.example.demo.chat.service.ChatRoomService;
 import com.example.demo.common.response.ApiResponse;
@@ -22,6 +24,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -39,6 +44,9 @@ class ChatRoomControllerTest {
     @MockitoBean
     private ChatMessageService chatMessageService;
 
+    @MockitoBean
+    private ChatMemberService chatMemberService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -70,7 +78,7 @@ class ChatRoomControllerTest {
     void getChatMessages_success() throws Exception {
         // given
         Long chatRoomId = 1L;
-        when(chatMessageService.getAllMessagesByChatRoom(chatRoomId))
+        when(chatMessageService.getMessages(chatRoomId, null, null, null))
                 .thenReturn(mockMessages);
 
         mockMvc.perform(get("/chatroom/{chatRoomId}/messages",1L)
@@ -80,6 +88,47 @@ class ChatRoomControllerTest {
                 .andExpect(jsonPath("$.data[0].chatRoomId").value(1L));
     }
 
+    @Test
+    @DisplayName("채팅방 메시지 조회 - before 커서와 limit 전달")
+    void getChatMessages_withCursor() throws Exception {
+        when(chatMessageService.getMessages(1L, 100L, null, 20))
+                .thenReturn(mockMessages);
+
+        mockMvc.perform(get("/chatroom/{chatRoomId}/messages", 1L)
+                        .param("before", "100")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("채팅방 메시지 조회 - export 모드는 전체 히스토리")
+    void getChatMessages_export() throws Exception {
+        when(chatMessageService.getAllMessagesByChatRoom(1L))
+                .thenReturn(mockMessages);
+
+        mockMvc.perform(get("/chatroom/{chatRoomId}/messages", 1L)
+                        .param("export", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[1].message").value("Bye"));
+
+        verify(chatMessageService, never()).getMessages(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("사용자 채팅방 목록은 안 읽은 수와 함께 응답")
+    void getUserChatRooms_success() throws Exception {
+        when(chatMemberService.getChatRoomsWithUnread(1L)).thenReturn(List.of(
+                new ChatRoomUnreadResponse(1L, RoomType.TEAM, 10L, 480L, 3),
+                new ChatRoomUnreadResponse(2L, RoomType.PRIVATE, null, null, 0)));
+
+        mockMvc.perform(get("/api/chatroom/user/{userId}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].unreadCount").value(3))
+                .andExpect(jsonPath("$.data[0].lastReadMessageId").value(480));
+    }
+
     @Test
     @DisplayName("roomType 포함 시 정상 응답")
     void createPrivateChatRoom_shouldSucceed_whenRoomTypePresent() throws Exception {
@@ -0,0 +1,149 @@
+package com.example.demo.chat.handler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboundBackpressureTest {
+
+    private static final TextMessage CONNECTED = new TextMessage("CONNECTED\nversion:1.2\n\n\u0000");
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession session;
+
+    // 테스트에서 직접 실행하는 송신 스레드
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(session.getId()).thenReturn("s1");
+    }
+
+    private WebSocketSession connect(OutboundBackpressure.OverflowPolicy policy, int bufferSizeLimit) throws Exception {
+        OutboundBackpressure backpressure = new OutboundBackpressure(10_000, bufferSizeLimit, policy, tasks::add, meterRegistry);
+        backpressure.decorate(handler).afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> bounded = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(bounded.capture());
+        assertThat(backpressure.sessionCount()).isEqualTo(1);
+        return bounded.getValue();
+    }
+
+    private static TextMessage message(String body) {
+        return new TextMessage("MESSAGE\ndestination:/topic/chatroom/1\n\n" + body + "\u0000");
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    @DisplayName("큐에 넣은 메시지는 송신 스레드에서 순서대로 보낸다")
+    void sendMessage_deliversInOrder() throws Exception {
+        WebSocketSession bounded = connect(OutboundBackpressure.OverflowPolicy.DROP, 1024);
+        TextMessage first = message("a");
+        TextMessage second = message("b");
+
+        bounded.sendMessage(first);
+        bounded.sendMessage(second);
+
+        verify(session, never()).sendMessage(any());
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+
+        InOrder inOrder = inOrder(session);
+        inOrder.verify(session).sendMessage(first);
+        inOrder.verify(session).sendMessage(second);
+        assertThat(meterRegistry.timer("chat.ws.outbound.send").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("chat.ws.outbound.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("DROP 정책은 버퍼를 넘는 브로드캐스트만 버리고 제어 프레임은 보낸다")
+    void sendMessage_dropsBroadcastOnOverflow() throws Exception {
+        TextMessage first = message("x".repeat(40));
+        WebSocketSession bounded = connect(OutboundBackpressure.OverflowPolicy.DROP, first.getPayloadLength() + 10);
+
+        bounded.sendMessage(first);
+        bounded.sendMessage(message("y".repeat(40)));
+        bounded.sendMessage(CONNECTED);
+
+        assertThat(meterRegistry.counter("chat.ws.outbound.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.ws.outbound.queue.depth").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("chat.ws.outbound.sessions.throttled").gauge().value()).isEqualTo(1);
+
+        runTasks();
+
+        verify(session).sendMessage(first);
+        verify(session).sendMessage(CONNECTED);
+        verify(session, times(2)).sendMessage(any());
+        verify(session, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 정책은 버퍼를 넘으면 세션을 끊고 남은 메시지를 버린다")
+    void sendMessage_disconnectsOnOverflow() throws Exception {
+        TextMessage first = message("x".repeat(40));
+        WebSocketSession bounded = connect(OutboundBackpressure.OverflowPolicy.DISCONNECT, first.getPayloadLength() + 10);
+
+        bounded.sendMessage(first);
+        bounded.sendMessage(message("y".repeat(40)));
+
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("chat.ws.outbound.disconnected").count()).isEqualTo(1);
+
+        runTasks();
+        bounded.sendMessage(message("z"));
+
+        verify(session, never()).sendMessage(any());
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 세션 등록을 지운다")
+    void afterConnectionClosed_unregisters() throws Exception {
+        OutboundBackpressure backpressure = new OutboundBackpressure(10_000, 1024,
+                OutboundBackpressure.OverflowPolicy.DROP, tasks::add, meterRegistry);
+        WebSocketHandler decorated = backpressure.decorate(handler);
+        decorated.afterConnectionEstablished(session);
+
+        decorated.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        assertThat(backpressure.sessionCount()).isZero();
+        verify(handler).afterConnectionClosed(any(), eq(CloseStatus.NORMAL));
+    }
+
+    @Test
+    @DisplayName("MESSAGE 프레임만 버릴 수 있다")
+    void isDroppable() {
+        assertThat(OutboundBackpressure.isDroppable(message("a"))).isTrue();
+        assertThat(OutboundBackpressure.isDroppable(CONNECTED)).isFalse();
+        assertThat(OutboundBackpressure.isDroppable(new TextMessage("MESSAGES\n\n"))).isFalse();
+    }
+}
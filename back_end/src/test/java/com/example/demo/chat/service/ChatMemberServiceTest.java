@@ -18,6 +18,9 @@ class ChatMemberServiceTest {
     @Mock
     private ChatRoomMemberRepository chatRoomMemberRepository;
 
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
     @InjectMocks
     private ChatMemberService chatMemberService;
 
@@ -43,6 +46,7 @@ class ChatMemberServiceTest {
         assertEquals(chatRoom, result.getChatRoom());
 
         verify(chatRoomMemberRepository, times(1)).existsByUserAndChatRoom(user, chatRoom);
+        verify(chatRoomMembershipCache, times(1)).memberAdded(chatRoom.getId(), user.getId());
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.example.demo.chat.service;
 
 import com.example.demo.chat.dao.ChatMessageRepository;
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
 import com.example.demo.chat.dao.ChatRoomRepository;
 import com.example.demo.chat.dto.ChatMessageRequest;
 import com.example.demo.chat.dto.ChatMessageResponse;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -29,9 +32,24 @@ class ChatMessageServiceTest {
     @Mock
     private ChatRoomRepository chatRoomRepository;
 
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ChatMessageIdGenerator chatMessageIdGenerator;
+
+    @Mock
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+
+    @Mock
+    private RecentMessageCache recentMessageCache;
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
     @InjectMocks
     private ChatMessageService chatMessageService;
 
@@ -96,6 +114,7 @@ class ChatMessageServiceTest {
         verify(chatRoomRepository).findById(chatMessageRequest.getRoomId());
         verify(userRepository).findById(chatMessageRequest.getSenderId());
         verify(chatMessageRepository).save(any(ChatMessage.class));
+        verify(chatRoomMemberRepository).incrementUnread(1L, 2L, 1);
     }
 
     @Test
@@ -127,6 +146,55 @@ class ChatMessageServiceTest {
         verify(chatMessageRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("실시간 전송 - ID 채번 후 write-behind 큐에 적재, 멤버 확인만 하고 DB 는 거치지 않음")
+    void submitMessage_success() {
+        when(chatRoomMembershipCache.isMember(1L, 10L)).thenReturn(true);
+        when(chatMessageIdGenerator.nextId()).thenReturn(100L, 101L);
+
+        ChatMessageResponse first = chatMessageService.submitMessage(chatMessageRequest);
+        ChatMessageResponse second = chatMessageService.submitMessage(chatMessageRequest);
+
+        assertEquals(100L, first.getId());
+        assertEquals(101L, second.getId());
+        assertEquals(1L, first.getChatRoomId());
+        assertEquals(10L, first.getSenderId());
+        assertNotNull(first.getCreatedAt());
+        verify(chatMessageWriteBehind).enqueue(eq(100L), eq(1L), eq(10L), eq("Hello"), any(LocalDateTime.class));
+        verify(chatMessageWriteBehind).enqueue(eq(101L), eq(1L), eq(10L), eq("Hello"), any(LocalDateTime.class));
+        verifyNoInteractions(chatRoomRepository, userRepository);
+        verify(chatMessageRepository, never()).save(any());
+        verify(recentMessageCache, times(2)).append(any(ChatMessageResponse.class));
+    }
+
+    @Test
+    @DisplayName("실시간 전송 실패 - 채팅 룸 없음")
+    void submitMessage_chatRoomNotFound() {
+        when(chatRoomMembershipCache.isMember(1L, 10L)).thenReturn(false);
+        when(chatRoomRepository.existsById(1L)).thenReturn(false);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatMessageService.submitMessage(chatMessageRequest));
+
+        assertEquals(ErrorCode.CHAT_ROOM_NOT_FOUND, exception.getErrorCode());
+        verify(chatMessageIdGenerator, never()).nextId();
+        verifyNoInteractions(chatMessageWriteBehind);
+    }
+
+    @Test
+    @DisplayName("실시간 전송 실패 - 채팅방 멤버가 아닌 발신자")
+    void submitMessage_notMember() {
+        when(chatRoomMembershipCache.isMember(1L, 10L)).thenReturn(false);
+        when(chatRoomRepository.existsById(1L)).thenReturn(true);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatMessageService.submitMessage(chatMessageRequest));
+
+        assertEquals(ErrorCode.CHATROOM_ACCESS_DENIED, exception.getErrorCode());
+        verify(chatMessageIdGenerator, never()).nextId();
+        verifyNoInteractions(chatMessageWriteBehind);
+    }
+
     @Test
     @DisplayName("채팅방 채팅 로그 조회")
     void getAllMessagesByChatRoom_success() {
@@ -141,5 +209,69 @@ class ChatMessageServiceTest {
 
         verify(chatMessageRepository).findByChatRoomIdOrderByCreatedAtAsc(1L);
     }
-}
+    @Test
+    @DisplayName("커서 없이 조회하면 최신 메시지를 ID 오름차순으로 반환")
+    void getMessages_latest() {
+        when(recentMessageCache.latest(1L, ChatMessageService.DEFAULT_LIMIT)).thenReturn(Optional.empty());
+        when(chatMessageRepository.findByChatRoomIdOrderByIdDesc(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(chatMessage2, chatMessage1));
+
+        List<ChatMessageResponse> responses = chatMessageService.getMessages(1L, null, null, null);
+
+        assertEquals(List.of(10L, 11L), responses.stream().map(ChatMessageResponse::getId).toList());
+        verify(chatMessageRepository).findByChatRoomIdOrderByIdDesc(1L, PageRequest.of(0, RecentMessageCache.CAPACITY));
+        verify(chatMessageRepository, never()).findByChatRoomIdOrderByCreatedAtAsc(any());
+        // 방 히스토리 전체가 캐시 용량보다 적으므로 complete 로 채움
+        verify(recentMessageCache).seed(eq(1L), argThat(list -> list.size() == 2), eq(true));
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 최근 메시지 캐시에서 응답")
+    void getMessages_latestFromCache() {
+        ChatMessageResponse cachedMessage = new ChatMessageResponse(11L, 1L, 2L, "msg2", LocalDateTime.now());
+        when(recentMessageCache.latest(1L, 20)).thenReturn(Optional.of(List.of(cachedMessage)));
+
+        List<ChatMessageResponse> responses = chatMessageService.getMessages(1L, null, null, 20);
+
+        assertEquals(List.of(cachedMessage), responses);
+        verifyNoInteractions(chatMessageRepository);
+    }
 
+    @Test
+    @DisplayName("before 커서는 이전 메시지, after 커서는 이후 메시지를 limit 만큼 조회")
+    void getMessages_cursor() {
+        when(chatMessageRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(1L, 11L, PageRequest.of(0, 1)))
+                .thenReturn(List.of(chatMessage1));
+        when(chatMessageIdGenerator.lowestIdAt(anyLong())).thenReturn(5L);
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(1L, 5L, 10L))
+                .thenReturn(List.of(chatMessage1));
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(1L, 10L, PageRequest.of(0, ChatMessageService.MAX_LIMIT)))
+                .thenReturn(List.of(chatMessage2));
+
+        assertEquals(10L, chatMessageService.getMessages(1L, 11L, null, 1).get(0).getId());
+        // 최근 커서는 겹침 구간을 다시 포함
+        assertEquals(List.of(10L, 11L), chatMessageService.getMessages(1L, null, 10L, 10_000).stream()
+                .map(ChatMessageResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("겹침 구간보다 오래된 after 커서는 이후 메시지만 조회")
+    void getMessages_settledCursor() {
+        when(chatMessageIdGenerator.lowestIdAt(anyLong())).thenReturn(20L);
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(1L, 10L, PageRequest.of(0, ChatMessageService.DEFAULT_LIMIT)))
+                .thenReturn(List.of(chatMessage2));
+
+        assertEquals(List.of(11L), chatMessageService.getMessages(1L, null, 10L, null).stream()
+                .map(ChatMessageResponse::getId).toList());
+        verify(chatMessageRepository, never()).findByChatRoomIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("before 와 after 를 함께 주면 INVALID_REQUEST")
+    void getMessages_bothCursors() {
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatMessageService.getMessages(1L, 11L, 10L, null));
+
+        assertEquals(ErrorCode.INVALID_REQUEST.getMessage(), exception.getMessage());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dao.ChatMessageRepository;
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import com.example.demo.chat.dao.ChatRoomRepository;
+import com.example.demo.chat.entity.ChatMessage;
+import com.example.demo.user.dao.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriteBehindTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writeBehind = new ChatMessageWriteBehind(chatMessageRepository, chatRoomRepository, chatRoomMemberRepository, userRepository, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("모인 메시지는 적재 순서대로 한 번의 saveAll 로 저장")
+    @SuppressWarnings("unchecked")
+    void flush_persistsInBatch() {
+        enqueue(1L, 2L, 3L);
+        assertThat(meterRegistry.get("chat.ingest.queue.depth").gauge().value()).isEqualTo(3.0);
+
+        writeBehind.flush();
+
+        ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(ChatMessage::getId).containsExactly(1L, 2L, 3L);
+        assertThat(captor.getValue()).allMatch(ChatMessage::isNew);
+        verify(chatRoomRepository, never()).findById(any());
+        verify(chatRoomMemberRepository, times(1)).incrementUnread(1L, 2L, 3);
+        assertThat(meterRegistry.counter("chat.ingest.persisted").count()).isEqualTo(3);
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("안 읽은 수는 (채팅방, 발신자) 묶음마다 한 번씩 증가")
+    void flush_incrementsUnreadPerRoomAndSender() {
+        writeBehind.enqueue(1L, 10L, 100L, "a", LocalDateTime.now());
+        writeBehind.enqueue(2L, 20L, 100L, "b", LocalDateTime.now());
+        writeBehind.enqueue(3L, 10L, 100L, "c", LocalDateTime.now());
+        writeBehind.enqueue(4L, 10L, 200L, "d", LocalDateTime.now());
+
+        writeBehind.flush();
+
+        verify(chatRoomMemberRepository).incrementUnread(10L, 100L, 2);
+        verify(chatRoomMemberRepository).incrementUnread(10L, 200L, 1);
+        verify(chatRoomMemberRepository).incrementUnread(20L, 100L, 1);
+        verifyNoMoreInteractions(chatRoomMemberRepository);
+    }
+
+    @Test
+    @DisplayName("배치 실패 시 건별로 저장하고 무결성 위반 메시지만 버린다")
+    void flush_isolatesBadMessage() {
+        enqueue(1L, 2L, 3L);
+        when(chatMessageRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException("fk"));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage message = invocation.getArgument(0);
+            if (message.getId() == 2L) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return message;
+        });
+
+        writeBehind.flush();
+
+        verify(chatMessageRepository, times(3)).save(any(ChatMessage.class));
+        // 저장에 성공한 두 건만 반영
+        verify(chatRoomMemberRepository, times(2)).incrementUnread(1L, 2L, 1);
+        assertThat(meterRegistry.counter("chat.ingest.persisted").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.ingest.dropped").count()).isEqualTo(1);
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("일시적인 DB 오류면 남은 메시지를 큐 앞쪽에 되돌려 다음 주기에 재시도")
+    @SuppressWarnings("unchecked")
+    void flush_requeuesOnTransientFailure() {
+        enqueue(1L, 2L);
+        when(chatMessageRepository.saveAll(any())).thenThrow(new QueryTimeoutException("timeout"));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        writeBehind.flush();
+
+        assertThat(writeBehind.pendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.ingest.dropped").count()).isZero();
+
+        reset(chatMessageRepository);
+        writeBehind.flush();
+
+        ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(ChatMessage::getId).containsExactly(1L, 2L);
+    }
+
+    private void enqueue(Long... ids) {
+        for (Long id : ids) {
+            writeBehind.enqueue(id, 1L, 2L, "msg" + id, LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatReadReceiptsTest {
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatReadReceipts readReceipts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readReceipts = new ChatReadReceipts(chatRoomMemberRepository, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 멤버의 읽음 확인은 가장 큰 메시지 ID 하나로 합쳐 반영")
+    void flush_coalescesPerMember() {
+        readReceipts.acknowledge(1L, 2L, 100L);
+        readReceipts.acknowledge(1L, 2L, 120L);
+        readReceipts.acknowledge(1L, 2L, 110L);
+        readReceipts.acknowledge(3L, 2L, 50L);
+
+        readReceipts.flush();
+
+        verify(chatRoomMemberRepository).markRead(1L, 2L, 120L);
+        verify(chatRoomMemberRepository).markRead(3L, 2L, 50L);
+        verifyNoMoreInteractions(chatRoomMemberRepository);
+        assertThat(meterRegistry.counter("chat.read.coalesced").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.read.applied").count()).isEqualTo(2);
+        assertThat(readReceipts.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 주기에 재시도하고, 그 사이 들어온 더 큰 ID 를 유지")
+    void flush_retriesOnFailure() {
+        readReceipts.acknowledge(1L, 2L, 100L);
+        when(chatRoomMemberRepository.markRead(1L, 2L, 100L)).thenThrow(new QueryTimeoutException("timeout"));
+
+        readReceipts.flush();
+
+        assertThat(readReceipts.pendingCount()).isEqualTo(1);
+
+        readReceipts.acknowledge(1L, 2L, 130L);
+
+        readReceipts.flush();
+
+        verify(chatRoomMemberRepository).markRead(eq(1L), eq(2L), eq(130L));
+        assertThat(readReceipts.pendingCount()).isZero();
+    }
+}
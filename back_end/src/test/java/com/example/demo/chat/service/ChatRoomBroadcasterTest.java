@@ -0,0 +1,127 @@
+package com.example.demo.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import com.hazelcast.topic.MessageListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomBroadcasterTest {
+
+    private static final UUID LOCAL = UUID.randomUUID();
+    private static final UUID REMOTE = UUID.randomUUID();
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private Cluster cluster;
+
+    @Mock
+    private Member member;
+
+    @Mock
+    private ITopic<ChatRoomBroadcaster.Frame> topic;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatRoomBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        when(hazelcastInstance.getCluster()).thenReturn(cluster);
+        when(cluster.getLocalMember()).thenReturn(member);
+        when(member.getUuid()).thenReturn(LOCAL);
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new ChatRoomBroadcaster(hazelcastInstance, messagingTemplate, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("로컬 구독자에게 바로 전달하고 방 파티션 토픽으로 발행")
+    void broadcast_localAndPublish() {
+        when(hazelcastInstance.<ChatRoomBroadcaster.Frame>getReliableTopic("chatRoom-3")).thenReturn(topic);
+        when(topic.publishAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        broadcaster.broadcast("/topic/chat/room/3", 3L, Map.of("message", "hi"));
+
+        verify(messagingTemplate).send(eq("/topic/chat/room/3"), any(org.springframework.messaging.Message.class));
+        ArgumentCaptor<ChatRoomBroadcaster.Frame> captor = ArgumentCaptor.forClass(ChatRoomBroadcaster.Frame.class);
+        verify(topic).publishAsync(captor.capture());
+        assertThat(meterRegistry.counter("chat.broker.published").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파티션의 첫 구독에서만 토픽 리스너를 등록하고 마지막 구독 해제 시 제거")
+    void subscriptions_manageListener() {
+        UUID registration = UUID.randomUUID();
+        when(hazelcastInstance.<ChatRoomBroadcaster.Frame>getReliableTopic("chatRoom-1")).thenReturn(topic);
+        when(topic.addMessageListener(any())).thenReturn(registration);
+
+        // 1 과 65 는 같은 파티션
+        broadcaster.onSubscribe("s1", "sub-1", "/topic/chat/room/1");
+        broadcaster.onSubscribe("s2", "sub-1", "/topic/chat/room/65");
+        broadcaster.onSubscribe("s2", "sub-2", "/topic/team/offer/1");
+
+        verify(topic, times(1)).addMessageListener(any());
+        assertThat(broadcaster.hasLocalSubscribers(65L)).isTrue();
+
+        broadcaster.onUnsubscribe("s1", "sub-1");
+        verify(topic, never()).removeMessageListener(any());
+        assertThat(broadcaster.hasLocalSubscribers(1L)).isFalse();
+
+        broadcaster.onDisconnect("s2");
+        verify(topic).removeMessageListener(registration);
+        assertThat(meterRegistry.get("chat.broker.partitions.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드 메시지는 로컬 구독자가 있는 방만 전달하고, 자기 발행분은 무시")
+    @SuppressWarnings("unchecked")
+    void listener_deliversOnlyToLocalRooms() {
+        when(hazelcastInstance.<ChatRoomBroadcaster.Frame>getReliableTopic(anyString())).thenReturn(topic);
+        ArgumentCaptor<MessageListener<ChatRoomBroadcaster.Frame>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        when(topic.addMessageListener(captor.capture())).thenReturn(UUID.randomUUID());
+        broadcaster.onSubscribe("s1", "sub-1", "/topic/chat/room/1");
+        MessageListener<ChatRoomBroadcaster.Frame> listener = captor.getValue();
+
+        listener.onMessage(message(REMOTE, 1L));
+        listener.onMessage(message(REMOTE, 65L));
+        listener.onMessage(message(LOCAL, 1L));
+
+        verify(messagingTemplate, times(1)).send(eq("/topic/chat/room/1"), any(org.springframework.messaging.Message.class));
+        assertThat(meterRegistry.counter("chat.broker.delivered").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.broker.skipped").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("chat.broker.cross.latency").count()).isEqualTo(1);
+    }
+
+    private Message<ChatRoomBroadcaster.Frame> message(UUID origin, Long roomId) {
+        byte[] body = "{\"message\":\"hi\"}".getBytes(StandardCharsets.UTF_8);
+        ChatRoomBroadcaster.Frame frame = new ChatRoomBroadcaster.Frame(origin, "/topic/chat/room/" + roomId, roomId, body, System.currentTimeMillis());
+        return new Message<>("chatRoom-1", frame, System.currentTimeMillis(), null);
+    }
+}
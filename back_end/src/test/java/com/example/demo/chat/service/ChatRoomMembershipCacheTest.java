@@ -0,0 +1,123 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dao.ChatRoomMemberRepository;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMembershipCacheTest {
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private IMap<Object, Object> members;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatRoomMembershipCache membershipCache;
+
+    @BeforeEach
+    void setUp() {
+        when(hazelcastInstance.getMap(ChatRoomMembershipCache.MAP)).thenReturn(members);
+        meterRegistry = new SimpleMeterRegistry();
+        membershipCache = new ChatRoomMembershipCache(hazelcastInstance, chatRoomMemberRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 멤버는 DB 없이 허용")
+    void isMember_cached() {
+        when(members.get(1L)).thenReturn(new HashSet<>(Set.of(2L, 3L)));
+
+        assertThat(membershipCache.isMember(1L, 2L)).isTrue();
+
+        verifyNoInteractions(chatRoomMemberRepository);
+        verify(members, never()).lock(any(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 방은 키 락을 잡고 DB 에서 멤버 목록을 채운다")
+    void isMember_loadsUnderLock() {
+        when(members.get(1L)).thenReturn(null);
+        when(chatRoomMemberRepository.findUserIdsByChatRoomId(1L)).thenReturn(List.of(2L, 3L));
+
+        assertThat(membershipCache.isMember(1L, 3L)).isTrue();
+
+        InOrder inOrder = inOrder(members, chatRoomMemberRepository);
+        inOrder.verify(members).lock(eq(1L), anyLong(), eq(TimeUnit.MILLISECONDS));
+        inOrder.verify(chatRoomMemberRepository).findUserIdsByChatRoomId(1L);
+        inOrder.verify(members).set(1L, new HashSet<>(Set.of(2L, 3L)));
+        inOrder.verify(members).unlock(1L);
+        assertThat(meterRegistry.counter("chat.membership.loads").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 반영이 늦은 멤버는 DB 재확인으로 허용하고 캐시에 추가")
+    void isMember_recoversFromDatabase() {
+        when(members.get(1L)).thenReturn(new HashSet<>(Set.of(2L)));
+        when(chatRoomMemberRepository.existsByUserIdAndChatRoomId(4L, 1L)).thenReturn(true);
+
+        assertThat(membershipCache.isMember(1L, 4L)).isTrue();
+
+        verify(members).executeOnKey(eq(1L), any(ChatRoomMembershipCache.AddProcessor.class));
+        assertThat(meterRegistry.counter("chat.membership.recovered").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 에도 없는 사용자는 거절")
+    void isMember_denied() {
+        when(members.get(1L)).thenReturn(new HashSet<>(Set.of(2L)));
+        when(chatRoomMemberRepository.existsByUserIdAndChatRoomId(9L, 1L)).thenReturn(false);
+
+        assertThat(membershipCache.isMember(1L, 9L)).isFalse();
+
+        verify(members, never()).executeOnKey(any(), any());
+        assertThat(meterRegistry.counter("chat.membership.denied").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 탈퇴/삭제를 바로 반영")
+    void memberRemovedAndEvict_applyImmediately() {
+        membershipCache.memberRemoved(1L, 2L);
+        membershipCache.evictRoom(1L);
+
+        verify(members).executeOnKey(eq(1L), any(ChatRoomMembershipCache.RemoveProcessor.class));
+        verify(members).delete(1L);
+    }
+
+    @Test
+    @DisplayName("엔트리 프로세서는 캐시에 없는 방을 만들지 않는다")
+    void processors_skipAbsentRoom() {
+        Map.Entry<Long, HashSet<Long>> absent = new AbstractMap.SimpleEntry<>(1L, null);
+        assertThat(new ChatRoomMembershipCache.AddProcessor(2L).process(absent)).isFalse();
+        assertThat(absent.getValue()).isNull();
+
+        Map.Entry<Long, HashSet<Long>> present = new AbstractMap.SimpleEntry<>(1L, new HashSet<>(Set.of(2L)));
+        assertThat(new ChatRoomMembershipCache.AddProcessor(3L).process(present)).isTrue();
+        assertThat(new ChatRoomMembershipCache.RemoveProcessor(2L).process(present)).isTrue();
+        assertThat(present.getValue()).containsExactly(3L);
+    }
+}
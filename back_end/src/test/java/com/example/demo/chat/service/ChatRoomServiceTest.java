@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.*;
 
@@ -36,6 +38,15 @@ class ChatRoomServiceTest {
     @Mock
     private ChatMemberService chatMemberService;
 
+    @Mock
+    private RecentMessageCache recentMessageCache;
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ChatRoomService chatRoomService;
 
@@ -76,8 +87,8 @@ class ChatRoomServiceTest {
     @Test
     @DisplayName("1:1 채팅방 생성 - 이미 존재하는 채팅 방")
     void createPrivateChatRoom_existingRoom_returnsExistingRoom() {
-        when(userRepository.findByIdWithChatRoomMembers(chatRoomRequest.getUser1Id())).thenReturn(Optional.of(user1));
-        when(userRepository.findByIdWithChatRoomMembers(chatRoomRequest.getUser2Id())).thenReturn(Optional.of(user2));
+        chatRoom.setPrivatePair(user1.getId(), user2.getId());
+        when(chatRoomRepository.findByPrivateUserLowAndPrivateUserHigh(1L, 2L)).thenReturn(Optional.of(chatRoom));
 
         ChatRoomResponse response = chatRoomService.createPrivateChatRoom(chatRoomRequest);
 
@@ -90,6 +101,52 @@ class ChatRoomServiceTest {
         verify(chatMemberService, never()).createChatRoomMember(any(), any());
     }
 
+    @Test
+    @DisplayName("1:1 채팅방 생성 - 사용자 순서가 바뀌어도 같은 방 조회")
+    void createPrivateChatRoom_reversedPair_usesCanonicalKey() {
+        chatRoomRequest.setUser1Id(2L);
+        chatRoomRequest.setUser2Id(1L);
+        when(chatRoomRepository.findByPrivateUserLowAndPrivateUserHigh(1L, 2L)).thenReturn(Optional.of(chatRoom));
+
+        ChatRoomResponse response = chatRoomService.createPrivateChatRoom(chatRoomRequest);
+
+        assertEquals(chatRoom.getId(), response.getRoomId());
+        verify(chatRoomRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("1:1 채팅방 생성 - 동시 생성에서 진 쪽은 새 트랜잭션에서 이긴 쪽의 방을 돌려준다")
+    void createPrivateChatRoom_concurrentCreate_returnsWinnerRoom() {
+        chatRoom.setPrivatePair(user1.getId(), user2.getId());
+        when(chatRoomRepository.findByPrivateUserLowAndPrivateUserHigh(1L, 2L))
+                .thenReturn(Optional.empty(), Optional.of(chatRoom));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user1));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user2));
+        when(chatRoomRepository.save(any(ChatRoom.class))).thenThrow(new DataIntegrityViolationException("chat_room_private_pair_uk"));
+
+        ChatRoomResponse response = chatRoomService.createPrivateChatRoom(chatRoomRequest);
+
+        assertEquals(chatRoom.getId(), response.getRoomId());
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+        verify(chatMemberService, never()).createChatRoomMember(any(), any());
+    }
+
+    @Test
+    @DisplayName("1:1 채팅방 생성 - 제약 위반 후에도 방이 없으면 PRIVATE_CHAT_ROOM_CONFLICT")
+    void createPrivateChatRoom_concurrentCreate_conflict() {
+        when(chatRoomRepository.findByPrivateUserLowAndPrivateUserHigh(1L, 2L)).thenReturn(Optional.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user1));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user2));
+        when(chatRoomRepository.save(any(ChatRoom.class))).thenThrow(new DataIntegrityViolationException("chat_room_private_pair_uk"));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> chatRoomService.createPrivateChatRoom(chatRoomRequest));
+
+        assertEquals(ErrorCode.PRIVATE_CHAT_ROOM_CONFLICT, exception.getErrorCode());
+        verify(chatMemberService, never()).createChatRoomMember(any(), any());
+    }
+
     @Test
     @DisplayName("1:1 채팅방 생성 성공")
     void createPrivateChatRoom_noExistingRoom_createsNewRoom() {
@@ -97,8 +154,9 @@ class ChatRoomServiceTest {
         chatRoomMember1.setChatRoom(null);
         chatRoomMember2.setUser(null);
         chatRoomMember2.setChatRoom(null);
-        when(userRepository.findByIdWithChatRoomMembers(chatRoomRequest.getUser1Id())).thenReturn(Optional.of(user1));
-        when(userRepository.findByIdWithChatRoomMembers(chatRoomRequest.getUser2Id())).thenReturn(Optional.of(user2));
+        when(chatRoomRepository.findByPrivateUserLowAndPrivateUserHigh(1L, 2L)).thenReturn(Optional.empty());
+        when(userRepository.findById(chatRoomRequest.getUser1Id())).thenReturn(Optional.of(user1));
+        when(userRepository.findById(chatRoomRequest.getUser2Id())).thenReturn(Optional.of(user2));
 
         when(chatMemberService.createChatRoomMember(eq(user1), any(ChatRoom.class)))
                 .thenAnswer(invocation -> {
@@ -123,14 +181,18 @@ class ChatRoomServiceTest {
         assertEquals(101L, response.getRoomId());
         assertEquals(RoomType.PRIVATE, response.getRoomType());
 
-        verify(chatRoomRepository).save(any(ChatRoom.class));
+        ArgumentCaptor<ChatRoom> captor = ArgumentCaptor.forClass(ChatRoom.class);
+        verify(chatRoomRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getPrivateUserLow());
+        assertEquals(2L, captor.getValue().getPrivateUserHigh());
         verify(chatMemberService, times(2)).createChatRoomMember(any(User.class), any(ChatRoom.class));
     }
 
     @Test
     @DisplayName("1:1 채팅방 생성 실패 - 유저 id 없음")
     void createPrivateChatRoom_failWithUserNotFound() {
-        when(userRepository.findByIdWithChatRoomMembers(chatRoomRequest.getUser1Id())).thenReturn(Optional.empty());
+        when(chatRoomRepository.findByPrivateUserLowAndPrivateUserHigh(1L, 2L)).thenReturn(Optional.empty());
+        when(userRepository.findById(chatRoomRequest.getUser1Id())).thenReturn(Optional.empty());
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> chatRoomService.createPrivateChatRoom(chatRoomRequest));
 
@@ -256,6 +318,8 @@ class ChatRoomServiceTest {
         // then
         verify(chatRoomRepository).findById(chatRoom.getId());
         verify(chatRoomRepository).delete(chatRoom);
+        verify(recentMessageCache).evict(chatRoom.getId());
+        verify(chatRoomMembershipCache).evictRoom(chatRoom.getId());
     }
 
     @Test
@@ -0,0 +1,79 @@
+package com.example.demo.chat.service;
+
+import com.example.demo.chat.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRecentMessageCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalRecentMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new LocalRecentMessageCache(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("DB 로 채워지기 전에는 전송분만으로 응답하지 않는다")
+    void latest_requiresSeed() {
+        cache.append(message(1L, 5L));
+
+        assertThat(cache.latest(1L, 10)).isEmpty();
+
+        cache.seed(1L, List.of(message(1L, 3L), message(1L, 4L)), true);
+
+        assertThat(cache.latest(1L, 10)).hasValueSatisfying(list ->
+                assertThat(list).extracting(ChatMessageResponse::getId).containsExactly(3L, 4L, 5L));
+        assertThat(meterRegistry.counter("chat.recent.lookup", "store", "local", "outcome", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송분은 ID 순으로 쌓이고, 용량을 넘으면 오래된 것부터 밀려나 더 이상 전체 히스토리가 아니다")
+    void append_ordersAndTrims() {
+        cache.seed(1L, List.of(), true);
+        cache.append(message(1L, 2L));
+        cache.append(message(1L, 1L));
+
+        assertThat(cache.latest(1L, 10)).hasValueSatisfying(list ->
+                assertThat(list).extracting(ChatMessageResponse::getId).containsExactly(1L, 2L));
+
+        LongStream.rangeClosed(3, RecentMessageCache.CAPACITY + 1).forEach(id -> cache.append(message(1L, id)));
+
+        assertThat(cache.latest(1L, RecentMessageCache.CAPACITY)).hasValueSatisfying(list -> {
+            assertThat(list).hasSize(RecentMessageCache.CAPACITY);
+            assertThat(list.get(0).getId()).isEqualTo(2L);
+        });
+        assertThat(cache.latest(1L, RecentMessageCache.CAPACITY + 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘으면 가장 오래 사용되지 않은 방부터 제거")
+    void evictsLeastRecentlyUsedRoom() {
+        // 방 하나당 약 12MB
+        String large = "x".repeat(6_000_000);
+        cache.seed(1L, List.of(new ChatMessageResponse(1L, 1L, 1L, large, LocalDateTime.now())), true);
+        cache.seed(2L, List.of(new ChatMessageResponse(2L, 2L, 1L, large, LocalDateTime.now())), true);
+        cache.latest(1L, 1);
+
+        cache.seed(3L, List.of(new ChatMessageResponse(3L, 3L, 1L, large, LocalDateTime.now())), true);
+
+        assertThat(cache.latest(2L, 1)).isEmpty();
+        assertThat(cache.latest(1L, 1)).isPresent();
+        assertThat(cache.latest(3L, 1)).isPresent();
+        assertThat(meterRegistry.counter("chat.recent.evicted", "store", "local").count()).isEqualTo(1);
+    }
+
+    private ChatMessageResponse message(Long roomId, Long id) {
+        return new ChatMessageResponse(id, roomId, 1L, "msg" + id, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.common.lock;
+
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedLockServiceTest {
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private Cluster cluster;
+
+    @Mock
+    private IMap<Object, Object> locks;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DistributedLockService lockService;
+
+    @BeforeEach
+    void setUp() {
+        when(hazelcastInstance.getMap(DistributedLockService.MAP)).thenReturn(locks);
+        when(hazelcastInstance.getCluster()).thenReturn(cluster);
+        meterRegistry = new SimpleMeterRegistry();
+        lockService = new DistributedLockService(hazelcastInstance, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("단일 멤버면 로컬 락으로 같은 키의 다른 스레드 획득을 막는다")
+    void localLock_blocksOtherThreads() throws Exception {
+        when(cluster.getMembers()).thenReturn(Set.of(mock(Member.class)));
+
+        try (DistributedLockService.Handle ignored = lockService.acquire("test", 1L, Duration.ZERO)) {
+            Optional<DistributedLockService.Handle> other = CompletableFuture
+                    .supplyAsync(() -> lockService.tryAcquire("test", 1L, Duration.ofMillis(50)))
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(other).isEmpty();
+        }
+
+        Optional<DistributedLockService.Handle> afterRelease = CompletableFuture
+                .supplyAsync(() -> {
+                    Optional<DistributedLockService.Handle> handle = lockService.tryAcquire("test", 1L, Duration.ZERO);
+                    handle.ifPresent(DistributedLockService.Handle::close);
+                    return handle;
+                })
+                .get(5, TimeUnit.SECONDS);
+        assertThat(afterRelease).isPresent();
+        assertThat(meterRegistry.counter("lock.contention", "namespace", "test").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("lock.held", "namespace", "test").count()).isEqualTo(2);
+        verifyNoInteractions(locks);
+    }
+
+    @Test
+    @DisplayName("여러 멤버면 Hazelcast 락을 사용하고, 대기 시간 내 실패하면 LOCK_ACQUIRE_FAILED")
+    void clusterLock_timeout() throws Exception {
+        when(cluster.getMembers()).thenReturn(Set.of(mock(Member.class), mock(Member.class)));
+        when(locks.tryLock(eq("test:1"), anyLong(), any(TimeUnit.class), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> lockService.acquire("test", 1L, Duration.ofMillis(10)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.LOCK_ACQUIRE_FAILED.getMessage());
+
+        verify(locks, times(2)).tryLock(eq("test:1"), anyLong(), any(TimeUnit.class), anyLong(), any(TimeUnit.class));
+        assertThat(meterRegistry.timer("lock.acquire", "namespace", "test", "mode", "cluster", "outcome", "timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Hazelcast 락은 close 시 한 번만 해제한다")
+    void clusterLock_release() throws Exception {
+        when(cluster.getMembers()).thenReturn(Set.of(mock(Member.class), mock(Member.class)));
+        when(locks.tryLock(eq("test:1"), anyLong(), any(TimeUnit.class), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        DistributedLockService.Handle handle = lockService.acquire("test", 1L, Duration.ZERO);
+        handle.close();
+        handle.close();
+
+        verify(locks, times(1)).unlock("test:1");
+    }
+}
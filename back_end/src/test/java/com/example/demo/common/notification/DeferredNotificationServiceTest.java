@@ -0,0 +1,101 @@
+package com.example.demo.common.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeferredNotificationServiceTest {
+
+    @Mock
+    private DeferredNotificationRepository deferredNotificationRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeferredNotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new DeferredNotificationService(deferredNotificationRepository, messagingTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("수신자별 destination 으로 보류")
+    @SuppressWarnings("unchecked")
+    void defer_perRecipient() {
+        service.defer("/queue/team/offer/", List.of(1L, 2L), "{}");
+
+        ArgumentCaptor<List<DeferredNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deferredNotificationRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(DeferredNotification::getDestination)
+                .containsExactly("/queue/team/offer/1", "/queue/team/offer/2");
+        assertThat(meterRegistry.counter("notification.deferred").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 저장하지 않음")
+    void defer_empty() {
+        service.defer("/queue/team/offer/", List.of(), "{}");
+
+        verify(deferredNotificationRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("보관된 알림을 순서대로 한 프레임으로 전송한 뒤 삭제")
+    @SuppressWarnings("unchecked")
+    void deliverPending() {
+        String destination = "/queue/team/offer/1";
+        List<DeferredNotification> pending = List.of(
+                DeferredNotification.builder().id(1L).userId(1L).destination(destination).payload("{\"n\":1}").build(),
+                DeferredNotification.builder().id(2L).userId(1L).destination(destination).payload("{\"n\":2}").build());
+        when(deferredNotificationRepository.findByDestinationOrderByIdAsc(destination, PageRequest.of(0, DeferredNotificationService.DELIVERY_BATCH)))
+                .thenReturn(pending);
+
+        int delivered = service.deliverPending(destination);
+
+        assertThat(delivered).isEqualTo(2);
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        var order = inOrder(messagingTemplate, deferredNotificationRepository);
+        order.verify(messagingTemplate).send(eq(destination), captor.capture());
+        order.verify(deferredNotificationRepository).deleteAllInBatch(pending);
+        assertThat(new String(captor.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("[{\"n\":1},{\"n\":2}]");
+        assertThat(meterRegistry.counter("notification.deferred.delivered").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 삭제하지 않는다")
+    void deliverPending_keepsOnFailure() {
+        String destination = "/queue/team/offer/1";
+        List<DeferredNotification> pending = List.of(
+                DeferredNotification.builder().id(1L).userId(1L).destination(destination).payload("{}").build());
+        when(deferredNotificationRepository.findByDestinationOrderByIdAsc(destination, PageRequest.of(0, DeferredNotificationService.DELIVERY_BATCH)))
+                .thenReturn(pending);
+        doThrow(new MessageDeliveryException("broker")).when(messagingTemplate).send(eq(destination), any(Message.class));
+
+        assertThatThrownBy(() -> service.deliverPending(destination)).isInstanceOf(MessageDeliveryException.class);
+
+        verify(deferredNotificationRepository, never()).deleteAllInBatch(any());
+    }
+}
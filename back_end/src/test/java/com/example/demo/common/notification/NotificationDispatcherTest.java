@@ -0,0 +1,135 @@
+package com.example.demo.common.notification;
+
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.MessageListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private DeferredNotificationService deferredNotificationService;
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private Cluster cluster;
+
+    @Mock
+    private Member member;
+
+    @Mock
+    private ITopic<NotificationDispatcher.DrainRequest> topic;
+
+    private final String localNode = UUID.randomUUID().toString();
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(hazelcastInstance.<NotificationDispatcher.DrainRequest>getReliableTopic(NotificationDispatcher.TOPIC)).thenReturn(topic);
+        when(hazelcastInstance.getCluster()).thenReturn(cluster);
+        when(cluster.getLocalMember()).thenReturn(member);
+        when(member.getUuid()).thenReturn(UUID.fromString(localNode));
+        dispatcher = new NotificationDispatcher(deferredNotificationService, hazelcastInstance, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 destination 에 모인 전송 요청은 보관함 전송 한 번으로 합친다")
+    void drain_coalescesPerDestination() {
+        dispatcher.drain(List.of("/queue/team/offer/1", "/queue/team/offer/2"));
+        dispatcher.drain(List.of("/queue/team/offer/1"));
+        assertThat(meterRegistry.get("notification.queue.depth").gauge().value()).isEqualTo(2.0);
+
+        dispatcher.flushAll();
+
+        verify(deferredNotificationService).deliverPending("/queue/team/offer/1");
+        verify(deferredNotificationService).deliverPending("/queue/team/offer/2");
+        assertThat(meterRegistry.counter("notification.coalesced").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("예약된 지 얼마 안 된 destination 은 주기 flush 에서 보내지 않는다")
+    void flush_waitsForWindow() {
+        dispatcher.drain(List.of("/queue/team/offer/1"));
+
+        dispatcher.flush();
+
+        verifyNoInteractions(deferredNotificationService);
+    }
+
+    @Test
+    @DisplayName("전송에 실패해도 다른 destination 은 계속 전송 (알림은 보관함에 남음)")
+    void flush_continuesOnFailure() {
+        when(deferredNotificationService.deliverPending("/queue/team/offer/1")).thenThrow(new IllegalStateException("broker"));
+        dispatcher.drain(List.of("/queue/team/offer/1", "/queue/team/offer/2"));
+
+        dispatcher.flushAll();
+
+        verify(deferredNotificationService).deliverPending("/queue/team/offer/2");
+        assertThat(meterRegistry.counter("notification.dispatch.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드에 세션이 있는 destination 은 토픽으로 넘기고 이 노드에서는 보내지 않는다")
+    void drain_forwardsToRemoteNode() {
+        when(topic.publishAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        dispatcher.drain("other-node", List.of("/queue/team/offer/1"));
+        dispatcher.flushAll();
+
+        verify(topic).publishAsync(any());
+        verifyNoInteractions(deferredNotificationService);
+        assertThat(meterRegistry.counter("notification.dispatch.forwarded").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토픽으로 받은 요청은 이 노드 몫만 예약한다")
+    void onMessage_schedulesOnlyLocalNode() {
+        dispatcher.subscribe();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MessageListener<NotificationDispatcher.DrainRequest>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addMessageListener(listener.capture());
+
+        listener.getValue().onMessage(new com.hazelcast.topic.Message<>(NotificationDispatcher.TOPIC,
+                new NotificationDispatcher.DrainRequest("other-node", List.of("/queue/team/offer/1")), 0, member));
+        listener.getValue().onMessage(new com.hazelcast.topic.Message<>(NotificationDispatcher.TOPIC,
+                new NotificationDispatcher.DrainRequest(localNode, List.of("/queue/team/offer/2")), 0, member));
+        dispatcher.flushAll();
+
+        verify(deferredNotificationService).deliverPending("/queue/team/offer/2");
+        verifyNoMoreInteractions(deferredNotificationService);
+    }
+
+    @Test
+    @DisplayName("페이로드들을 JSON 배열 프레임 하나로 만든다")
+    void toMessage_jsonArray() {
+        Message<byte[]> message = NotificationDispatcher.toMessage(List.of(
+                "{\"n\":1}".getBytes(StandardCharsets.UTF_8), "{\"n\":2}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(new String(message.getPayload(), StandardCharsets.UTF_8)).isEqualTo("[{\"n\":1},{\"n\":2}]");
+    }
+}
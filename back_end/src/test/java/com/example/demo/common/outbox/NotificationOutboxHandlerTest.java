@@ -0,0 +1,60 @@
+package com.example.demo.common.outbox;
+
+import com.example.demo.common.notification.DeferredNotificationService;
+import com.example.demo.common.notification.NotificationDispatcher;
+import com.example.demo.common.presence.PresenceRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxHandlerTest {
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private DeferredNotificationService deferredNotificationService;
+
+    @Mock
+    private PresenceRegistry presenceRegistry;
+
+    @InjectMocks
+    private NotificationOutboxHandler handler;
+
+    @Test
+    @DisplayName("모든 수신자 몫을 보관함에 저장하고 접속 중인 수신자는 세션이 있는 노드로 전송 예약")
+    void handle_splitsByPresence() {
+        OutboxEvent event = OutboxEvent.notification("/queue/team/offer/", List.of(1L, 2L, 3L, 4L), "{}");
+        when(presenceRegistry.onlineUsersByNode(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(Map.of("node-a", Set.of(2L, 4L), "node-b", Set.of(3L)));
+
+        handler.handle(event);
+
+        var order = inOrder(deferredNotificationService, notificationDispatcher);
+        order.verify(deferredNotificationService).defer("/queue/team/offer/", List.of(1L, 2L, 3L, 4L), "{}");
+        order.verify(notificationDispatcher).drain("node-a", List.of("/queue/team/offer/2", "/queue/team/offer/4"));
+        verify(notificationDispatcher).drain("node-b", List.of("/queue/team/offer/3"));
+    }
+
+    @Test
+    @DisplayName("모두 오프라인이면 푸시하지 않음")
+    void handle_allOffline() {
+        OutboxEvent event = OutboxEvent.notification("/queue/team/offer/", List.of(1L), "{}");
+        when(presenceRegistry.onlineUsersByNode(List.of(1L))).thenReturn(Map.of());
+
+        handler.handle(event);
+
+        verifyNoInteractions(notificationDispatcher);
+        verify(deferredNotificationService).defer("/queue/team/offer/", List.of(1L), "{}");
+    }
+}
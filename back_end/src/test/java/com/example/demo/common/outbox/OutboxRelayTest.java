@@ -0,0 +1,111 @@
+package com.example.demo.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxHandler handler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.types()).thenReturn(Set.of(OutboxEventType.NOTIFICATION));
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, List.of(handler), transactionManager, meterRegistry);
+
+        event = OutboxEvent.notification("/queue/team/offer/", List.of(1L), "{\"message\":\"hello\"}");
+        event.setId(1L);
+        event.setCreatedAt(LocalDateTime.now());
+        event.setNextAttemptAt(event.getCreatedAt());
+    }
+
+    private void stubReady() {
+        when(outboxEventRepository.findReady(eq(OutboxEvent.Status.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(event));
+    }
+
+    @Test
+    @DisplayName("처리에 성공하면 항목을 삭제한다")
+    void relayPending_success() {
+        stubReady();
+        when(outboxEventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event));
+
+        int relayed = outboxRelay.relayPending();
+
+        assertThat(relayed).isEqualTo(1);
+        verify(handler).handle(event);
+        verify(outboxEventRepository).delete(event);
+        assertThat(meterRegistry.counter("outbox.relay.processed", "type", "NOTIFICATION", "outcome", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 선점한 항목은 건너뛴다")
+    void relayPending_skipLocked() {
+        stubReady();
+        when(outboxEventRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+
+        int relayed = outboxRelay.relayPending();
+
+        assertThat(relayed).isZero();
+        verify(handler, never()).handle(any());
+        verify(outboxEventRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 삭제하지 않고 재시도를 예약한다")
+    void relayPending_failure() {
+        stubReady();
+        when(outboxEventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event));
+        when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(event));
+        doThrow(new IllegalStateException("down")).when(handler).handle(event);
+
+        int relayed = outboxRelay.relayPending();
+
+        assertThat(relayed).isZero();
+        verify(outboxEventRepository, never()).delete(any());
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(event.getNextAttemptAt()).isAfter(event.getCreatedAt());
+        assertThat(event.getLastError()).isEqualTo("down");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 FAILED 로 남긴다")
+    void recordFailure_deadLetter() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < OutboxEvent.MAX_ATTEMPTS; i++) {
+            event.recordFailure("down", now);
+        }
+
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.FAILED);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.common.presence;
+
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceRegistryTest {
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private Cluster cluster;
+
+    @Mock
+    private Member member;
+
+    @Mock
+    private IMap<Long, PresenceRegistry.Presence> presence;
+
+    private PresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        when(hazelcastInstance.<Long, PresenceRegistry.Presence>getMap(PresenceRegistry.MAP)).thenReturn(presence);
+        when(hazelcastInstance.getCluster()).thenReturn(cluster);
+        when(cluster.getLocalMember()).thenReturn(member);
+        when(member.getUuid()).thenReturn(UUID.randomUUID());
+        registry = new PresenceRegistry(hazelcastInstance, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 세션은 한 번만 등록하고, 연결 해제 시 해당 사용자 항목에서 제거")
+    void connectAndDisconnect() {
+        registry.connected(1L, "s1");
+        registry.connected(1L, "s1");
+        assertThat(registry.hasSession("s1")).isTrue();
+
+        registry.disconnected("s1");
+        registry.disconnected("s1");
+
+        verify(presence, times(1)).executeOnKey(eq(1L), any(PresenceRegistry.ConnectProcessor.class));
+        verify(presence, times(1)).executeOnKey(eq(1L), any(PresenceRegistry.DisconnectProcessor.class));
+        assertThat(registry.hasSession("s1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("하트비트가 STALE 이상 끊긴 세션만 있는 사용자는 오프라인")
+    void onlineUsers_ignoresStaleSessions() {
+        long now = System.currentTimeMillis();
+        when(presence.getAll(Set.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, presenceOf(now),
+                2L, presenceOf(now - PresenceRegistry.STALE.toMillis() - 1)));
+
+        assertThat(registry.onlineUsers(List.of(1L, 2L, 3L))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("접속 중인 사용자를 살아 있는 세션의 노드별로 묶는다")
+    void onlineUsersByNode() {
+        long now = System.currentTimeMillis();
+        PresenceRegistry.Presence twoNodes = new PresenceRegistry.Presence();
+        twoNodes.sessions.put("s1", new PresenceRegistry.SessionInfo("node-a", now));
+        twoNodes.sessions.put("s2", new PresenceRegistry.SessionInfo("node-b", now));
+        twoNodes.sessions.put("s3", new PresenceRegistry.SessionInfo("node-c", now - PresenceRegistry.STALE.toMillis() - 1));
+        PresenceRegistry.Presence oneNode = new PresenceRegistry.Presence();
+        oneNode.sessions.put("s4", new PresenceRegistry.SessionInfo("node-b", now));
+        when(presence.getAll(Set.of(1L, 2L, 3L))).thenReturn(Map.of(1L, twoNodes, 2L, oneNode));
+
+        assertThat(registry.onlineUsersByNode(List.of(1L, 2L, 3L))).isEqualTo(Map.of(
+                "node-a", Set.of(1L),
+                "node-b", Set.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 끊기면 항목 자체를 제거하고, 이탈 노드의 세션은 정리")
+    void processors() {
+        Map.Entry<Long, PresenceRegistry.Presence> entry = new AbstractMap.SimpleEntry<>(1L, null);
+        new PresenceRegistry.ConnectProcessor("s1", "node-a", 0L).process(entry);
+        new PresenceRegistry.ConnectProcessor("s2", "node-b", 0L).process(entry);
+
+        new PresenceRegistry.DropNodeProcessor("node-b").process(entry);
+        assertThat(entry.getValue().sessions).containsOnlyKeys("s1");
+
+        new PresenceRegistry.DisconnectProcessor("s1").process(entry);
+        assertThat(entry.getValue()).isNull();
+    }
+
+    private PresenceRegistry.Presence presenceOf(long lastHeartbeat) {
+        PresenceRegistry.Presence value = new PresenceRegistry.Presence();
+        value.sessions.put("s", new PresenceRegistry.SessionInfo("node", lastHeartbeat));
+        return value;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.common.transaction;
+
+import com.example.demo.common.exception.BusinessException;
+import com.example.demo.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticLockRetryExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticLockRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new OptimisticLockRetryExecutor(transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("버전 충돌 후 재시도에 성공하면 결과를 반환한다")
+    void execute_retriesOnConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute("test", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ObjectOptimisticLockingFailureException("Team", 1L);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(2);
+        verify(transactionManager, times(1)).rollback(any());
+        assertThat(meterRegistry.counter("optimistic.lock.conflict", "operation", "test").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("optimistic.lock.recovered", "operation", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 CONCURRENT_MODIFICATION")
+    void execute_exhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Team", 1L);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.CONCURRENT_MODIFICATION.getMessage());
+
+        assertThat(attempts.get()).isEqualTo(OptimisticLockRetryExecutor.MAX_ATTEMPTS);
+        assertThat(meterRegistry.counter("optimistic.lock.exhausted", "operation", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 예외는 재시도하지 않는다")
+    void execute_doesNotRetryOtherErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.run("test", () -> {
+            attempts.incrementAndGet();
+            throw new BusinessException(ErrorCode.TEAM_NOT_FOUND);
+        })).isInstanceOf(BusinessException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.team;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.auth.filter.JwtFilter;
+import com.example.demo.auth.util.JwtUtil;
+import com.example.demo.team.dao.TeamChangeLogRepository;
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.dto.TeamRequest;
+import com.example.demo.team.entity.Team;
+import com.example.demo.team.service.TeamService;
+import com.example.demo.user.Enum.PositionEnum;
+import com.example.demo.user.dao.UserRepository;
+import com.example.demo.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 팀 변경 피드 통합 테스트.
+ * 변경 기록은 실제 커밋 직전에 남으므로 테스트 트랜잭션(롤백) 없이 서비스 트랜잭션을 그대로 커밋한다.
+ */
+@SpringBootTest(classes = DemoApplication.class)
+@AutoConfigureMockMvc(addFilters = false)
+class TeamChangeFeedIntegrationTest {
+
+    // TeamChangeFeed.SETTLE(2초) 이 지나야 피드에 보인다
+    private static final long SETTLE_WAIT_MILLIS = 2_500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamChangeLogRepository teamChangeLogRepository;
+
+    @Autowired
+    private TeamService teamService;
+
+    @MockitoBean
+    private JwtFilter jwtFilter;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    private User leader;
+    private Team team;
+    private long since;
+
+    @BeforeEach
+    void setUp() {
+        leader = new User();
+        leader.setUserName("피드팀장");
+        leader.setRole("USER");
+        leader.setEmail("feed-leader@example.com");
+        leader.setMajor(true);
+        leader.setLastClass(1);
+        leader.setWantedPosition(new ArrayList<>(List.of(PositionEnum.BACKEND)));
+        userRepository.save(leader);
+
+        team = new Team();
+        team.setTeamName("피드 테스트 팀");
+        team.setTeamDomain("feedtestdomain");
+        team.setTeamDescription("변경 피드 통합 테스트용 팀");
+        team.setLeader(leader);
+        team.setMembershipRequests(new ArrayList<>());
+        teamRepository.save(team);
+
+        Long maxId = teamChangeLogRepository.findMaxId();
+        since = maxId != null ? maxId : 0L;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (teamRepository.existsById(team.getId())) {
+            teamService.deleteTeam(team.getId());
+        }
+        userRepository.deleteById(leader.getId());
+    }
+
+    @Test
+    @DisplayName("팀 수정은 커밋 시점에 flush 되어도 /team/changes 에 나타난다")
+    void modifyTeam_appearsInChangeFeed() throws Exception {
+        TeamRequest request = new TeamRequest();
+        request.setTeamId(team.getId());
+        request.setTeamName("피드 테스트 팀 수정");
+        request.setTeamDomain("feedtestdomain2");
+        request.setLeaderId(leader.getId());
+        request.setBackendCount(2);
+        teamService.modifyTeam(request);
+
+        Thread.sleep(SETTLE_WAIT_MILLIS);
+
+        mockMvc.perform(get("/team/changes").param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.resyncRequired").value(false))
+                .andExpect(jsonPath("$.data.changes[?(@.teamId == " + team.getId() + ")].team.teamName")
+                        .value(hasItem("피드 테스트 팀 수정")));
+    }
+
+    @Test
+    @DisplayName("팀 삭제는 /team/changes 에 DELETED 로 나타난다")
+    void deleteTeam_appearsInChangeFeed() throws Exception {
+        teamService.deleteTeam(team.getId());
+
+        Thread.sleep(SETTLE_WAIT_MILLIS);
+
+        mockMvc.perform(get("/team/changes").param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.resyncRequired").value(false))
+                .andExpect(jsonPath("$.data.changes[?(@.teamId == " + team.getId() + ")].changeType")
+                        .value(hasItem("DELETED")));
+    }
+}
@@ -8,8 +8,10 @@ import com.example.demo.chat.entity.ChatRoom;
 import com.example.demo.chat.entity.ChatRoomMember;
 import com.example.demo.chat.entity.RoomType;
 import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.common.response.ApiResponse;
 import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.dto.TeamDetailResponse;
 import com.example.demo.team.dto.TeamInviteRequest;
 import com.example.demo.team.dto.TeamOffer;
 import com.example.demo.team.dto.TeamRequest;
@@ -17,6 +19,7 @@ import com.example.demo.team.dto.TeamSearchRequest;
 import com.example.demo.team.entity.RequestType;
 import com.example.demo.team.entity.Team;
 import com.example.demo.team.entity.TeamStatus;
+import com.example.demo.team.service.TeamSearchIndex;
 import com.example.demo.team.service.TeamService;
 import com.example.demo.user.Enum.PositionEnum;
 import com.example.demo.user.Enum.ProjectGoalEnum;
@@ -26,6 +29,11 @@ import com.example.demo.user.dao.UserRepository;
 import com.example.demo.user.entity.User;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hazelcast.core.HazelcastInstance;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +51,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -73,6 +82,15 @@ public class TeamIntegrationTest {
     @Autowired
     private TeamService teamService;
 
+    @Autowired
+    private TeamSearchIndex teamSearchIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @MockitoBean
     private JwtFilter jwtFilter; // JwtFilter 자체를 mock
 
@@ -228,10 +246,84 @@ public class TeamIntegrationTest {
     @DisplayName("팀 전체 조회 - 통합 테스트")
     void getAllTeams()throws Exception{
         mockMvc.perform(MockMvcRequestBuilders.get("/team")
+                        .param("unpaged", "true")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value(ApiResponse.ok().getStatus()))
                 .andExpect(jsonPath("$.data").isArray());
+
+        // 기본 요청은 커서 페이지
+        mockMvc.perform(MockMvcRequestBuilders.get("/team")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("팀 전체 조회 - 팀 수와 무관하게 쿼리 수 고정")
+    void getAllTeams_queryCountIndependentOfTeamCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        List<TeamDetailResponse> before = teamService.getAllTeams();
+        long baselineQueries = statistics.getPrepareStatementCount();
+
+        // 팀장 + 팀원 2명으로 구성된 팀 5개 추가
+        for (int i = 0; i < 5; i++) {
+            User leader = newMember("리더" + i, "leader" + i + "@example.com");
+            User member1 = newMember("팀원A" + i, "memberA" + i + "@example.com");
+            User member2 = newMember("팀원B" + i, "memberB" + i + "@example.com");
+            userRepository.saveAll(List.of(leader, member1, member2));
+
+            Team team = new Team();
+            team.setTeamName("쿼리팀" + i);
+            team.setTeamDomain("querycountdomain" + i);
+            team.setTeamPreference(new HashSet<>(Arrays.asList(ProjectGoalEnum.AWARD)));
+            team.setTeamVive(new HashSet<>(Arrays.asList(ProjectViveEnum.AGILE)));
+            team.setLeader(leader);
+            teamRepository.save(team);
+
+            leader.setTeam(team);
+            member1.setTeam(team);
+            member2.setTeam(team);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        List<TeamDetailResponse> after = teamService.getAllTeams();
+        long queries = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        assertThat(after).hasSize(before.size() + 5);
+        assertThat(after).filteredOn(team -> team.getTeamName() != null && team.getTeamName().startsWith("쿼리팀"))
+                .allSatisfy(team -> {
+                    assertThat(team.getMembers()).hasSize(3);
+                    assertThat(team.getLeader()).isNotNull();
+                    assertThat(team.getMembers().get(0).getTechStack()).containsExactly(TechEnum.JPA);
+                });
+        // 팀 1 + 팀 컬렉션 2 + 사용자 1 + 사용자 컬렉션 4
+        assertThat(queries).isLessThanOrEqualTo(8);
+        assertThat(queries).isEqualTo(baselineQueries);
+    }
+
+    private User newMember(String name, String email) {
+        User user = new User();
+        user.setUserName(name);
+        user.setRole("USER");
+        user.setEmail(email);
+        user.setMajor(true);
+        user.setLastClass(1);
+        user.setWantedPosition(new ArrayList<>(Arrays.asList(PositionEnum.BACKEND)));
+        user.setTechStack(new HashSet<>(Arrays.asList(TechEnum.JPA)));
+        user.setProjectGoal(new HashSet<>(Arrays.asList(ProjectGoalEnum.AWARD)));
+        user.setProjectVive(new HashSet<>(Arrays.asList(ProjectViveEnum.AGILE)));
+        return user;
     }
 
     @Test
@@ -245,8 +337,77 @@ public class TeamIntegrationTest {
                         .content(jsonRequest))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value(ApiResponse.ok().getStatus()))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].teamName").value(team1.getTeamName()));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[0].teamName").value(team1.getTeamName()));
+    }
+
+    @Test
+    @DisplayName("팀 조건 검색 - 키셋 페이지네이션과 전체 건수")
+    void searchConditionTeam_keysetPagination() {
+        for (int i = 0; i < 3; i++) {
+            User leader = newMember("페이지" + i, "page" + i + "@example.com");
+            userRepository.save(leader);
+            Team team = new Team();
+            team.setTeamName("페이지팀" + i);
+            team.setTeamDomain("pagingdomain" + i);
+            team.setLeader(leader);
+            teamRepository.save(team);
+            leader.setTeam(team);
+        }
+        entityManager.flush();
+
+        TeamSearchRequest request = new TeamSearchRequest();
+        request.setTeamName("페이지팀");
+        request.setSize(2);
+        request.setWithTotal(true);
+        CursorPage<TeamDetailResponse> first = teamService.searchConditionTeam(request);
+
+        assertThat(first.getItems()).extracting(TeamDetailResponse::getTeamName).containsExactly("페이지팀2", "페이지팀1");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalCount()).isEqualTo(3L);
+
+        request.setCursor(first.getNextCursor());
+        request.setWithTotal(false);
+        CursorPage<TeamDetailResponse> second = teamService.searchConditionTeam(request);
+
+        assertThat(second.getItems()).extracting(TeamDetailResponse::getTeamName).containsExactly("페이지팀0");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getTotalCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("팀 검색어 검색 - 커밋 이후 n-gram 인덱스에 반영되고 일치도 순 정렬")
+    void searchConditionTeam_keywordRanked() {
+        User leader = newMember("검색", "keyword@example.com");
+        userRepository.save(leader);
+        Team exact = new Team();
+        exact.setTeamName("통합검색");
+        exact.setTeamDomain("keyworddomain1");
+        exact.setLeader(leader);
+        teamRepository.save(exact);
+
+        // 커밋 전에는 공유 인덱스에 반영되지 않음
+        assertThat(teamSearchIndex.findIdsByName("통합검색")).doesNotContain(exact.getId());
+
+        // 테스트 트랜잭션은 롤백되므로 커밋 이후 반영을 직접 수행
+        teamSearchIndex.upsert(exact.getId(), exact.getTeamName(), exact.getTeamDescription());
+        teamSearchIndex.upsert(team1.getId(), team1.getTeamName(), team1.getTeamDescription());
+        try {
+            TeamSearchRequest request = new TeamSearchRequest();
+            request.setKeyword("통합검색");
+            request.setWithTotal(true);
+            CursorPage<TeamDetailResponse> page = teamService.searchConditionTeam(request);
+
+            assertThat(page.getItems()).extracting(TeamDetailResponse::getTeamId).first().isEqualTo(exact.getId());
+
+            // 설명만 일치하는 팀도 검색됨
+            request.setKeyword("통합 테스트용");
+            assertThat(teamService.searchConditionTeam(request).getItems())
+                    .extracting(TeamDetailResponse::getTeamId).contains(team1.getId());
+        } finally {
+            teamSearchIndex.remove(exact.getId());
+            teamSearchIndex.remove(team1.getId());
+        }
     }
 
     @Test
@@ -394,6 +555,20 @@ public class TeamIntegrationTest {
                 .andExpect(jsonPath("$.status").value(ApiResponse.ok().getStatus()));
     }
 
+    @Test
+    @DisplayName("팀 멤버 초대 - 팀원 수 컬럼 갱신 및 정원 찬 팀은 가용 팀 조회에서 제외")
+    void inviteMemberTeam_updatesMemberCount() {
+        teamService.inviteMemberTeam(teamInviteRequest);
+        entityManager.flush();
+        entityManager.clear();
+
+        Team reloaded = teamRepository.findById(team1.getId()).orElseThrow();
+        assertThat(reloaded.getMemberCount()).isEqualTo(2);
+        assertThat(teamRepository.findAvailableTeams()).extracting(Team::getId).contains(team1.getId());
+
+        assertThat(teamRepository.findAvailableTeams(2)).extracting(Team::getId).doesNotContain(team1.getId());
+    }
+
     @Test
     @DisplayName("팀 멤버 초대 - 통합 테스트 실패 유효하지 않은 요청")
     void inviteMemberTeam_failWithInvalidRequest() throws Exception {
@@ -3,12 +3,15 @@ package com.example.demo.team.controller;
 import com.example.demo.auth.filter.JwtFilter;
 import com.example.demo.auth.util.JwtUtil;
 import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.pagination.CursorPage;
 import com.example.demo.common.response.ApiResponse;
 import com.example.demo.team.dto.*;
 import com.example.demo.team.entity.RequestStatus;
 import com.example.demo.team.entity.RequestType;
+import com.example.demo.team.entity.TeamChangeType;
 import com.example.demo.team.service.TeamMembershipRequestService;
 import com.example.demo.team.service.TeamService;
+import com.example.demo.team.service.TeamVacancyIndex;
 import com.example.demo.user.Enum.PositionEnum;
 import com.example.demo.user.Enum.ProjectGoalEnum;
 import com.example.demo.user.Enum.ProjectViveEnum;
@@ -204,6 +207,7 @@ class TeamControllerTest {
 
         // when & then: GET 요청 시 응답 검증
         mockMvc.perform(get("/team") // @GetMapping 경로 확인
+                        .param("unpaged", "true")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value(ApiResponse.ok().getStatus()))
@@ -213,11 +217,59 @@ class TeamControllerTest {
                 .andExpect(jsonPath("$.data[1].teamName").value("도전하는 B팀"));
     }
 
+    @Test
+    @DisplayName("전체 팀 페이지 조회 성공 - 기본 커서 페이지 응답")
+    void getAllTeams_pagedByDefault() throws Exception {
+        when(teamService.getTeamPage(null, 2))
+                .thenReturn(CursorPage.of(teamList, "bmV4dA", null));
+
+        mockMvc.perform(get("/team")
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.nextCursor").value("bmV4dA"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("포지션 빈자리 팀 조회 성공")
+    void getTeamsWithOpening_shouldReturn200() throws Exception {
+        when(teamService.getTeamsWithOpening(PositionEnum.BACKEND, TeamVacancyIndex.Order.FILL_RATIO, null))
+                .thenReturn(teamList);
+
+        mockMvc.perform(get("/team/vacancy")
+                        .param("position", "BACKEND")
+                        .param("order", "FILL_RATIO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("팀 변경 피드 조회 성공")
+    void getTeamChanges_shouldReturn200() throws Exception {
+        TeamChangeResponse change = TeamChangeResponse.builder()
+                .version(11L)
+                .teamId(1L)
+                .changeType(TeamChangeType.MEMBER_JOINED)
+                .team(teamList.get(0))
+                .build();
+        when(teamService.getTeamChanges(10L, null))
+                .thenReturn(new TeamChangeFeedResponse(11L, false, false, List.of(change)));
+
+        mockMvc.perform(get("/team/changes").param("since", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(11))
+                .andExpect(jsonPath("$.data.resyncRequired").value(false))
+                .andExpect(jsonPath("$.data.changes[0].changeType").value("MEMBER_JOINED"))
+                .andExpect(jsonPath("$.data.changes[0].team.teamName").value("성장하는 A팀"));
+    }
+
     @Test
     @DisplayName("팀 조건 조회 성공")
     void searchConditionTeam_shouldReturn200WithFilteredTeams() throws Exception {
         when(teamService.searchConditionTeam(any(TeamSearchRequest.class)))
-                .thenReturn(teamList);
+                .thenReturn(CursorPage.of(teamList, "bmV4dA", 5L));
 
         teamSearchRequest.setLeaderId(null);    // 리더 ID는 조건 없이 검색
 
@@ -227,18 +279,18 @@ class TeamControllerTest {
                         .content(objectMapper.writeValueAsString(teamSearchRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value(ApiResponse.ok().getStatus()))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2))
-                .andExpect(jsonPath("$.data[0].teamName").value("성장하는 A팀"))
-                .andExpect(jsonPath("$.data[1].teamName").value("도전하는 B팀"));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.items[0].teamName").value("성장하는 A팀"))
+                .andExpect(jsonPath("$.data.items[1].teamName").value("도전하는 B팀"))
+                .andExpect(jsonPath("$.data.nextCursor").value("bmV4dA"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalCount").value(5));
     }
 
     @Test
     @DisplayName("유효하지 않은 팀 조건 조회")
     void searchConditionTeam_shouldReturn400WithInvalidFilteredTeams() throws Exception {
-        when(teamService.searchConditionTeam(any(TeamSearchRequest.class)))
-                .thenReturn(teamList);
-
         teamSearchRequest.setTeamName("1");
 
         // when & then
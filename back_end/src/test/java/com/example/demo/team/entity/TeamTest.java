@@ -0,0 +1,55 @@
+package com.example.demo.team.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.demo.user.Enum.PositionEnum;
+import com.example.demo.user.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TeamTest {
+
+    @Test
+    void refreshCapacity_countsMembersByMainPosition() {
+        Team team = new Team();
+        team.setBackendCount(2);
+        team.setFrontendCount(1);
+        team.setDesignCount(1);
+
+        member(team, PositionEnum.BACKEND, PositionEnum.FRONTEND); // 대표 포지션 BACKEND
+        member(team, PositionEnum.FRONTEND);
+        member(team, PositionEnum.FRONTEND); // 필요 인원 초과분은 0으로
+
+        team.refreshCapacity();
+
+        assertThat(team.getMemberCount()).isEqualTo(3);
+        assertThat(team.getOpenSlots(PositionEnum.BACKEND)).isEqualTo(1);
+        assertThat(team.getOpenSlots(PositionEnum.FRONTEND)).isZero();
+        assertThat(team.getOpenSlots(PositionEnum.DESIGN)).isEqualTo(1);
+        assertThat(team.isFull()).isFalse();
+    }
+
+    @Test
+    void refreshCapacity_afterMemberLeaves() {
+        Team team = new Team();
+        team.setPmCount(1);
+        User pm = member(team, PositionEnum.PM);
+        team.refreshCapacity();
+        assertThat(team.getOpenPmSlots()).isZero();
+
+        pm.setTeam(null);
+        team.refreshCapacity();
+
+        assertThat(team.getMemberCount()).isZero();
+        assertThat(team.getOpenPmSlots()).isEqualTo(1);
+    }
+
+    private User member(Team team, PositionEnum... positions) {
+        User user = new User();
+        user.setWantedPosition(new ArrayList<>(List.of(positions)));
+        user.setTeam(team);
+        return user;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.team.event;
+
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.entity.TeamChangeLog;
+import com.example.demo.team.entity.TeamChangeType;
+import com.example.demo.team.service.TeamChangeFeed;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamChangePublisherTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TeamChangeFeed teamChangeFeed;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ITopic<Object> topic;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TeamChangePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        when(hazelcastInstance.getTopic(TeamChangePublisher.TOPIC)).thenReturn(topic);
+        publisher = new TeamChangePublisher(eventPublisher, hazelcastInstance, teamRepository, teamChangeFeed, transactionManager);
+        ReflectionTestUtils.setField(publisher, "entityManager", entityManager);
+        publisher.subscribe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(TeamChangePublisher.class.getName() + ".pending");
+    }
+
+    @Test
+    @DisplayName("변경 기록은 커밋 직전(같은 트랜잭션)에 팀별로 합쳐 남기고, 토픽 발행은 커밋 이후")
+    void publish_appendsBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(TeamChangedEvent.deleted(1L), TeamChangeType.UPDATED);
+        publisher.publish(TeamChangedEvent.deleted(1L), TeamChangeType.DELETED);
+
+        verifyNoInteractions(teamChangeFeed);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TeamChangeLog>> changes = ArgumentCaptor.forClass(List.class);
+        verify(teamChangeFeed).append(changes.capture());
+        assertThat(changes.getValue()).singleElement()
+                .extracting(TeamChangeLog::getChangeType).isEqualTo(TeamChangeType.DELETED);
+        verify(topic, never()).publish(any());
+        verifyNoInteractions(eventPublisher);
+
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(eventPublisher).publishEvent(any(TeamChangedEvent.class));
+        verify(topic).publish(1L);
+    }
+
+    @Test
+    @DisplayName("커밋 시점 flush 에서야 드러나는 변경도 커밋 직전에 flush 해 기록한다")
+    void track_recordsChangesFlushedAtCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        publisher.track();
+        // flush 중 엔티티 리스너가 호출하는 것과 같다
+        doAnswer(invocation -> {
+            publisher.publish(TeamChangedEvent.deleted(1L), TeamChangeType.DELETED);
+            return null;
+        }).when(entityManager).flush();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TeamChangeLog>> changes = ArgumentCaptor.forClass(List.class);
+        verify(teamChangeFeed).append(changes.capture());
+        assertThat(changes.getValue()).singleElement()
+                .extracting(TeamChangeLog::getTeamId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("롤백되면 로컬 인덱스에도 토픽에도 반영하지 않는다")
+    void publish_rollbackPublishesNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(TeamChangedEvent.deleted(1L), TeamChangeType.DELETED);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(eventPublisher);
+        verify(topic, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 기록 후 바로 발행")
+    void publish_withoutTransaction() {
+        publisher.publish(TeamChangedEvent.deleted(1L), TeamChangeType.DELETED);
+
+        InOrder inOrder = inOrder(teamChangeFeed, eventPublisher, topic);
+        inOrder.verify(teamChangeFeed).append(any());
+        inOrder.verify(eventPublisher).publishEvent(any(TeamChangedEvent.class));
+        inOrder.verify(topic).publish(1L);
+    }
+}
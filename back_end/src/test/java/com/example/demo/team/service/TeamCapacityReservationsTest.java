@@ -0,0 +1,77 @@
+package com.example.demo.team.service;
+
+import com.example.demo.team.service.TeamCapacityReservations.CompleteProcessor;
+import com.example.demo.team.service.TeamCapacityReservations.MemberLeftProcessor;
+import com.example.demo.team.service.TeamCapacityReservations.ReserveProcessor;
+import com.example.demo.team.service.TeamCapacityReservations.ReserveResult;
+import com.example.demo.team.service.TeamCapacityReservations.SlotLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamCapacityReservationsTest {
+
+    private static final int MAX = 3;
+
+    private final Map.Entry<Long, SlotLedger> entry = new AbstractMap.SimpleEntry<>(1L, null);
+
+    private ReserveResult reserve(String id, int dbCount) {
+        return new ReserveProcessor(id, dbCount, MAX, System.currentTimeMillis() + 10_000).process(entry);
+    }
+
+    @Test
+    @DisplayName("진행 중인 예약을 포함해 정원까지만 예약된다")
+    void reserve_upToCapacity() {
+        assertThat(reserve("a", 1)).isEqualTo(ReserveResult.ACQUIRED);
+        assertThat(reserve("b", 1)).isEqualTo(ReserveResult.ACQUIRED);
+        // 확정 1 + 예약 2 = 정원
+        assertThat(reserve("c", 1)).isEqualTo(ReserveResult.CONTENDED);
+        assertThat(entry.getValue().pending).containsOnlyKeys("a", "b");
+    }
+
+    @Test
+    @DisplayName("확정 인원만으로 정원이 찼으면 FULL")
+    void reserve_full() {
+        assertThat(reserve("a", MAX)).isEqualTo(ReserveResult.FULL);
+        assertThat(entry.getValue().pending).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤백된 예약은 해제되고 커밋된 예약은 확정 인원이 된다")
+    void complete_releaseAndConfirm() {
+        reserve("a", 1);
+        reserve("b", 1);
+
+        new CompleteProcessor("a", false).process(entry);
+        new CompleteProcessor("b", true).process(entry);
+
+        assertThat(entry.getValue().pending).isEmpty();
+        assertThat(entry.getValue().members).isEqualTo(2);
+        assertThat(reserve("c", 1)).isEqualTo(ReserveResult.ACQUIRED);
+        // 원장의 확정 인원(2)이 오래된 DB 값(1)보다 우선
+        assertThat(reserve("d", 1)).isEqualTo(ReserveResult.CONTENDED);
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 다음 예약 시 정리된다")
+    void reserve_purgesExpired() {
+        new ReserveProcessor("stale", 2, MAX, System.currentTimeMillis() - 1).process(entry);
+
+        assertThat(reserve("a", 2)).isEqualTo(ReserveResult.ACQUIRED);
+        assertThat(entry.getValue().pending).containsOnlyKeys("a");
+    }
+
+    @Test
+    @DisplayName("팀원이 나가면 확정 인원이 줄어 다시 예약할 수 있다")
+    void memberLeft_freesSlot() {
+        assertThat(reserve("a", MAX)).isEqualTo(ReserveResult.FULL);
+
+        new MemberLeftProcessor().process(entry);
+
+        assertThat(reserve("b", MAX - 1)).isEqualTo(ReserveResult.ACQUIRED);
+    }
+}
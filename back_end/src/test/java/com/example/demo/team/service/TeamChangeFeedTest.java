@@ -0,0 +1,138 @@
+package com.example.demo.team.service;
+
+import com.example.demo.team.dao.TeamChangeLogRepository;
+import com.example.demo.team.dto.TeamChangeFeedResponse;
+import com.example.demo.team.dto.TeamDetailResponse;
+import com.example.demo.team.entity.TeamChangeLog;
+import com.example.demo.team.entity.TeamChangeType;
+import com.example.demo.team.entity.TeamStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamChangeFeedTest {
+
+    @Mock
+    private TeamChangeLogRepository teamChangeLogRepository;
+
+    @Mock
+    private TeamReadService teamReadService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TeamChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TeamChangeFeed(teamChangeLogRepository, teamReadService, transactionManager);
+    }
+
+    private TeamChangeLog log(Long id, Long teamId, TeamChangeType type, int memberCount) {
+        return new TeamChangeLog(id, teamId, type, TeamStatus.UNLOCKED, memberCount, LocalDateTime.now().minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("팀원 수가 늘어난 UPDATED 는 MEMBER_JOINED 로 기록")
+    void append_refinesMemberJoined() {
+        when(teamChangeLogRepository.findTopByTeamIdOrderByIdDesc(1L))
+                .thenReturn(Optional.of(log(5L, 1L, TeamChangeType.CREATED, 1)));
+        TeamChangeLog change = log(null, 1L, TeamChangeType.UPDATED, 2);
+
+        feed.append(List.of(change));
+
+        assertThat(change.getChangeType()).isEqualTo(TeamChangeType.MEMBER_JOINED);
+        verify(teamChangeLogRepository).saveAll(List.of(change));
+    }
+
+    @Test
+    @DisplayName("잠금 상태로 바뀐 UPDATED 는 LOCKED 로 기록")
+    void append_refinesLocked() {
+        when(teamChangeLogRepository.findTopByTeamIdOrderByIdDesc(1L))
+                .thenReturn(Optional.of(log(5L, 1L, TeamChangeType.UPDATED, 3)));
+        TeamChangeLog change = log(null, 1L, TeamChangeType.UPDATED, 3);
+        change.setTeamStatus(TeamStatus.LOCKED);
+
+        feed.append(List.of(change));
+
+        assertThat(change.getChangeType()).isEqualTo(TeamChangeType.LOCKED);
+    }
+
+    @Test
+    @DisplayName("since 없이 요청하면 전체 재조회 요구")
+    void getChanges_withoutSince_requiresResync() {
+        when(teamChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(42L);
+
+        TeamChangeFeedResponse response = feed.getChanges(null, null);
+
+        assertThat(response.isResyncRequired()).isTrue();
+        assertThat(response.getVersion()).isEqualTo(42L);
+        assertThat(response.getChanges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘려 나간 구간 이전 버전이면 전체 재조회 요구")
+    void getChanges_truncated_requiresResync() {
+        when(teamChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(120L);
+        when(teamChangeLogRepository.findMinId()).thenReturn(100L);
+        when(teamChangeLogRepository.findMaxId()).thenReturn(120L);
+
+        TeamChangeFeedResponse response = feed.getChanges(50L, null);
+
+        assertThat(response.isResyncRequired()).isTrue();
+        assertThat(response.getVersion()).isEqualTo(120L);
+        verify(teamChangeLogRepository, never()).findSettledAfter(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 팀의 여러 변경은 마지막 것만, 삭제된 팀은 상세 없이 반환")
+    void getChanges_coalescesPerTeam() {
+        when(teamChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(13L);
+        when(teamChangeLogRepository.findMinId()).thenReturn(1L);
+        when(teamChangeLogRepository.findMaxId()).thenReturn(13L);
+        when(teamChangeLogRepository.findSettledAfter(eq(10L), any(), any())).thenReturn(List.of(
+                log(11L, 1L, TeamChangeType.MEMBER_JOINED, 2),
+                log(12L, 2L, TeamChangeType.DELETED, 0),
+                log(13L, 1L, TeamChangeType.MEMBER_LEFT, 1)
+        ));
+        TeamDetailResponse team1 = new TeamDetailResponse();
+        team1.setTeamId(1L);
+        when(teamReadService.getTeamDetails(List.of(1L))).thenReturn(List.of(team1));
+
+        TeamChangeFeedResponse response = feed.getChanges(10L, null);
+
+        assertThat(response.isResyncRequired()).isFalse();
+        assertThat(response.getVersion()).isEqualTo(13L);
+        assertThat(response.getChanges()).hasSize(2);
+        assertThat(response.getChanges().get(0).getTeamId()).isEqualTo(2L);
+        assertThat(response.getChanges().get(0).getTeam()).isNull();
+        assertThat(response.getChanges().get(1).getChangeType()).isEqualTo(TeamChangeType.MEMBER_LEFT);
+        assertThat(response.getChanges().get(1).getTeam()).isSameAs(team1);
+    }
+
+    @Test
+    @DisplayName("압축 시 최신 항목은 남기고 보관 기간이 지난 항목만 잘라냄")
+    void compact_keepsHead() {
+        when(teamChangeLogRepository.findMinId()).thenReturn(1L);
+        when(teamChangeLogRepository.findMaxId()).thenReturn(10L);
+        when(teamChangeLogRepository.findMaxIdChangedBefore(any())).thenReturn(10L);
+
+        feed.compact();
+
+        verify(teamChangeLogRepository).deleteSuperseded(1L);
+        verify(teamChangeLogRepository).deleteUpTo(9L);
+    }
+}
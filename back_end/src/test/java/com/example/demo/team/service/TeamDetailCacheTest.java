@@ -0,0 +1,74 @@
+package com.example.demo.team.service;
+
+import com.example.demo.common.outbox.OutboxService;
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.dto.TeamDetailResponse;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamDetailCacheTest {
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private IMap<Long, TeamDetailResponse> cache;
+
+    @Mock
+    private IMap<Long, Long> epochs;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    private TeamDetailCache teamDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        when(hazelcastInstance.<Long, TeamDetailResponse>getMap(TeamDetailCache.CACHE_MAP)).thenReturn(cache);
+        when(hazelcastInstance.<Long, Long>getMap(TeamDetailCache.EPOCH_MAP)).thenReturn(epochs);
+        teamDetailCache = new TeamDetailCache(hazelcastInstance, teamRepository, outboxService);
+    }
+
+    @Test
+    @DisplayName("사용자 무효화는 그 사용자가 팀장/팀원인 팀의 세대를 올린다 (캐시에 아직 없는 팀 포함)")
+    void evictUserNow_bumpsEpochOfUserTeams() {
+        when(teamRepository.findTeamIdsByUserId(7L)).thenReturn(List.of(1L, 2L));
+
+        teamDetailCache.evictUserNow(7L);
+
+        verify(epochs).set(eq(1L), anyLong());
+        verify(epochs).set(eq(2L), anyLong());
+        verify(cache).delete(1L);
+        verify(cache).delete(2L);
+    }
+
+    @Test
+    @DisplayName("로딩 중에 무효화되면 방금 저장한 값을 지운다")
+    void get_discardsValueInvalidatedDuringLoad() {
+        TeamDetailResponse loaded = new TeamDetailResponse();
+        when(epochs.get(1L)).thenReturn(null, 5L);
+
+        TeamDetailResponse result = teamDetailCache.get(1L, () -> loaded);
+
+        assertThat(result).isSameAs(loaded);
+        verify(cache).set(1L, loaded);
+        verify(cache).delete(1L);
+    }
+}
@@ -2,9 +2,12 @@ package com.example.demo.team.service;
 
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorCode;
+import com.example.demo.common.outbox.OutboxService;
+import com.example.demo.common.transaction.OptimisticLockRetryExecutor;
 import com.example.demo.team.dao.TeamMembershipRequestRepository;
 import com.example.demo.team.dao.TeamRepository;
 import com.example.demo.team.dto.TeamOffer;
+import com.example.demo.team.dto.TeamOfferNotification;
 import com.example.demo.team.entity.RequestStatus;
 import com.example.demo.team.entity.RequestType;
 import com.example.demo.team.entity.Team;
@@ -15,22 +18,18 @@ import com.example.demo.user.Enum.ProjectViveEnum;
 import com.example.demo.user.Enum.TechEnum;
 import com.example.demo.user.dao.UserRepository;
 import com.example.demo.user.entity.User;
-import com.hazelcast.core.HazelcastInstance;
-import com.hazelcast.cp.CPSubsystem;
-import com.hazelcast.cp.lock.FencedLock;
-import com.hazelcast.map.IMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -53,20 +52,14 @@ class TeamMembershipRequestServiceTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
-    @InjectMocks
-    private TeamMembershipRequestService teamMembershipRequestService;
-
-    @Mock
-    private HazelcastInstance hazelcastInstance; // 1. HazelcastInstance를 Mock으로 선언
-
     @Mock
-    private FencedLock fencedLock; // 2. FencedLock도 Mock으로 선언
+    private OutboxService outboxService;
 
     @Mock
-    private IMap<Object, Object> lock;
+    private OptimisticLockRetryExecutor optimisticLockRetryExecutor;
 
-    @Mock
-    private CPSubsystem cpSubsystem; // 3. getCPSubsystem()이 반환할 객체도 Mock으로 선언
+    @InjectMocks
+    private TeamMembershipRequestService teamMembershipRequestService;
 
     private Team team;
     private User user,user2;
@@ -124,12 +117,6 @@ class TeamMembershipRequestServiceTest {
     @Test
     @DisplayName("팀 -> 멤버 요청 성공")
     void requestTeamToMember_success() {
-        when(hazelcastInstance.getMap("teamMembershipRequestLock")).thenReturn(lock);
-        try {
-            doReturn(true).when(lock).tryLock(anyString(), anyLong(), any(TimeUnit.class));
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
         // given
         when(teamRepository.findById(teamOffer.getTeamId())).thenReturn(Optional.of(team));
         when(userRepository.findById(teamOffer.getUserId())).thenReturn(Optional.of(user));
@@ -140,7 +127,9 @@ class TeamMembershipRequestServiceTest {
 
         // then
         verify(teamMembershipRequestRepository, times(1)).save(any(TeamMembershipRequest.class));
-        verify(messagingTemplate, times(1)).convertAndSend("/queue/team/offer/" + teamOffer.getUserId(), teamOffer.getMessage());
+        verify(outboxService, times(1)).enqueueNotification(eq("/queue/team/offer/"), eq(List.of(teamOffer.getUserId())),
+                argThat(payload -> payload instanceof TeamOfferNotification notification
+                        && notification.getMessage().equals(teamOffer.getMessage())));
     }
 
     @Test
@@ -167,13 +156,7 @@ class TeamMembershipRequestServiceTest {
     @Test
     @DisplayName("팀 -> 멤버 요청 실패 - 이미 초대 요청 존재")
     void requestTeamToMember_duplicateRequest() {
-        team.setMembershipRequests(List.of(existingRequest));
-        when(hazelcastInstance.getMap("teamMembershipRequestLock")).thenReturn(lock);
-        try {
-            doReturn(true).when(lock).tryLock(anyString(), anyLong(), any(TimeUnit.class));
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+        when(teamMembershipRequestRepository.existsByTeamIdAndUserIdAndStatus(team.getId(), user.getId(), RequestStatus.PENDING)).thenReturn(true);
 
         when(teamRepository.findById(teamOffer.getTeamId())).thenReturn(Optional.of(team));
         when(userRepository.findById(teamOffer.getUserId())).thenReturn(Optional.of(user));
@@ -189,12 +172,6 @@ class TeamMembershipRequestServiceTest {
         teamOffer.setRequestType(RequestType.JOIN_REQUEST);
 
         user.setMembershipRequests(new ArrayList<>());
-        when(hazelcastInstance.getMap("teamMembershipRequestLock")).thenReturn(lock);
-        try {
-            doReturn(true).when(lock).tryLock(anyString(), anyLong(), any(TimeUnit.class));
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
 
         when(teamRepository.findById(teamOffer.getTeamId())).thenReturn(Optional.of(team));
         when(userRepository.findById(teamOffer.getUserId())).thenReturn(Optional.of(user));
@@ -203,8 +180,10 @@ class TeamMembershipRequestServiceTest {
         teamMembershipRequestService.requestMemberToTeam(teamOffer);
 
         verify(teamMembershipRequestRepository, times(1)).save(any(TeamMembershipRequest.class));
-        verify(messagingTemplate, times(1)).convertAndSend("/queue/team/offer/"+team.getMembers().get(0).getId(), teamOffer.getMessage());
-        verify(messagingTemplate, times(1)).convertAndSend("/queue/team/offer/"+team.getMembers().get(0).getId(), teamOffer.getMessage());
+        // 팀원 전체에 대한 알림 1건
+        verify(outboxService, times(1)).enqueueNotification(eq("/queue/team/offer/"), eq(List.of(user.getId(), user2.getId())),
+                argThat(payload -> payload instanceof TeamOfferNotification notification
+                        && notification.getMessage().equals(teamOffer.getMessage())));
     }
 
     @Test
@@ -231,14 +210,8 @@ class TeamMembershipRequestServiceTest {
     @Test
     @DisplayName("유저 -> 팀 요청 실패 - 이미 초대 요청 존재")
     void requestMemberToTeam_duplicateRequest() {
-        team.setMembershipRequests(List.of(existingRequest));
+        when(teamMembershipRequestRepository.existsByTeamIdAndUserIdAndStatus(team.getId(), user.getId(), RequestStatus.PENDING)).thenReturn(true);
 
-        when(hazelcastInstance.getMap("teamMembershipRequestLock")).thenReturn(lock);
-        try {
-            doReturn(true).when(lock).tryLock(anyString(), anyLong(), any(TimeUnit.class));
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
 
         when(teamRepository.findById(teamOffer.getTeamId())).thenReturn(Optional.of(team));
         when(userRepository.findById(teamOffer.getUserId())).thenReturn(Optional.of(user));
@@ -270,4 +243,77 @@ class TeamMembershipRequestServiceTest {
         assertThat(capturedRequest.getMessage()).isEqualTo(teamOffer.getMessage());
     }
 
+    @Test
+    @DisplayName("동시 요청으로 대기 요청 유니크 제약 위반 시 중복 요청 예외로 변환")
+    void saveTeamOffer_uniqueViolation() {
+        when(teamMembershipRequestRepository.save(any())).thenThrow(new DataIntegrityViolationException("active_key"));
+
+        assertThatThrownBy(() -> teamMembershipRequestService.saveTeamOffer(teamOffer, team, user))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TEAM_REQUEST_ALLREADY_EXIST.getMessage());
+    }
+
+    @Test
+    @DisplayName("팀 초대 일괄 거절은 단일 UPDATE 로 처리")
+    void rejectOffer_bulkUpdate() {
+        when(teamMembershipRequestRepository.transitionAllOfTeam(1L, RequestType.INVITE, RequestStatus.PENDING, RequestStatus.REJECTED))
+                .thenReturn(3);
+
+        int rejected = teamMembershipRequestService.rejectOffer(1L);
+
+        assertThat(rejected).isEqualTo(3);
+        verify(teamMembershipRequestRepository, never()).findAllByTeamId(anyLong());
+        verify(teamMembershipRequestRepository, never()).saveAll(any());
+    }
+
+    // 재시도 실행기는 작업을 그대로 한 번 실행
+    private void stubRetryPassThrough() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(1)).run();
+            return null;
+        }).when(optimisticLockRetryExecutor).run(anyString(), any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("요청 수락 시 같은 사용자의 나머지 대기 요청 정리 후 팀 합류")
+    void acceptOffer_success() {
+        stubRetryPassThrough();
+        existingRequest.setId(10L);
+        existingRequest.setTeam(team);
+        when(teamMembershipRequestRepository.findById(10L)).thenReturn(Optional.of(existingRequest));
+        when(teamMembershipRequestRepository.transition(10L, RequestStatus.PENDING, RequestStatus.ACCEPTED)).thenReturn(1);
+
+        teamMembershipRequestService.acceptOffer(10L);
+
+        verify(teamMembershipRequestRepository).transitionAllOfUser(user.getId(), 10L, RequestType.INVITE, RequestStatus.PENDING, RequestStatus.REJECTED);
+        verify(teamMembershipRequestRepository).transitionAllOfUser(user.getId(), 10L, RequestType.JOIN_REQUEST, RequestStatus.PENDING, RequestStatus.CANCELED);
+        verify(teamService).inviteMemberTeam(argThat(invite -> invite.getTeamId().equals(team.getId()) && invite.getUserId().equals(user.getId())));
+    }
+
+    @Test
+    @DisplayName("요청 수락은 팀 합류와 함께 버전 충돌 재시도 단위로 실행된다")
+    void acceptOffer_runsInRetryExecutor() {
+        teamMembershipRequestService.acceptOffer(10L);
+
+        verify(optimisticLockRetryExecutor).run(eq("team.accept"), any(Runnable.class));
+        verifyNoInteractions(teamMembershipRequestRepository, teamService);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 요청은 수락할 수 없다")
+    void acceptOffer_alreadyHandled() {
+        stubRetryPassThrough();
+        existingRequest.setId(10L);
+        existingRequest.setTeam(team);
+        when(teamMembershipRequestRepository.findById(10L)).thenReturn(Optional.of(existingRequest));
+        when(teamMembershipRequestRepository.transition(10L, RequestStatus.PENDING, RequestStatus.ACCEPTED)).thenReturn(0);
+
+        assertThatThrownBy(() -> teamMembershipRequestService.acceptOffer(10L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TEAM_REQUEST_NOT_FOUND.getMessage());
+
+        verify(teamMembershipRequestRepository, never()).transitionAllOfUser(any(), any(), any(), any(), any());
+        verify(teamService, never()).inviteMemberTeam(any());
+    }
+
 }
@@ -0,0 +1,83 @@
+package com.example.demo.team.service;
+
+import com.example.demo.common.lock.DistributedLockService;
+import com.example.demo.team.dao.TeamMembershipRequestRepository;
+import com.example.demo.team.entity.RequestStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamMembershipRequestSweeperTest {
+
+    @Mock
+    private TeamMembershipRequestRepository teamMembershipRequestRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TeamMembershipRequestSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new TeamMembershipRequestSweeper(teamMembershipRequestRepository, transactionManager, distributedLockService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 나오면 다음 배치를 이어서 만료한다")
+    void expireCreatedBefore_multipleBatches() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        List<Long> full = LongStream.rangeClosed(1, TeamMembershipRequestSweeper.BATCH_SIZE).boxed().toList();
+        List<Long> rest = List.of(1001L, 1002L);
+        when(teamMembershipRequestRepository.findIdsCreatedBefore(eq(RequestStatus.PENDING), eq(cutoff), any(Pageable.class)))
+                .thenReturn(full, rest);
+        when(teamMembershipRequestRepository.transitionAll(anyList(), eq(RequestStatus.PENDING), eq(RequestStatus.EXPIRED)))
+                .thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+        when(teamMembershipRequestRepository.countByStatusAndCreatedAtBefore(RequestStatus.PENDING, cutoff)).thenReturn(0L);
+
+        int expired = sweeper.expireCreatedBefore(cutoff);
+
+        assertThat(expired).isEqualTo(TeamMembershipRequestSweeper.BATCH_SIZE + 2);
+        verify(teamMembershipRequestRepository, times(2)).transitionAll(anyList(), eq(RequestStatus.PENDING), eq(RequestStatus.EXPIRED));
+        assertThat(meterRegistry.counter("team.request.expired").count()).isEqualTo(TeamMembershipRequestSweeper.BATCH_SIZE + 2);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 최대 배치 수까지만 처리하고 남은 건수를 backlog 로 남긴다")
+    void expireCreatedBefore_bounded() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        List<Long> full = LongStream.rangeClosed(1, TeamMembershipRequestSweeper.BATCH_SIZE).boxed().toList();
+        when(teamMembershipRequestRepository.findIdsCreatedBefore(eq(RequestStatus.PENDING), eq(cutoff), any(Pageable.class)))
+                .thenReturn(full);
+        when(teamMembershipRequestRepository.transitionAll(anyList(), eq(RequestStatus.PENDING), eq(RequestStatus.EXPIRED)))
+                .thenReturn(TeamMembershipRequestSweeper.BATCH_SIZE);
+        when(teamMembershipRequestRepository.countByStatusAndCreatedAtBefore(RequestStatus.PENDING, cutoff)).thenReturn(42L);
+
+        sweeper.expireCreatedBefore(cutoff);
+
+        verify(teamMembershipRequestRepository, times(TeamMembershipRequestSweeper.MAX_BATCHES))
+                .transitionAll(anyList(), eq(RequestStatus.PENDING), eq(RequestStatus.EXPIRED));
+        assertThat(meterRegistry.get("team.request.expiry.backlog").gauge().value()).isEqualTo(42.0);
+    }
+}
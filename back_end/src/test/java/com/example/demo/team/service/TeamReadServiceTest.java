@@ -0,0 +1,60 @@
+package com.example.demo.team.service;
+
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.dto.TeamDetailResponse;
+import com.example.demo.team.dto.TeamDetailRow;
+import com.example.demo.user.dao.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamReadServiceTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TeamReadService teamReadService;
+
+    @Test
+    @DisplayName("전체 팀 조회는 팀 ID IN 목록을 500개씩 나눠 조회한다")
+    void getAllTeamDetails_chunksInList() {
+        List<TeamDetailRow> rows = new ArrayList<>();
+        LongStream.rangeClosed(1, 501).forEach(id -> {
+            TeamDetailRow row = new TeamDetailRow();
+            row.setTeamId(id);
+            row.setLeaderId(id);
+            rows.add(row);
+        });
+        when(teamRepository.findAllDetailRows()).thenReturn(rows);
+
+        List<TeamDetailResponse> responses = teamReadService.getAllTeamDetails();
+
+        assertThat(responses).hasSize(501);
+        assertThat(responses.get(500).getTeamId()).isEqualTo(501L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> teamIds = ArgumentCaptor.forClass(Collection.class);
+        verify(teamRepository, times(2)).findTeamVives(teamIds.capture());
+        assertThat(teamIds.getAllValues()).extracting(Collection::size).containsExactly(500, 1);
+        verify(userRepository, times(2)).findDetailRowsByTeamIdInOrIdIn(anyCollection(), any());
+    }
+}
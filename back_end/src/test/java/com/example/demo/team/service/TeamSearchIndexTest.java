@@ -0,0 +1,75 @@
+package com.example.demo.team.service;
+
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.event.TeamChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamSearchIndexTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    private TeamSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TeamSearchIndex(teamRepository);
+        when(teamRepository.findAllSearchDocuments()).thenReturn(List.of(
+                new Object[]{1L, "성장하는 A팀", "함께 성장하는 백엔드 스터디"},
+                new Object[]{2L, "A팀", "포트폴리오 프로젝트"},
+                new Object[]{3L, "도전하는 B팀", "AI 서비스에 도전합니다"},
+                new Object[]{4L, "프로젝트팀", null}
+        ));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("이름 부분 일치 후보 조회 - 공백/대소문자 무시")
+    void findIdsByName() {
+        assertThat(index.findIdsByName("a팀")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.findIdsByName("도전하는 B")).containsExactly(3L);
+        assertThat(index.findIdsByName("없는팀명")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어 일치도 순 정렬 - 정확 > 접두 > 포함 > 설명")
+    void search_rankedByMatchQuality() {
+        List<TeamSearchIndex.Match> matches = index.search("프로젝트");
+
+        // 4: 이름 접두 일치, 2: 설명 포함
+        assertThat(matches).extracting(TeamSearchIndex.Match::getTeamId).containsExactly(4L, 2L);
+        assertThat(matches.get(0).getScore()).isGreaterThan(matches.get(1).getScore());
+
+        assertThat(index.search("A팀").get(0).getTeamId()).isEqualTo(2L); // 정확 일치가 최상위
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 바이그램 과반이 일치하면 퍼지 매칭")
+    void search_fuzzy() {
+        assertThat(index.search("성장하믄")).extracting(TeamSearchIndex.Match::getTeamId).contains(1L);
+    }
+
+    @Test
+    @DisplayName("팀 변경 이벤트로 인덱스 갱신/삭제")
+    void onTeamChanged() {
+        index.onTeamChanged(new TeamChangedEvent(1L, false, "새 이름팀", null, null, 0, Map.of()));
+        assertThat(index.findIdsByName("성장")).isEmpty();
+        assertThat(index.findIdsByName("새이름")).containsExactly(1L);
+
+        index.onTeamChanged(TeamChangedEvent.deleted(1L));
+        assertThat(index.findIdsByName("새이름")).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.demo.team.service;
 
 import com.example.demo.chat.entity.ChatRoom;
+import com.example.demo.chat.service.ChatRoomMembershipCache;
 import com.example.demo.common.exception.BusinessException;
 import com.example.demo.common.exception.ErrorCode;
-import com.example.demo.chat.dto.ChatRoomRequest;
-import com.example.demo.chat.service.ChatRoomService;
+import com.example.demo.common.outbox.OutboxEventType;
+import com.example.demo.common.outbox.OutboxService;
+import com.example.demo.common.pagination.Cursor;
+import com.example.demo.common.pagination.CursorPage;
+import com.example.demo.common.transaction.OptimisticLockRetryExecutor;
+import com.example.demo.team.dao.TeamMembershipRequestRepository;
 import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.dao.TeamSearchRepository;
 import com.example.demo.team.dto.*;
+import com.example.demo.team.entity.RequestStatus;
+import com.example.demo.team.entity.RequestType;
 import com.example.demo.team.entity.Team;
+import com.example.demo.team.entity.TeamStatus;
 import com.example.demo.user.Enum.PositionEnum;
 import com.example.demo.user.Enum.ProjectGoalEnum;
 import com.example.demo.user.Enum.ProjectViveEnum;
@@ -25,6 +34,7 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,11 +49,41 @@ class TeamServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private ChatRoomService chatRoomService;
+    private OutboxService outboxService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private TeamReadService teamReadService;
+
+    @Mock
+    private TeamSearchRepository teamSearchRepository;
+
+    @Mock
+    private TeamDetailCache teamDetailCache;
+
+    @Mock
+    private TeamSearchIndex teamSearchIndex;
+
+    @Mock
+    private TeamVacancyIndex teamVacancyIndex;
+
+    @Mock
+    private TeamCapacityReservations teamCapacityReservations;
+
+    @Mock
+    private OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+
+    @Mock
+    private TeamChangeFeed teamChangeFeed;
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Mock
+    private TeamMembershipRequestRepository teamMembershipRequestRepository;
+
     @InjectMocks
     private TeamService teamService;
 
@@ -148,7 +188,7 @@ class TeamServiceTest {
         // 2. 주요 메서드들이 정확히 1번씩 호출되었는지 검증
         verify(userRepository, times(1)).findById(user.getId());
         verify(teamRepository, times(1)).save(any(Team.class));
-        verify(chatRoomService, times(1)).createTeamChatRoom(any(ChatRoomRequest.class));
+        verify(outboxService, times(1)).enqueue(argThat(event -> event.getEventType() == OutboxEventType.TEAM_CHAT_ROOM_CREATE));
     }
 
     @Test
@@ -187,59 +227,126 @@ class TeamServiceTest {
     @Test
     @DisplayName("모든 팀 조회 성공")
     void getAllTeams_성공() {
-        when(teamRepository.findAllWithDetails()).thenReturn(List.of(team));
+        when(teamReadService.getAllTeamDetails()).thenReturn(List.of(teamService.teamToResponse(team)));
 
         List<TeamDetailResponse> allTeams = teamService.getAllTeams();
 
         assertThat(allTeams).hasSize(1);
         assertThat(allTeams.get(0).getTeamName()).isEqualTo(team.getTeamName());
+        verify(teamRepository, never()).findAllWithDetails();
     }
 
     @Test
-    @DisplayName("팀 조건 조회 성공 - teamName과 leaderId 둘 다 필터링")
+    @DisplayName("팀 조건 조회 성공 - 다음 페이지 커서와 전체 건수 반환")
     void searchConditionTeam_성공() {
         // given
-        User leader1 = new User();
-        leader1.setId(100L);
-
-        User leader2 = new User();
-        leader2.setId(200L);
-
-        Team team1 = new Team();
-        team1.setId(1L);
-        team1.setTeamName("테스트A");
-        team1.setLeader(leader1);
-        team1.setMembers(List.of(leader1));
-        team1.setChatRoom(new ChatRoom()); // 추가
-        team1.getChatRoom().setId(1L);
-
-        Team team2 = new Team();
-        team2.setId(2L);
-        team2.setTeamName("샘플B");
-        team2.setLeader(leader2);
-        team2.setMembers(List.of(leader2));
-        team2.setChatRoom(new ChatRoom()); // 추가
-        team2.getChatRoom().setId(2L);
-
-        when(teamRepository.findAllWithDetails()).thenReturn(List.of(team1, team2));
-
         TeamSearchRequest request = new TeamSearchRequest();
-        request.setTeamName("테스트"); // 이름에 "테스트"가 포함된 팀만
-        request.setLeaderId(100L);    // 리더 ID가 100L인 팀만
+        request.setTeamName("테스트");
+        request.setLeaderId(100L);
+        request.setSize(2);
+        request.setWithTotal(true);
+
+        TeamDetailResponse response1 = new TeamDetailResponse();
+        response1.setTeamId(30L);
+        TeamDetailResponse response2 = new TeamDetailResponse();
+        response2.setTeamId(20L);
+
+        // size + 1 개가 조회되면 다음 페이지가 존재
+        when(teamSearchRepository.findTeamIds(request, null, 3)).thenReturn(List.of(30L, 20L, 10L));
+        when(teamReadService.getTeamDetails(List.of(30L, 20L))).thenReturn(List.of(response1, response2));
+        when(teamSearchRepository.countTeams(request)).thenReturn(3L);
 
         // when
-        List<TeamDetailResponse> result = teamService.searchConditionTeam(request);
+        CursorPage<TeamDetailResponse> result = teamService.searchConditionTeam(request);
 
         // then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTeamName()).isEqualTo(team1.getTeamName());
+        assertThat(result.getItems()).extracting(TeamDetailResponse::getTeamId).containsExactly(30L, 20L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(Cursor.decode(result.getNextCursor()).getId()).isEqualTo(20L);
+        assertThat(result.getTotalCount()).isEqualTo(3L);
+        verify(teamRepository, never()).findAllWithDetails();
+    }
+
+    @Test
+    @DisplayName("팀 검색어 조회 - 일치도 순 정렬과 (점수, id) 커서")
+    void searchConditionTeam_검색어_일치도_순() {
+        TeamSearchRequest request = new TeamSearchRequest();
+        request.setKeyword("테스트");
+        request.setSize(2);
+
+        List<TeamSearchIndex.Match> matches = List.of(
+                new TeamSearchIndex.Match(5L, 1000),
+                new TeamSearchIndex.Match(9L, 800),
+                new TeamSearchIndex.Match(7L, 800));
+        when(teamSearchIndex.search("테스트")).thenReturn(matches);
+        when(teamSearchRepository.filterTeamIds(request, List.of(5L, 9L, 7L))).thenReturn(List.of(5L, 9L, 7L));
+        when(teamReadService.getTeamDetails(anyList())).thenReturn(List.of());
+
+        CursorPage<TeamDetailResponse> first = teamService.searchConditionTeam(request);
+
+        verify(teamReadService).getTeamDetails(List.of(5L, 9L));
+        assertThat(first.isHasNext()).isTrue();
+        Cursor next = Cursor.decode(first.getNextCursor());
+        assertThat(next.getSortKey()).isEqualTo("800");
+        assertThat(next.getId()).isEqualTo(9L);
+
+        request.setCursor(first.getNextCursor());
+        CursorPage<TeamDetailResponse> second = teamService.searchConditionTeam(request);
+
+        verify(teamReadService).getTeamDetails(List.of(7L));
+        assertThat(second.isHasNext()).isFalse();
+        verify(teamSearchRepository, never()).findTeamIds(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("포지션 빈자리 팀 조회 - 인덱스 순서대로 상세 조립")
+    void getTeamsWithOpening_인덱스_순서() {
+        when(teamVacancyIndex.findTeamIds(PositionEnum.BACKEND, TeamVacancyIndex.Order.FILL_RATIO, 20))
+                .thenReturn(List.of(7L, 3L));
+        when(teamReadService.getTeamDetails(List.of(7L, 3L))).thenReturn(List.of());
+
+        teamService.getTeamsWithOpening(PositionEnum.BACKEND, TeamVacancyIndex.Order.FILL_RATIO, null);
+
+        verify(teamReadService).getTeamDetails(List.of(7L, 3L));
+    }
+
+    @Test
+    @DisplayName("팀 조건 조회 - 커서 이후 마지막 페이지")
+    void searchConditionTeam_마지막_페이지() {
+        TeamSearchRequest request = new TeamSearchRequest();
+        request.setCursor(Cursor.of(20L).encode());
+        request.setSize(2);
+
+        TeamDetailResponse response = new TeamDetailResponse();
+        response.setTeamId(10L);
+
+        when(teamSearchRepository.findTeamIds(request, 20L, 3)).thenReturn(List.of(10L));
+        when(teamReadService.getTeamDetails(List.of(10L))).thenReturn(List.of(response));
+
+        CursorPage<TeamDetailResponse> result = teamService.searchConditionTeam(request);
+
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalCount()).isNull();
+        verify(teamSearchRepository, never()).countTeams(any());
+    }
 
-        verify(teamRepository, times(1)).findAllWithDetails();
+    @Test
+    @DisplayName("팀 조건 조회 실패 - 잘못된 커서")
+    void searchConditionTeam_잘못된_커서() {
+        TeamSearchRequest request = new TeamSearchRequest();
+        request.setCursor("###");
+
+        assertThatThrownBy(() -> teamService.searchConditionTeam(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.INVALID_CURSOR.getMessage());
     }
 
     @Test
     @DisplayName("팀 정보 조회 성공")
     void getTeam_성공() {
+        stubCacheMiss();
         when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
 
         // when
@@ -255,6 +362,7 @@ class TeamServiceTest {
     @Test
     @DisplayName("팀 정보조회 실패")
     void getTeam_존재하지_않는_팀() {
+        stubCacheMiss();
         when(teamRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> teamService.getTeam(999L))
@@ -262,6 +370,58 @@ class TeamServiceTest {
                 .hasMessageContaining(ErrorCode.TEAM_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("팀 정보 조회 - 캐시 적중 시 DB 조회 없음")
+    void getTeam_캐시_적중() {
+        TeamDetailResponse cached = new TeamDetailResponse();
+        cached.setTeamId(1L);
+        when(teamDetailCache.get(eq(1L), any())).thenReturn(cached);
+
+        TeamDetailResponse response = teamService.getTeam(1L);
+
+        assertThat(response).isSameAs(cached);
+        verify(teamRepository, never()).findById(anyLong());
+    }
+
+    // 캐시 미스: loader 를 그대로 실행
+    @SuppressWarnings("unchecked")
+    private void stubCacheMiss() {
+        when(teamDetailCache.get(anyLong(), any()))
+                .thenAnswer(invocation -> ((Supplier<TeamDetailResponse>) invocation.getArgument(1)).get());
+    }
+
+    // 재시도 실행기는 작업을 그대로 한 번 실행
+    @SuppressWarnings("unchecked")
+    private void stubRetryPassThrough() {
+        when(optimisticLockRetryExecutor.execute(anyString(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    @DisplayName("팀 잠금 시 대기 중 가입 요청을 일괄 취소")
+    void lockTeam_cancelsPendingJoinRequests() {
+        team.setStatus(TeamStatus.UNLOCKED);
+        when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+
+        teamService.lockTeam(team.getId());
+
+        assertThat(team.getStatus()).isEqualTo(TeamStatus.LOCKED);
+        verify(teamMembershipRequestRepository).transitionAllOfTeam(team.getId(), RequestType.JOIN_REQUEST, RequestStatus.PENDING, RequestStatus.CANCELED);
+    }
+
+    @Test
+    @DisplayName("이미 잠긴 팀은 가입 요청을 건드리지 않는다")
+    void lockTeam_alreadyLocked() {
+        team.setStatus(TeamStatus.LOCKED);
+        when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+
+        assertThatThrownBy(() -> teamService.lockTeam(team.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TEAM_ALLREADY_LOCKED.getMessage());
+
+        verifyNoInteractions(teamMembershipRequestRepository);
+    }
+
     @Test
     @DisplayName("팀 삭제 성공")
     void deleteTeam_성공() {
@@ -282,6 +442,8 @@ class TeamServiceTest {
         }
 
         verify(teamRepository, times(1)).delete(team);
+        verify(teamDetailCache).evictTeam(team.getId());
+        verify(chatRoomMembershipCache).evictRoom(team.getChatRoom().getId());
     }
 
     @Test
@@ -351,11 +513,11 @@ class TeamServiceTest {
     @Test
     @DisplayName("팀원으로 추가 성공")
     void inviteMemberTeam_성공() {
+        stubRetryPassThrough();
         user.setTeam(null);
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
-        doNothing().when(chatRoomService).addMemberToTeamChatRoom(any());
 
         var request = new TeamInviteRequest();
         request.setTeamId(team.getId());
@@ -365,13 +527,38 @@ class TeamServiceTest {
 
 //        assertThat(response.getMembersId()).contains(user.getId());
         assertThat(user.getTeam()).isEqualTo(team);
+        verify(teamCapacityReservations).reserve(eq(team.getId()), anyInt());
+
+        verify(outboxService, times(1)).enqueue(argThat(event -> event.getEventType() == OutboxEventType.TEAM_CHAT_MEMBER_ADD
+                && event.getUserId().equals(user.getId())));
+    }
+
+    @Test
+    @DisplayName("팀원으로 추가 시 정원 예약 실패하면 팀원 변경 없음")
+    void inviteMemberTeam_정원_초과_예외() {
+        stubRetryPassThrough();
+        user.setTeam(null);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+        doThrow(new BusinessException(ErrorCode.TEAM_MEMBER_LIMIT_EXCEEDED))
+                .when(teamCapacityReservations).reserve(eq(team.getId()), anyInt());
+
+        var request = new TeamInviteRequest();
+        request.setTeamId(team.getId());
+        request.setUserId(1L);
+
+        assertThatThrownBy(() -> teamService.inviteMemberTeam(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.TEAM_MEMBER_LIMIT_EXCEEDED.getMessage());
 
-        verify(chatRoomService, times(1)).addMemberToTeamChatRoom(any());
+        assertThat(user.getTeam()).isNull();
+        verify(outboxService, never()).enqueue(any());
     }
 
     @Test
     @DisplayName("팀원으로 등록된 멤버")
     void inviteMemberTeam_이미_팀_소속_예외() {
+        stubRetryPassThrough();
         user.setTeam(team);
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
@@ -384,12 +571,13 @@ class TeamServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining(ErrorCode.USER_ALLREADY_HAS_TEAM.getMessage());
 
-        verify(chatRoomService, never()).addMemberToTeamChatRoom(any());
+        verify(outboxService, never()).enqueue(any());
     }
 
     @Test
     @DisplayName("팀원으로 등록 시 팀 없음 예외")
     void inviteMemberTeam_팀_없음_예외() {
+        stubRetryPassThrough();
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(teamRepository.findById(999L)).thenReturn(Optional.empty());
 
@@ -401,12 +589,13 @@ class TeamServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining(ErrorCode.TEAM_NOT_FOUND.getMessage());
 
-        verify(chatRoomService, never()).addMemberToTeamChatRoom(any());
+        verify(outboxService, never()).enqueue(any());
     }
 
     @Test
     @DisplayName("팀원으로 등록 시 유저 찾을 수 없음")
     void inviteMemberTeam_유저_없음_예외() {
+        stubRetryPassThrough();
         when(userRepository.findById(999L)).thenReturn(Optional.empty());
 
         var request = new TeamInviteRequest();
@@ -416,7 +605,7 @@ class TeamServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining(ErrorCode.USER_NOT_FOUND.getMessage());
 
-        verify(chatRoomService, never()).addMemberToTeamChatRoom(any());
+        verify(outboxService, never()).enqueue(any());
     }
 
 //    @Test
@@ -0,0 +1,68 @@
+package com.example.demo.team.service;
+
+import com.example.demo.team.dao.TeamRepository;
+import com.example.demo.team.entity.TeamStatus;
+import com.example.demo.team.event.TeamChangedEvent;
+import com.example.demo.user.Enum.PositionEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamVacancyIndexTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    private TeamVacancyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TeamVacancyIndex(teamRepository);
+        // (id, 상태, 팀원 수, 백엔드, 프론트, AI, PM, 디자인)
+        when(teamRepository.findAllVacancyRows()).thenReturn(List.of(
+                new Object[]{1L, TeamStatus.UNLOCKED, 2, 1, 0, 1, 0, 0},
+                new Object[]{2L, TeamStatus.UNLOCKED, 4, 1, 0, 0, 0, 0},
+                new Object[]{3L, TeamStatus.LOCKED, 1, 2, 0, 0, 0, 0},   // 잠긴 팀 제외
+                new Object[]{4L, TeamStatus.UNLOCKED, 6, 1, 0, 0, 0, 0},  // 정원 찬 팀 제외
+                new Object[]{5L, TeamStatus.UNLOCKED, 3, 1, 0, 0, 0, 0}
+        ));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("포지션별 빈자리 팀 - 최근 순 / 많이 채워진 순")
+    void findTeamIds_ordering() {
+        assertThat(index.findTeamIds(PositionEnum.BACKEND, TeamVacancyIndex.Order.RECENCY, 10))
+                .containsExactly(5L, 2L, 1L);
+        assertThat(index.findTeamIds(PositionEnum.BACKEND, TeamVacancyIndex.Order.FILL_RATIO, 2))
+                .containsExactly(2L, 5L);
+        assertThat(index.findTeamIds(PositionEnum.AI, TeamVacancyIndex.Order.RECENCY, 10))
+                .containsExactly(1L);
+        assertThat(index.teamIdsWithOpening(PositionEnum.DESIGN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("팀 변경 이벤트로 증분 갱신")
+    void onTeamChanged_incremental() {
+        // 1번 팀 백엔드 자리가 채워지고 디자인 자리가 생김
+        index.onTeamChanged(new TeamChangedEvent(1L, false, null, null, TeamStatus.UNLOCKED, 3,
+                Map.of(PositionEnum.BACKEND, 0, PositionEnum.DESIGN, 1)));
+        assertThat(index.teamIdsWithOpening(PositionEnum.BACKEND)).doesNotContain(1L);
+        assertThat(index.teamIdsWithOpening(PositionEnum.AI)).doesNotContain(1L);
+        assertThat(index.teamIdsWithOpening(PositionEnum.DESIGN)).containsExactly(1L);
+
+        index.onTeamChanged(TeamChangedEvent.deleted(2L));
+        assertThat(index.findTeamIds(PositionEnum.BACKEND, TeamVacancyIndex.Order.FILL_RATIO, 10))
+                .containsExactly(5L);
+    }
+}
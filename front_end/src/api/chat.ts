@@ -24,12 +24,32 @@ export interface ChatRoomRequest {
   userId?: number
 }
 
+// 읽음 확인 (/app/chat.read 로 publish, 읽은 사용자는 인증된 STOMP 세션 사용자)
+export interface ChatReadRequest {
+  roomId: number
+  messageId: number
+}
+
+// 안 읽은 메시지 수를 포함한 채팅방
+export interface ChatRoomUnread {
+  roomId: number
+  roomType: RoomType
+  teamId: number | null
+  lastReadMessageId: number | null
+  unreadCount: number
+}
+
 export const chatAPI = {
   // PRIVATE 채팅방 생성
   createPrivateRoom: (payload: Omit<ChatRoomRequest, 'teamId' | 'userId'>) =>
     apiClient.post('/chatroom/private', payload),
 
-  // 기존 메시지 조회 예시
-  getMessages: (chatId: number) =>
-    apiClient.get(`/chatroom/${chatId}/messages`),
+  // 메시지 조회 (기본: 최신 limit 개, before/after: 메시지 ID 커서)
+  // after 결과에는 최근 몇 초 구간의 이미 받은 메시지가 다시 포함될 수 있으므로 ID 로 중복 제거
+  getMessages: (chatId: number, params?: { before?: number; after?: number; limit?: number }) =>
+    apiClient.get(`/chatroom/${chatId}/messages`, { params }),
+
+  // 사용자 채팅방 목록 + 안 읽은 수
+  getUserRooms: (userId: number) =>
+    apiClient.get<{ data: ChatRoomUnread[] }>(`/chatroom/user/${userId}`),
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import type {
   TeamInviteRequest,
   TeamOffer,
   TeamMembershipResponse,
+  TeamChangeFeedResponse,
+  CursorPage,
   ApiResponse
 } from '@/types/team'
 
@@ -16,22 +18,30 @@ export const teamAPI = {
   /**
    * 팀 생성
    * POST /team
+   * 팀 채팅방은 커밋 이후 비동기로 만들어지므로 응답의 chatRoomId 는 null 일 수 있다
    */
   createTeam: (teamRequest: TeamRequest): Promise<ApiResponse<TeamDetailResponse>> =>
     apiClient.post('/team', teamRequest),
 
   /**
    * 전체 팀 조회
-   * GET /team
+   * GET /team?unpaged=true
    */
   getAllTeams: (): Promise<ApiResponse<TeamDetailResponse[]>> =>
-    apiClient.get('/team'),
+    apiClient.get('/team', { params: { unpaged: true } }),
 
   /**
-   * 팀 조건 검색
+   * 팀 변경 피드 (since 이후 변경된 팀만)
+   * GET /team/changes?since={version}
+   */
+  getTeamChanges: (since?: number, size?: number): Promise<ApiResponse<TeamChangeFeedResponse>> =>
+    apiClient.get('/team/changes', { params: { since, size } }),
+
+  /**
+   * 팀 조건 검색 (커서 페이지, 다음 페이지는 nextCursor 를 cursor 로 전달)
    * POST /team/search
    */
-  searchTeams: (searchRequest: TeamSearchRequest): Promise<ApiResponse<TeamDetailResponse[]>> =>
+  searchTeams: (searchRequest: TeamSearchRequest): Promise<ApiResponse<CursorPage<TeamDetailResponse>>> =>
     apiClient.post('/team/search', searchRequest),
 
   /**
@@ -76,6 +86,13 @@ export const teamAPI = {
   rejectOffer: (teamId: number): Promise<ApiResponse<void>> =>
     apiClient.post(`/team/${teamId}/reject`),
 
+  /**
+   * 팀 요청 수락 (같은 사용자의 나머지 대기 요청은 정리됨)
+   * POST /team/request/{requestId}/accept
+   */
+  acceptOffer: (requestId: number): Promise<ApiResponse<void>> =>
+    apiClient.post(`/team/request/${requestId}/accept`),
+
   /**
    * 팀 떠나기
    * POST /team/{userId}/leave
@@ -131,16 +148,16 @@ export const teamHelpers = {
     }),
 
   /**
-   * 팀 이름으로 검색
+   * 팀 이름으로 검색 (cursor 없으면 첫 페이지)
    */
-  searchTeamsByName: (teamName: string) =>
-    teamAPI.searchTeams({ teamName }),
+  searchTeamsByName: (teamName: string, cursor?: string): Promise<ApiResponse<CursorPage<TeamDetailResponse>>> =>
+    teamAPI.searchTeams({ teamName, cursor }),
 
   /**
-   * 팀장 ID로 검색
+   * 팀장 ID로 검색 (cursor 없으면 첫 페이지)
    */
-  searchTeamsByLeader: (leaderId: number) =>
-    teamAPI.searchTeams({ leaderId }),
+  searchTeamsByLeader: (leaderId: number, cursor?: string): Promise<ApiResponse<CursorPage<TeamDetailResponse>>> =>
+    teamAPI.searchTeams({ leaderId, cursor }),
 }
 
 export default teamAPI
\ No newline at end of file
@@ -56,10 +56,10 @@ export const userAPI = {
 
   /**
    * 대기중인 사용자 조회 (UserStatus가 WAITING인 사용자들)
-   * GET /users/profile/waiting
+   * GET /users/profile/waiting?unpaged=true
    */
   getWaitingUsers: (): Promise<ApiResponse<UserSearchResponse[]>> =>
-    apiClient.get('/users/profile/waiting')
+    apiClient.get('/users/profile/waiting', { params: { unpaged: true } })
 }
 
 // 편의를 위한 추가 함수들
@@ -11,7 +11,7 @@ import { ScrollArea } from '@/components/ui/scroll-area';
 import { chatAPI } from '@/api/chat';
 
 interface TeamChatProps {
-  roomId: number;
+  roomId: number | null; // 팀 채팅방 생성 전이면 null
   teamId: number;
 }
 
@@ -38,8 +38,12 @@ class WebSocketService {
       return;
     }
 
+    const token = localStorage.getItem('authToken');
+
     this.stompClient = new Client({
       webSocketFactory: () => new SockJS(getWebSocketURL()),
+      // 서버에서 사용자 식별(접속 현황)에 사용
+      connectHeaders: token ? { Authorization: `Bearer ${token}` } : {},
       debug: (str: string) => {
         console.log(new Date(), str);
       },
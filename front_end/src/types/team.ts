@@ -1,5 +1,5 @@
 // Team 관련 타입 정의
-import type { UserDetailResponse } from './user'
+import type { UserDetailResponse, PositionEnum } from './user'
 // export interface Team {
 //   teamId: number
 //   teamName: string
@@ -47,7 +47,7 @@ import type { UserDetailResponse } from './user'
 // Enum 타입들 (백엔드와 일치) - union type으로 대체
 export type RequestType = 'JOIN_REQUEST' | 'INVITE'
 
-export type RequestStatus = 'PENDING' | 'APPROVED' | 'REJECTED'
+export type RequestStatus = 'PENDING' | 'APPROVED' | 'REJECTED' | 'EXPIRED'
 
 // 프로젝트 목표 타입 (백엔드 ProjectGoalEnum과 매칭)
 export type ProjectGoalEnum = 
@@ -82,13 +82,14 @@ export const REQUEST_TYPE = {
 export const REQUEST_STATUS = {
   PENDING: 'PENDING' as const,
   APPROVED: 'APPROVED' as const,
-  REJECTED: 'REJECTED' as const
+  REJECTED: 'REJECTED' as const,
+  EXPIRED: 'EXPIRED' as const
 }
 
 // TeamDetailResponse - 백엔드 응답과 매칭
 export interface TeamDetailResponse {
   teamId: number
-  chatRoomId: number
+  chatRoomId: number | null // 팀 생성 직후에는 채팅방이 아직 없어 null (커밋 후 비동기 생성, getTeamDetail 로 다시 조회)
   teamName: string
   leader: UserDetailResponse
   members: UserDetailResponse[]
@@ -104,6 +105,24 @@ export interface TeamDetailResponse {
   teamStatus: TeamStatus
 }
 
+// 팀 변경 피드 - GET /team/changes 응답과 매칭
+export type TeamChangeType = 'UPDATED' | 'MEMBER_JOINED' | 'MEMBER_LEFT' | 'LOCKED' | 'CREATED' | 'DELETED'
+
+export interface TeamChangeResponse {
+  version: number
+  teamId: number
+  changeType: TeamChangeType
+  changedAt: string
+  team: TeamDetailResponse | null // 삭제된 팀이면 null
+}
+
+export interface TeamChangeFeedResponse {
+  version: number // 다음 요청의 since
+  resyncRequired: boolean // true 면 getAllTeams 로 전체 재조회 후 version 부터 다시 구독
+  hasMore: boolean
+  changes: TeamChangeResponse[]
+}
+
 // 백엔드 TeamRequest DTO와 매칭
 export interface TeamRequest {
   teamId?: number
@@ -120,10 +139,24 @@ export interface TeamRequest {
   teamDescription?: string
 }
 
-// 팀 검색 요청
+// 팀 검색 요청 (cursor 에 이전 응답의 nextCursor 를 넘겨 다음 페이지 조회)
 export interface TeamSearchRequest {
   teamName?: string
   leaderId?: number
+  teamStatus?: TeamStatus
+  keyword?: string // 지정 시 일치도 순 정렬
+  openPosition?: PositionEnum // 해당 포지션에 빈자리가 있는 팀만
+  cursor?: string
+  size?: number // 기본 20, 최대 100
+  withTotal?: boolean // true 면 totalCount 포함
+}
+
+// 커서 기반 페이지 응답 - 백엔드 CursorPage 와 매칭
+export interface CursorPage<T> {
+  items: T[]
+  nextCursor: string | null // 마지막 페이지면 null
+  hasNext: boolean
+  totalCount?: number | null // withTotal 요청 시에만
 }
 
 // 팀 초대 요청